@@ -0,0 +1,83 @@
+package com.intellias.intellistart.interviewplanning.benchmarks;
+
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.security.jwt.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Per-request JWT verification: building a parser and verifying the token for every claim read, as the filter used
+ * to, against one parse with the prebuilt parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+  private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+  private final User user = new User("interviewer@mail.com", UserRole.INTERVIEWER).setId(2L);
+  private JwtTokenUtil jwtTokenUtil;
+  private Key key;
+  private String token;
+
+  /**
+   * Issues the token to verify.
+   */
+  @Setup
+  public void setUp() {
+    jwtTokenUtil = new JwtTokenUtil();
+    ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+    key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    token = jwtTokenUtil.generateToken(user).getTokenValue();
+  }
+
+  /**
+   * Subject, expiration and validity read with a new parser and a new verification each.
+   */
+  @Benchmark
+  public void parsePerClaim(Blackhole blackhole) {
+    blackhole.consume(parseWithNewParser().getSubject());
+    blackhole.consume(parseWithNewParser().getExpiration());
+    Claims claims = parseWithNewParser();
+    blackhole.consume(claims.getSubject().equals(user.getUsername()) && parseWithNewParser().getExpiration()
+        .after(new Date()));
+  }
+
+  /**
+   * Subject, expiration, validity and the user read from a single parse.
+   */
+  @Benchmark
+  public void parseOnce(Blackhole blackhole) {
+    Claims claims = jwtTokenUtil.parseClaims(token);
+    blackhole.consume(claims.getSubject());
+    blackhole.consume(claims.getExpiration());
+    blackhole.consume(jwtTokenUtil.isTokenValid(claims, user));
+    blackhole.consume(jwtTokenUtil.getUserFromClaims(claims));
+  }
+
+  private Claims parseWithNewParser() {
+    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+  }
+}
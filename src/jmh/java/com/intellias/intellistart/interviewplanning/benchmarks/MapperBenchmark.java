@@ -0,0 +1,108 @@
+package com.intellias.intellistart.interviewplanning.benchmarks;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.utils.mappers.BookingMapper;
+import com.intellias.intellistart.interviewplanning.utils.mappers.CandidateSlotMapper;
+import com.intellias.intellistart.interviewplanning.utils.mappers.InterviewerSlotMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Entity to DTO mapping and back.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+  /**
+   * Maps every booking to its DTO.
+   */
+  @Benchmark
+  public void bookingToDto(SlotData data, Blackhole blackhole) {
+    for (Booking booking : data.bookings) {
+      blackhole.consume(BookingMapper.mapToDto(booking));
+    }
+  }
+
+  /**
+   * Maps all bookings to a list of DTOs sorted by start time.
+   */
+  @Benchmark
+  public Object bookingsToSortedDtos(SlotData data) {
+    return BookingMapper.mapSetToDto(data.bookings);
+  }
+
+  /**
+   * Maps all bookings to DTOs by booking id, as done for a day of the coordinator dashboard.
+   */
+  @Benchmark
+  public Object bookingsToDtoMap(SlotData data) {
+    return BookingMapper.mapToDtoMap(data.bookings);
+  }
+
+  /**
+   * Maps every booking DTO to an entity.
+   */
+  @Benchmark
+  public void bookingToEntity(SlotData data, Blackhole blackhole) {
+    for (int i = 0; i < data.size; i++) {
+      blackhole.consume(BookingMapper.mapToEntity(data.bookingDtos.get(i), data.interviewerSlots.get(i),
+          data.candidateSlots.get(i)));
+    }
+  }
+
+  /**
+   * Maps every interviewer slot with its booking to a DTO.
+   */
+  @Benchmark
+  public void interviewerSlotToDtoWithBookings(SlotData data, Blackhole blackhole) {
+    for (int i = 0; i < data.size; i++) {
+      blackhole.consume(InterviewerSlotMapper.mapToDtoWithBookings(data.interviewerSlots.get(i),
+          data.bookingsBySlot.get(i)));
+    }
+  }
+
+  /**
+   * Maps every interviewer slot DTO to an entity.
+   */
+  @Benchmark
+  public void interviewerSlotToEntity(SlotData data, Blackhole blackhole) {
+    for (InterviewerSlotDto slotDto : data.interviewerSlotDtos) {
+      blackhole.consume(InterviewerSlotMapper.mapToEntity(null, slotDto));
+    }
+  }
+
+  /**
+   * Maps every candidate slot with its booking to a DTO.
+   */
+  @Benchmark
+  public void candidateSlotToDtoWithBookings(SlotData data, Blackhole blackhole) {
+    for (int i = 0; i < data.size; i++) {
+      blackhole.consume(CandidateSlotMapper.mapToDtoWithBookings(data.candidateSlots.get(i),
+          data.bookingsBySlot.get(i)));
+    }
+  }
+
+  /**
+   * Maps every candidate slot DTO to an entity.
+   */
+  @Benchmark
+  public void candidateSlotToEntity(SlotData data, Blackhole blackhole) {
+    for (CandidateSlotDto slotDto : data.candidateSlotDtos) {
+      blackhole.consume(CandidateSlotMapper.mapToEntity("candidate@test.com", slotDto));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.intellias.intellistart.interviewplanning.benchmarks;
+
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.utils.FreeWindowIndex;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Matching of interviewer and candidate slots of one day, from building the free window indexes to the last match.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchingBenchmark {
+
+  private static final Duration LENGTH = Duration.ofMinutes(90);
+
+  /**
+   * Slots of a day with random periods on the half-hour grid of the working day.
+   */
+  @State(Scope.Benchmark)
+  public static class DayData {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    public List<InterviewerTimeSlot> interviewerSlots;
+    public List<CandidateTimeSlot> candidateSlots;
+
+    /**
+     * Generates {@link #size} slots of each side.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+      Random random = new Random(42);
+      interviewerSlots = new ArrayList<>(size);
+      candidateSlots = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        InterviewerTimeSlot interviewerSlot = new InterviewerTimeSlot();
+        interviewerSlot.setFrom(randomStart(random));
+        interviewerSlot.setTo(interviewerSlot.getFrom().plusMinutes(90L + 30L * random.nextInt(6)));
+        interviewerSlots.add(interviewerSlot);
+
+        CandidateTimeSlot candidateSlot = new CandidateTimeSlot();
+        candidateSlot.setFrom(randomStart(random));
+        candidateSlot.setTo(candidateSlot.getFrom().plusMinutes(90L + 30L * random.nextInt(6)));
+        candidateSlots.add(candidateSlot);
+      }
+    }
+
+    private static LocalTime randomStart(Random random) {
+      return LocalTime.of(8, 0).plusMinutes(30L * random.nextInt(18));
+    }
+  }
+
+  /**
+   * Finds all matches of the day.
+   */
+  @Benchmark
+  public void matchDay(DayData data, Blackhole blackhole) {
+    new FreeWindowIndex<>(data.interviewerSlots, slot -> List.of(), LENGTH).match(
+        new FreeWindowIndex<>(data.candidateSlots, slot -> List.of(), LENGTH),
+        (interviewerSlot, candidateSlot, from) -> blackhole.consume(from));
+  }
+}
@@ -0,0 +1,132 @@
+package com.intellias.intellistart.interviewplanning.benchmarks;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import com.intellias.intellistart.interviewplanning.utils.mappers.CandidateSlotMapper;
+import com.intellias.intellistart.interviewplanning.utils.mappers.InterviewerSlotMapper;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Schedule data shared by the benchmarks. Slots are spread over the working days of consecutive weeks the way a
+ * busy coordinator dashboard would see them, with one booking per slot.
+ */
+@State(Scope.Benchmark)
+public class SlotData {
+
+  private static final LocalDate FIRST_MONDAY = LocalDate.of(2022, 10, 3);
+  private static final LocalTime WORK_START = LocalTime.of(8, 0);
+  private static final int PERIODS_PER_DAY = 9;
+
+  @Param({"10", "100", "1000", "10000"})
+  public int size;
+
+  public List<InterviewerTimeSlot> interviewerSlots;
+  public List<CandidateTimeSlot> candidateSlots;
+  public List<Booking> bookings;
+  public List<List<Booking>> bookingsBySlot;
+  public List<BookingDto> bookingDtos;
+  public List<InterviewerSlotDto> interviewerSlotDtos;
+  public List<CandidateSlotDto> candidateSlotDtos;
+  public List<LocalDate> dates;
+  public int[] weekNums;
+  public DayOfWeek[] daysOfWeek;
+
+  /**
+   * Slots that never overlap each other, used to make the overlap check scan the whole list. A day only fits a few
+   * dozen real periods, so these are one second long.
+   */
+  public List<BookingDto> disjointSlots;
+  public BookingDto probe;
+
+  /**
+   * Generates {@link #size} slots, bookings and dates.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    User interviewer = new User("interviewer@test.com", UserRole.INTERVIEWER);
+    interviewer.setId(1L);
+    interviewerSlots = new ArrayList<>(size);
+    candidateSlots = new ArrayList<>(size);
+    bookings = new ArrayList<>(size);
+    bookingsBySlot = new ArrayList<>(size);
+    bookingDtos = new ArrayList<>(size);
+    interviewerSlotDtos = new ArrayList<>(size);
+    candidateSlotDtos = new ArrayList<>(size);
+    disjointSlots = new ArrayList<>(size);
+    dates = new ArrayList<>(size);
+    weekNums = new int[size];
+    daysOfWeek = new DayOfWeek[size];
+
+    for (int i = 0; i < size; i++) {
+      LocalDate date = workingDay(i / PERIODS_PER_DAY);
+      LocalTime from = WORK_START.plusMinutes(90L * (i % PERIODS_PER_DAY));
+      LocalTime to = from.plusMinutes(90);
+      long id = i + 1L;
+
+      InterviewerTimeSlot interviewerSlot = new InterviewerTimeSlot();
+      interviewerSlot.setId(id);
+      interviewerSlot.setInterviewer(interviewer);
+      interviewerSlot.setWeekNum(Utils.getWeekNumByDate(date));
+      interviewerSlot.setDayOfWeek(date.getDayOfWeek());
+      interviewerSlot.setFrom(from);
+      interviewerSlot.setTo(to);
+      interviewerSlots.add(interviewerSlot);
+
+      CandidateTimeSlot candidateSlot = new CandidateTimeSlot();
+      candidateSlot.setId(id);
+      candidateSlot.setEmail("candidate" + i % 50 + "@test.com");
+      candidateSlot.setDate(date);
+      candidateSlot.setFrom(from);
+      candidateSlot.setTo(to);
+      candidateSlots.add(candidateSlot);
+
+      Booking booking = new Booking(from, to, candidateSlot, interviewerSlot, "subject " + i, "description " + i);
+      booking.setId(id);
+      bookings.add(booking);
+      bookingsBySlot.add(List.of(booking));
+
+      bookingDtos.add(bookingDto(id, from, to));
+      interviewerSlotDtos.add(InterviewerSlotMapper.mapToDto(interviewerSlot));
+      candidateSlotDtos.add(CandidateSlotMapper.mapToDto(candidateSlot));
+      LocalTime second = WORK_START.plusSeconds(i);
+      disjointSlots.add(bookingDto(id, second, second.plusSeconds(1)));
+
+      dates.add(date);
+      weekNums[i] = interviewerSlot.getWeekNum();
+      daysOfWeek[i] = date.getDayOfWeek();
+    }
+    probe = bookingDto(0L, LocalTime.of(20, 30), LocalTime.of(22, 0));
+  }
+
+  private static LocalDate workingDay(int index) {
+    return FIRST_MONDAY.plusWeeks(index / 5).plusDays(index % 5);
+  }
+
+  private static BookingDto bookingDto(long id, LocalTime from, LocalTime to) {
+    return BookingDto.builder()
+        .id(id)
+        .from(from)
+        .to(to)
+        .subject("subject")
+        .description("description")
+        .interviewerSlotId(id)
+        .candidateSlotId(id)
+        .build();
+  }
+}
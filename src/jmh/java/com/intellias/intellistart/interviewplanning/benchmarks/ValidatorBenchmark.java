@@ -0,0 +1,52 @@
+package com.intellias.intellistart.interviewplanning.benchmarks;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.validators.PeriodValidator;
+import com.intellias.intellistart.interviewplanning.validators.SlotValidator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Slot and period validation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+  /**
+   * Checks a new slot against all existing ones, none of which overlaps it.
+   */
+  @Benchmark
+  public void validateSlotOverlapping(SlotData data) {
+    SlotValidator.validateSlotOverlapping(data.probe, data.disjointSlots);
+  }
+
+  /**
+   * Checks half of the slots as a batch against the other half, none of them overlapping.
+   */
+  @Benchmark
+  public void validateSlotsOverlapping(SlotData data) {
+    int half = data.disjointSlots.size() / 2;
+    SlotValidator.validateSlotsOverlapping(data.disjointSlots.subList(0, half),
+        data.disjointSlots.subList(half, data.disjointSlots.size()));
+  }
+
+  /**
+   * Validates the time boundaries of every slot.
+   */
+  @Benchmark
+  public void validatePeriods(SlotData data) {
+    for (BookingDto bookingDto : data.bookingDtos) {
+      PeriodValidator.validate(bookingDto);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.intellias.intellistart.interviewplanning.benchmarks;
+
+import com.intellias.intellistart.interviewplanning.services.WeekServiceImp;
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.WeekFields;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Week number and date conversions, called once per slot when building dashboards. The {@code javaTime} variants are
+ * the field lookups the week table replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeekBenchmark {
+
+  private final WeekServiceImp weekService = new WeekServiceImp();
+
+  /**
+   * Converts every slot date to its week number.
+   */
+  @Benchmark
+  public void getWeekNumByDate(SlotData data, Blackhole blackhole) {
+    for (LocalDate date : data.dates) {
+      blackhole.consume(Utils.getWeekNumByDate(date));
+    }
+  }
+
+  /**
+   * Converts every slot week number and day back to a date.
+   */
+  @Benchmark
+  public void getDateByWeekNumAndDayOfWeek(SlotData data, Blackhole blackhole) {
+    for (int i = 0; i < data.size; i++) {
+      blackhole.consume(weekService.getDateByWeekNumAndDayOfWeek(data.weekNums[i], data.daysOfWeek[i]));
+    }
+  }
+
+  /**
+   * Converts every slot date to its week number with java.time fields.
+   */
+  @Benchmark
+  public void getWeekNumByDateJavaTime(SlotData data, Blackhole blackhole) {
+    for (LocalDate date : data.dates) {
+      blackhole.consume(date.get(WeekFields.ISO.weekOfWeekBasedYear()) + date.get(IsoFields.WEEK_BASED_YEAR) * 100);
+    }
+  }
+
+  /**
+   * Converts every slot week number and day back to a date with java.time fields.
+   */
+  @Benchmark
+  public void getDateByWeekNumAndDayOfWeekJavaTime(SlotData data, Blackhole blackhole) {
+    for (int i = 0; i < data.size; i++) {
+      blackhole.consume(javaTimeDate(data.weekNums[i], data.daysOfWeek[i]));
+    }
+  }
+
+  private static LocalDate javaTimeDate(int weekNum, DayOfWeek dayOfWeek) {
+    return LocalDate.now()
+        .with(IsoFields.WEEK_BASED_YEAR, weekNum / 100)
+        .with(WeekFields.ISO.weekOfWeekBasedYear(), weekNum % 100)
+        .with(WeekFields.ISO.dayOfWeek(), dayOfWeek.getValue());
+  }
+}
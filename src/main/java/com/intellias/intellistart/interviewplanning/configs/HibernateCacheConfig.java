@@ -0,0 +1,101 @@
+package com.intellias.intellistart.interviewplanning.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache of users and booking limits, which are read on most requests and rarely change. Every
+ * region is created up front in a Caffeine-backed JCache manager, so a region missing here fails the startup instead
+ * of being created unbounded. Each instance caches on its own and does not see writes of other instances, so entries
+ * expire after a TTL.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+  static final String METRICS_PREFIX = "hibernate.";
+
+  private static final List<String> BOUNDED_REGIONS = List.of(User.CACHE_REGION, UserRepository.BY_EMAIL_CACHE_REGION,
+      BookingLimit.CACHE_REGION, BookingLimitRepository.QUERY_CACHE_REGION,
+      RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+  /**
+   * Creates the cache manager with all regions of the second-level cache.
+   *
+   * @param maximumSize maximum number of entries per region
+   * @param timeToLive  time after which an entry is read from the database again
+   * @return cache manager, closed with the context
+   */
+  @Bean
+  public CacheManager hibernateCacheManager(@Value("${hibernate-cache.maximum-size:10000}") long maximumSize,
+      @Value("${hibernate-cache.time-to-live:PT5M}") Duration timeToLive) {
+    // a provider per context, so that test contexts living side by side do not share regions
+    CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+    BOUNDED_REGIONS.forEach(region -> cacheManager.createCache(region,
+        regionConfiguration(OptionalLong.of(maximumSize), OptionalLong.of(timeToLive.toNanos()))));
+    // update timestamps tell whether a cached query result is stale, so they must outlive every result
+    cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+    return cacheManager;
+  }
+
+  /**
+   * Enables the second-level and query caches on top of the given cache manager.
+   *
+   * @param hibernateCacheManager manager holding all regions
+   * @return customizer of Hibernate properties
+   */
+  @Bean
+  public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+      properties.put(AvailableSettings.USE_QUERY_CACHE, "true");
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+      properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+    };
+  }
+
+  /**
+   * Reports hits, misses, evictions and size of every region.
+   *
+   * @param hibernateCacheManager manager holding all regions
+   * @return binder of the region metrics
+   */
+  @Bean
+  public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+    return registry -> hibernateCacheManager.getCacheNames().forEach(region -> {
+      Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+      CaffeineCacheMetrics.monitor(registry, cache, METRICS_PREFIX + region);
+    });
+  }
+
+  private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maximumSize,
+      OptionalLong expireAfterWriteNanos) {
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    // Hibernate already caches disassembled state, copying it on every access would be wasted
+    configuration.setStoreByValue(false);
+    configuration.setNativeStatisticsEnabled(true);
+    configuration.setMaximumSize(maximumSize);
+    configuration.setExpireAfterWrite(expireAfterWriteNanos);
+    return configuration;
+  }
+}
@@ -0,0 +1,37 @@
+package com.intellias.intellistart.interviewplanning.configs;
+
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached users after a role change, on top of what Hibernate invalidates on the write itself, so that no cached
+ * user or lookup by email outlives the change. Eviction happens after the commit, as a read between an earlier eviction
+ * and the commit would cache the user with the old role again. The event does not carry the user's id and role
+ * changes are rare, so the whole region is evicted.
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateCacheEvictor {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Evicts cached users and lookups of users by email.
+   *
+   * @param event role change
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onUserRoleChanged(UserRoleChangedEvent event) {
+    Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    cache.evictEntityData(User.class);
+    cache.evictQueryRegion(UserRepository.BY_EMAIL_CACHE_REGION);
+  }
+}
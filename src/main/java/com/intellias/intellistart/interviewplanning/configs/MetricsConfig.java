@@ -0,0 +1,68 @@
+package com.intellias.intellistart.interviewplanning.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Metrics that Spring Boot does not provide out of the box. Endpoint latency ({@code http.server.requests}) and
+ * repository invocations ({@code spring.data.repository.invocations}) come from the actuator auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public SqlStatementCounter sqlStatementCounter() {
+    return new SqlStatementCounter();
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter counter) {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+  }
+
+  /**
+   * Makes every repository count the SQL statements of its methods under its name.
+   *
+   * @param counter statement counter registered in Hibernate
+   * @return post processor of repository factories
+   */
+  @Bean
+  public static BeanPostProcessor sqlStatementRepositoryTagger(ObjectProvider<SqlStatementCounter> counter) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport) {
+          ((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory -> factory
+              .addRepositoryProxyPostProcessor((proxyFactory, repository) -> proxyFactory.addAdvice(counter
+                  .getObject().repositoryInterceptor(repository.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Registers the filter recording SQL statements per request. It runs before Spring Security, so that statements
+   * loading the authenticated user are counted for the request too.
+   *
+   * @param counter       statement counter registered in Hibernate
+   * @param meterRegistry registry to record to
+   * @return filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(SqlStatementCounter counter,
+      MeterRegistry meterRegistry) {
+    FilterRegistrationBean<SqlStatementCountFilter> registration =
+        new FilterRegistrationBean<>(new SqlStatementCountFilter(counter, meterRegistry));
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+    return registration;
+  }
+}
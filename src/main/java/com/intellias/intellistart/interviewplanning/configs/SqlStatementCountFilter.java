@@ -0,0 +1,52 @@
+package com.intellias.intellistart.interviewplanning.configs;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements every request executes, tagged the same way as {@code http.server.requests},
+ * so that endpoints whose query count grows with the data stand out next to their latency. The statements are also
+ * recorded by repository, which points at the repository to fix.
+ */
+@RequiredArgsConstructor
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+  static final String METRIC_NAME = "http.server.requests.sql";
+  static final String REPOSITORY_METRIC_NAME = METRIC_NAME + ".repository";
+
+  private final SqlStatementCounter counter;
+  private final MeterRegistry meterRegistry;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    counter.reset();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      Tags tags = Tags.of("method", request.getMethod(), "uri", uri == null ? "UNKNOWN" : uri.toString());
+      DistributionSummary.builder(METRIC_NAME)
+          .description("SQL statements executed by a request")
+          .baseUnit("statements")
+          .tags(tags)
+          .register(meterRegistry)
+          .record(counter.get());
+      counter.getByRepository().forEach((repository, count) -> DistributionSummary.builder(REPOSITORY_METRIC_NAME)
+          .description("SQL statements executed by a request in methods of a repository")
+          .baseUnit("statements")
+          .tags(tags.and("repository", repository))
+          .register(meterRegistry)
+          .record(count));
+    }
+  }
+}
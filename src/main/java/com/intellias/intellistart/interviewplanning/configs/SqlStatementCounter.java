@@ -0,0 +1,68 @@
+package com.intellias.intellistart.interviewplanning.configs;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts SQL statements Hibernate prepares on the current thread, by the repository whose method runs them. Statements
+ * run outside of repository methods, e.g. lazy loading or the flush on commit of a service transaction, are counted as
+ * {@value #NO_REPOSITORY}. Statements run by repositories on other threads, e.g. by asynchronous responses, are counted
+ * on those threads.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  static final String NO_REPOSITORY = "none";
+
+  private static final long serialVersionUID = 2613947710388530118L;
+
+  private final transient ThreadLocal<Map<String, Integer>> counts = ThreadLocal.withInitial(HashMap::new);
+  private final transient ThreadLocal<String> repository = new ThreadLocal<>();
+
+  @Override
+  public String inspect(String sql) {
+    String current = repository.get();
+    counts.get().merge(current == null ? NO_REPOSITORY : current, 1, Integer::sum);
+    return sql;
+  }
+
+  /**
+   * Provides an interceptor of repository methods that counts their statements for the repository. Statements of a
+   * repository method called from another one are counted for the inner repository.
+   *
+   * @param repositoryName name to count statements of the repository under
+   * @return interceptor to add to the repository proxy
+   */
+  public MethodInterceptor repositoryInterceptor(String repositoryName) {
+    return invocation -> {
+      String outer = repository.get();
+      repository.set(repositoryName);
+      try {
+        return invocation.proceed();
+      } finally {
+        repository.set(outer);
+      }
+    };
+  }
+
+  /**
+   * Starts counting from zero on the current thread.
+   */
+  public void reset() {
+    counts.get().clear();
+  }
+
+  public int get() {
+    return counts.get().values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  /**
+   * Provides statements counted on the current thread since the last reset.
+   *
+   * @return number of statements by repository name, without repositories that ran none
+   */
+  public Map<String, Integer> getByRepository() {
+    return Map.copyOf(counts.get());
+  }
+}
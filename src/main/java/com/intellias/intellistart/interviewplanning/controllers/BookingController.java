@@ -2,6 +2,7 @@ package com.intellias.intellistart.interviewplanning.controllers;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
 import com.intellias.intellistart.interviewplanning.services.BookingService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -29,6 +30,18 @@ public class BookingController {
     return bookingService.createBooking(bookingDto);
   }
 
+  /**
+   * Endpoint to create several bookings at once, e.g. a reviewed schedule proposal. Either all of them are created or
+   * none.
+   *
+   * @param bookingDtos bookings information
+   * @return created bookings
+   */
+  @PostMapping("/bookings/batch")
+  public List<BookingDto> createBookings(@RequestBody List<BookingDto> bookingDtos) {
+    return bookingService.createBookings(bookingDtos);
+  }
+
   /**
    * Endpoint to update booking.
    *
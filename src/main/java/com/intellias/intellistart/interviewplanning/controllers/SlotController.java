@@ -3,14 +3,20 @@ package com.intellias.intellistart.interviewplanning.controllers;
 import static com.intellias.intellistart.interviewplanning.validators.PermissionValidator.checkAuthorized;
 import static com.intellias.intellistart.interviewplanning.validators.PermissionValidator.getUserEmail;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.RecurringSlotDto;
 import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.services.CandidateService;
 import com.intellias.intellistart.interviewplanning.services.InterviewerService;
+import com.intellias.intellistart.interviewplanning.services.ScheduleVersions;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.utils.NdjsonStreams;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +25,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Rest controller for resolving slot-related requests.
@@ -30,17 +38,24 @@ public class SlotController {
   private final InterviewerService interviewerService;
   private final CandidateService candidateService;
   private final WeekService weekService;
+  private final ObjectMapper objectMapper;
+  private final ScheduleVersions scheduleVersions;
 
   /**
-   * Checks if user is allowed to view current interviewer slots and returns a list of them if so.
+   * Checks if user is allowed to view current interviewer slots and returns a list of them if so. Answers 304 without
+   * loading the slots if the client already has their current version.
    */
   @GetMapping("/interviewers/{interviewerId}/slots")
   //todo replace with DTO that has list as field
   public List<InterviewerSlotDto> getAllInterviewerSlots(
       @PathVariable Long interviewerId,
-      Authentication auth) {
+      Authentication auth,
+      WebRequest request) {
 
     checkAuthorized(auth, interviewerId);
+    if (request.checkNotModified(scheduleVersions.getInterviewerEtag(interviewerId))) {
+      return null;
+    }
     return interviewerService.getRelevantInterviewerSlots(interviewerId);
   }
 
@@ -58,6 +73,63 @@ public class SlotController {
     return interviewerService.createSlot(interviewerId, interviewerSlotDto);
   }
 
+  /**
+   * Adds several slots to interviewer at once, with the same permissions as adding a single slot.
+   *
+   * @param interviewerId       id of the interviewer
+   * @param interviewerSlotDtos interviewer slots information
+   * @param auth                object from spring security containing the principle presented by user
+   * @return created interviewer slots
+   */
+  @PostMapping("/interviewers/{interviewerId}/slots/batch")
+  public List<InterviewerSlotDto> addSlotsToInterviewer(
+      @PathVariable Long interviewerId,
+      @RequestBody List<InterviewerSlotDto> interviewerSlotDtos,
+      Authentication auth) {
+
+    checkAuthorized(auth, interviewerId);
+    return interviewerService.createSlots(interviewerId, interviewerSlotDtos);
+  }
+
+  /**
+   * Returns recurring slots of interviewer if requested id is theirs or requester is a COORDINATOR.
+   */
+  @GetMapping("/interviewers/{interviewerId}/slots/recurring")
+  public List<RecurringSlotDto> getRecurringInterviewerSlots(
+      @PathVariable Long interviewerId,
+      Authentication auth) {
+
+    checkAuthorized(auth, interviewerId);
+    return interviewerService.getRecurringSlots(interviewerId);
+  }
+
+  /**
+   * Adds recurring slot to interviewer, e.g. every Tuesday 10:00-13:00, with the same permissions as adding a single
+   * slot. Slots of a week are created from it when the week is first requested.
+   */
+  @PostMapping("/interviewers/{interviewerId}/slots/recurring")
+  public RecurringSlotDto addRecurringSlotToInterviewer(
+      @PathVariable Long interviewerId,
+      @RequestBody RecurringSlotDto recurringSlotDto,
+      Authentication auth) {
+
+    checkAuthorized(auth, interviewerId);
+    return interviewerService.createRecurringSlot(interviewerId, recurringSlotDto);
+  }
+
+  /**
+   * Deletes recurring slot of interviewer. Slots already created from it are kept.
+   */
+  @DeleteMapping("/interviewers/{interviewerId}/slots/recurring/{recurringSlotId}")
+  public RecurringSlotDto deleteRecurringInterviewerSlot(
+      @PathVariable Long interviewerId,
+      @PathVariable Long recurringSlotId,
+      Authentication auth) {
+
+    checkAuthorized(auth, interviewerId);
+    return interviewerService.deleteRecurringSlot(interviewerId, recurringSlotId);
+  }
+
   /**
    * Adds slot to candidate.
    *
@@ -75,6 +147,23 @@ public class SlotController {
     return candidateService.createSlot(candidateEmail, candidateSlotDto);
   }
 
+  /**
+   * Adds several slots to candidate at once.
+   *
+   * @param candidateSlotDtos candidate slots information
+   * @param auth              object from spring security containing the principle presented by user
+   * @return created candidate slots
+   */
+  @PostMapping("/candidates/current/slots/batch")
+  public List<CandidateSlotDto> addSlotsToCandidate(
+      @RequestBody List<CandidateSlotDto> candidateSlotDtos,
+      @RequestParam(required = false) String email,
+      Authentication auth) {
+
+    String candidateEmail = getUserEmail(auth, email);
+    return candidateService.createSlots(candidateEmail, candidateSlotDtos);
+  }
+
   /**
    * Updates slot of interviewer if requested id is theirs, or updates regardless of id if requester
    * authorized as COORDINATOR. Otherwise, throws exception giving 403 code.
@@ -148,6 +237,41 @@ public class SlotController {
     return candidateService.getAllCandidateSlots(candidateEmail);
   }
 
+  /**
+   * Endpoint to get a page of candidate time slots.
+   *
+   * @param limit  page size
+   * @param cursor cursor of the previous page, absent for the first page
+   * @param auth   object from spring security containing the principle presented by user
+   * @return page of candidate time slots
+   */
+  @GetMapping(value = "/candidates/current/slots", params = "limit")
+  public CursorPageDto<CandidateSlotDto> getCandidateSlotsPage(
+      @RequestParam int limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) String email,
+      Authentication auth) {
+
+    String candidateEmail = getUserEmail(auth, email);
+    return candidateService.getCandidateSlots(candidateEmail, cursor, limit);
+  }
+
+  /**
+   * Endpoint to stream all candidate time slots as newline-delimited JSON.
+   *
+   * @param auth object from spring security containing the principle presented by user
+   * @return candidate time slots, one per line
+   */
+  @GetMapping(value = "/candidates/current/slots", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public StreamingResponseBody streamCandidateSlots(
+      @RequestParam(required = false) String email,
+      Authentication auth) {
+
+    String candidateEmail = getUserEmail(auth, email);
+    return NdjsonStreams.<CandidateSlotDto>stream(objectMapper,
+        consumer -> candidateService.streamCandidateSlots(candidateEmail, consumer));
+  }
+
   /**
    * Returns a list of current week slots if id is same as of authorized user or authorized user is
    * coordinator.
@@ -156,9 +280,13 @@ public class SlotController {
   //todo replace with DTO that has list as field
   public List<InterviewerSlotDto> getCurrentWeekInterviewerSlots(
       @PathVariable Long interviewerId,
-      Authentication auth) {
+      Authentication auth,
+      WebRequest request) {
 
     checkAuthorized(auth, interviewerId);
+    if (request.checkNotModified(scheduleVersions.getInterviewerEtag(interviewerId))) {
+      return null;
+    }
     return interviewerService.getSlotsByWeekId(interviewerId, weekService.getCurrentWeekNum());
   }
 
@@ -170,9 +298,13 @@ public class SlotController {
   //todo replace with DTO that has list as field
   public List<InterviewerSlotDto> getNextWeekInterviewerSlots(
       @PathVariable Long interviewerId,
-      Authentication auth) {
+      Authentication auth,
+      WebRequest request) {
 
     checkAuthorized(auth, interviewerId);
+    if (request.checkNotModified(scheduleVersions.getInterviewerEtag(interviewerId))) {
+      return null;
+    }
     return interviewerService.getSlotsByWeekId(interviewerId, weekService.getNextWeekNum());
   }
 
@@ -1,19 +1,26 @@
 package com.intellias.intellistart.interviewplanning.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.EmailDto;
 import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import com.intellias.intellistart.interviewplanning.services.CoordinatorService;
+import com.intellias.intellistart.interviewplanning.services.UserService;
+import com.intellias.intellistart.interviewplanning.utils.NdjsonStreams;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Rest controller for managing users.
@@ -24,6 +31,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
   private final CoordinatorService coordinatorService;
+  private final UserService userService;
+  private final ObjectMapper objectMapper;
 
   /**
    * Endpoint to provide current user info.
@@ -71,6 +80,30 @@ public class UserController {
     return coordinatorService.getUsersWithRole(UserRole.INTERVIEWER);
   }
 
+  /**
+   * Endpoint to get a page of users with the interviewer role.
+   *
+   * @param limit  page size
+   * @param cursor cursor of the previous page, absent for the first page
+   * @return page of users with the interviewer role
+   */
+  @GetMapping(value = "/users/interviewers", params = "limit")
+  public CursorPageDto<User> getInterviewersPage(@RequestParam int limit,
+      @RequestParam(required = false) String cursor) {
+    return userService.getUsers(UserRole.INTERVIEWER, cursor, limit);
+  }
+
+  /**
+   * Endpoint to stream users with the interviewer role as newline-delimited JSON.
+   *
+   * @return users with the interviewer role, one per line
+   */
+  @GetMapping(value = "/users/interviewers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public StreamingResponseBody streamInterviewers() {
+    return NdjsonStreams.<User>stream(objectMapper,
+        consumer -> userService.streamUsers(UserRole.INTERVIEWER, consumer));
+  }
+
   /**
    * Endpoint to grant user the coordinator role.
    *
@@ -104,4 +137,28 @@ public class UserController {
   public List<User> getCoordinators() {
     return coordinatorService.getUsersWithRole(UserRole.COORDINATOR);
   }
+
+  /**
+   * Endpoint to get a page of users with the coordinator role.
+   *
+   * @param limit  page size
+   * @param cursor cursor of the previous page, absent for the first page
+   * @return page of users with the coordinator role
+   */
+  @GetMapping(value = "/users/coordinators", params = "limit")
+  public CursorPageDto<User> getCoordinatorsPage(@RequestParam int limit,
+      @RequestParam(required = false) String cursor) {
+    return userService.getUsers(UserRole.COORDINATOR, cursor, limit);
+  }
+
+  /**
+   * Endpoint to stream users with the coordinator role as newline-delimited JSON.
+   *
+   * @return users with the coordinator role, one per line
+   */
+  @GetMapping(value = "/users/coordinators", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public StreamingResponseBody streamCoordinators() {
+    return NdjsonStreams.<User>stream(objectMapper,
+        consumer -> userService.streamUsers(UserRole.COORDINATOR, consumer));
+  }
 }
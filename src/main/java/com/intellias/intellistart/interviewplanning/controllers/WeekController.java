@@ -1,13 +1,28 @@
 package com.intellias.intellistart.interviewplanning.controllers;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.MatchDto;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.services.CoordinatorService;
+import com.intellias.intellistart.interviewplanning.services.DashboardEventBroadcaster;
+import com.intellias.intellistart.interviewplanning.services.MatchingService;
+import com.intellias.intellistart.interviewplanning.services.ScheduleProposalService;
+import com.intellias.intellistart.interviewplanning.services.ScheduleVersions;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Rest controller for getting week information.
@@ -18,6 +33,10 @@ public class WeekController {
 
   private final CoordinatorService coordinatorService;
   private final WeekService weekService;
+  private final ScheduleVersions scheduleVersions;
+  private final DashboardEventBroadcaster dashboardEventBroadcaster;
+  private final MatchingService matchingService;
+  private final ScheduleProposalService scheduleProposalService;
 
   /**
    * Endpoint to get the number of current week.
@@ -40,15 +59,68 @@ public class WeekController {
   }
 
   /**
-   * Endpoint to get week dashboard.
+   * Endpoint to get week dashboard. Answers 304 without building the dashboard if the client already has its current
+   * version.
    *
+   * @param request request with optional If-None-Match header
    * @return dashboard for the week
    */
   @GetMapping("/weeks/{weekId}/dashboard")
-  public DashboardDto getWeekDashboard(@PathVariable("weekId") int weekId) {
+  public DashboardDto getWeekDashboard(@PathVariable("weekId") int weekId, WebRequest request) {
+    if (request.checkNotModified(scheduleVersions.getWeekEtag(weekId))) {
+      return null;
+    }
     return coordinatorService.getWeekDashboard(weekId);
   }
 
+  /**
+   * Endpoint to subscribe to changes of the week dashboard as server-sent events. Every slot or booking change of the
+   * week is sent as an event named after the change, e.g. "booking-created"; a "resync" event means that events were
+   * dropped and the dashboard has to be reloaded.
+   *
+   * @return stream of dashboard changes
+   */
+  @GetMapping(value = "/weeks/{weekId}/dashboard/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeToWeekDashboard(@PathVariable("weekId") int weekId) {
+    return dashboardEventBroadcaster.subscribe(weekId);
+  }
+
+  /**
+   * Endpoint to get interviewer and candidate slots that can host a common interview.
+   *
+   * @param weekId number of the week
+   * @param day    optional day of the week, e.g. "Tue", to limit the matches to
+   * @return matches with the earliest free period, ordered by date and time
+   */
+  @GetMapping("/weeks/{weekId}/matches")
+  public List<MatchDto> getMatches(@PathVariable("weekId") int weekId,
+      @RequestParam(value = "day", required = false) String day) {
+    if (day == null) {
+      return matchingService.getWeekMatches(weekId);
+    }
+    return matchingService.getDayMatches(weekId, parseDayOfWeek(day));
+  }
+
+  /**
+   * Endpoint to get bookings proposed for the pending candidate slots of the week. Nothing is saved; the reviewed
+   * proposal is committed with POST /bookings/batch.
+   *
+   * @param weekId number of the week
+   * @return draft bookings
+   */
+  @GetMapping("/weeks/{weekId}/schedule-proposal")
+  public List<BookingDto> getScheduleProposal(@PathVariable("weekId") int weekId) {
+    return scheduleProposalService.proposeSchedule(weekId);
+  }
+
+  private static DayOfWeek parseDayOfWeek(String day) {
+    try {
+      return DayOfWeek.from(Utils.DAY_OF_WEEK_FORMATTER.parse(day));
+    } catch (DateTimeException e) {
+      throw InvalidInputException.dayOfWeek(day);
+    }
+  }
+
   /**
    * Simple week number DTO.
    */
@@ -0,0 +1,21 @@
+package com.intellias.intellistart.interviewplanning.controllers.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Page of a keyset-paginated list. The next page is requested with {@link #nextCursor}, which is null on the last
+ * page.
+ *
+ * @param <T> type of items
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+  private List<T> items;
+  private String nextCursor;
+}
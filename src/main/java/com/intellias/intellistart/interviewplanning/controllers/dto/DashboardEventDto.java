@@ -0,0 +1,18 @@
+package com.intellias.intellistart.interviewplanning.controllers.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dashboard event dto. The kind of change is sent as the name of the server-sent event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardEventDto {
+
+  private int weekNum;
+  private Long interviewerId;
+  private Object data;
+}
@@ -0,0 +1,47 @@
+package com.intellias.intellistart.interviewplanning.controllers.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Interviewer slot and candidate slot that can host a common interview, with the earliest period it fits in.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchDto implements TimeSlot {
+
+  private Long interviewerSlotId;
+  private Long interviewerId;
+  private Long candidateSlotId;
+  private String candidateEmail;
+  private LocalDate date;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime from;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime to;
+
+  @JsonGetter("from")
+  public String getFromAsString() {
+    return Utils.timeAsString(from);
+  }
+
+  @JsonGetter("to")
+  public String getToAsString() {
+    return Utils.timeAsString(to);
+  }
+
+  @JsonGetter("date")
+  public String getDateAsString() {
+    return date.toString();
+  }
+}
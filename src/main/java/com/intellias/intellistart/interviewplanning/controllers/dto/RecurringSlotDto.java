@@ -0,0 +1,70 @@
+package com.intellias.intellistart.interviewplanning.controllers.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.Locale;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Recurring interviewer slot dto. Start week is assigned by the server.
+ */
+@Data
+@NoArgsConstructor
+public class RecurringSlotDto implements TimeSlot {
+
+  private Long id;
+  private DayOfWeek dayOfWeek;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime from;
+  @JsonFormat(pattern = "HH:mm")
+  private LocalTime to;
+  private int startWeekNum;
+
+  /**
+   * Constructor.
+   *
+   * @param from start time
+   * @param to   end time
+   * @param day  day of week
+   */
+  public RecurringSlotDto(String from, String to, String day) {
+    this.from = LocalTime.parse(from);
+    this.to = LocalTime.parse(to);
+    setDayOfWeek(day);
+  }
+
+  @JsonGetter("from")
+  public String getFromAsString() {
+    return Utils.timeAsString(from);
+  }
+
+  @JsonGetter("to")
+  public String getToAsString() {
+    return Utils.timeAsString(to);
+  }
+
+  @JsonGetter("dayOfWeek")
+  public String getShortDayOfWeek() {
+    return dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.US);
+  }
+
+  /**
+   * Web request dayOfWeek format parser.
+   *
+   * @param dayOfWeek short form of day of week like 'Tue' for Tuesday
+   */
+  public void setDayOfWeek(String dayOfWeek) {
+    if (dayOfWeek.length() == 3) {
+      this.dayOfWeek = DayOfWeek.from(Utils.DAY_OF_WEEK_FORMATTER.parse(dayOfWeek));
+    } else {
+      this.dayOfWeek = DayOfWeek.valueOf(dayOfWeek.toUpperCase());
+    }
+  }
+
+}
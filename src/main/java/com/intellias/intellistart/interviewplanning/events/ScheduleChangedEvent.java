@@ -0,0 +1,37 @@
+package com.intellias.intellistart.interviewplanning.events;
+
+import lombok.Data;
+
+/**
+ * Published after a slot or booking of a week is created, updated or deleted, so that everything derived from the
+ * schedule of that week can be rebuilt or notified.
+ */
+@Data
+public class ScheduleChangedEvent {
+
+  private final int weekNum;
+  /**
+   * Interviewer whose slot or booking has changed, null if the change concerns a candidate slot.
+   */
+  private final Long interviewerId;
+  private final Change change;
+  /**
+   * DTO of the changed slot or booking, as returned by the service.
+   */
+  private final Object subject;
+
+  /**
+   * Kind of change.
+   */
+  public enum Change {
+    INTERVIEWER_SLOT_ADDED,
+    INTERVIEWER_SLOT_UPDATED,
+    INTERVIEWER_SLOT_REMOVED,
+    CANDIDATE_SLOT_ADDED,
+    CANDIDATE_SLOT_UPDATED,
+    CANDIDATE_SLOT_REMOVED,
+    BOOKING_CREATED,
+    BOOKING_UPDATED,
+    BOOKING_DELETED
+  }
+}
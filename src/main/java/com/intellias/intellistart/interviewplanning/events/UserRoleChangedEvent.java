@@ -0,0 +1,16 @@
+package com.intellias.intellistart.interviewplanning.events;
+
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import lombok.Data;
+
+/**
+ * Published after a coordinator grants or revokes a role, so that everything holding the user's previous
+ * authorities can drop them. Tokens issued before the change carry an older role version.
+ */
+@Data
+public class UserRoleChangedEvent {
+
+  private final String email;
+  private final UserRole role;
+  private final int roleVersion;
+}
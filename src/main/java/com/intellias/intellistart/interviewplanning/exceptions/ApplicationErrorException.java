@@ -68,6 +68,7 @@ public class ApplicationErrorException extends RuntimeException {
     // Conflict error code
     SLOT_IS_OVERLAPPING(HttpStatus.CONFLICT, "Slot overlaps another one by time"),
     INVALID_BOOKING_LIMIT(HttpStatus.CONFLICT, "Invalid booking limit number"),
+    BOOKING_CONFLICT(HttpStatus.CONFLICT, "Booking was changed concurrently, please try again"),
 
     // Bad request error codes
     INVALID_BOUNDARIES(HttpStatus.BAD_REQUEST, "Invalid time boundaries"),
@@ -76,6 +77,8 @@ public class ApplicationErrorException extends RuntimeException {
     INVALID_DATE_TIME(HttpStatus.BAD_REQUEST, "Invalid date and time"),
     CANNOT_EDIT_THIS_WEEK(HttpStatus.BAD_REQUEST, "Cannot edit current or previous week"),
     CANNOT_CREATE_BOOKING(HttpStatus.BAD_REQUEST, "Invalid booking"),
+    TOO_MANY_SLOTS(HttpStatus.BAD_REQUEST, "Too many slots in one request"),
+    INVALID_PAGE(HttpStatus.BAD_REQUEST, "Invalid page request"),
     CANNOT_EDIT_SLOT_WITH_BOOKING(HttpStatus.BAD_REQUEST,
         "Cannot update or delete time slot that has booking"),
     REVOKE_USER_WITH_SLOT(HttpStatus.BAD_REQUEST,
@@ -89,7 +92,9 @@ public class ApplicationErrorException extends RuntimeException {
 
     // Authentication related
     INVALID_USER_CREDENTIALS(HttpStatus.BAD_REQUEST, "Invalid user credentials"),
-    NO_USER_DATA(HttpStatus.BAD_REQUEST, "No data could be retrieved for provided credentials");
+    NO_USER_DATA(HttpStatus.BAD_REQUEST, "No data could be retrieved for provided credentials"),
+    AUTH_PROVIDER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE,
+        "Authentication provider is unavailable, please try again later");
 
     public final String code;
     public final HttpStatus httpStatus;
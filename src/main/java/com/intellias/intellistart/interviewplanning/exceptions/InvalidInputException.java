@@ -1,6 +1,8 @@
 package com.intellias.intellistart.interviewplanning.exceptions;
 
 import java.time.DayOfWeek;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * InvalidInputException class.
@@ -66,6 +68,52 @@ public class InvalidInputException extends TemplateMessageException {
         ": slot at provided time already exists");
   }
 
+  /**
+   * Period intersection exception listing every conflict.
+   *
+   * @param conflicts overlapping slot pairs
+   * @return exception
+   */
+  public static InvalidInputException periodOverlapping(List<?> conflicts) {
+    return new InvalidInputException(ErrorCode.SLOT_IS_OVERLAPPING,
+        ": " + conflicts.stream().map(Object::toString).collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Too many slots in one batch exception.
+   *
+   * @param size    number of slots sent
+   * @param maxSize maximum number of slots in one batch
+   * @return exception
+   */
+  public static InvalidInputException batchSize(int size, int maxSize) {
+    return new InvalidInputException(ErrorCode.TOO_MANY_SLOTS,
+        String.format(": got %d slots, but at most %d can be created at once", size, maxSize));
+  }
+
+  /**
+   * Invalid page size exception.
+   *
+   * @param limit    requested page size
+   * @param maxLimit maximum page size
+   * @return exception
+   */
+  public static InvalidInputException pageLimit(int limit, int maxLimit) {
+    return new InvalidInputException(ErrorCode.INVALID_PAGE,
+        String.format(": limit must be between 1 and %d, but was %d", maxLimit, limit));
+  }
+
+  /**
+   * Malformed page cursor exception.
+   *
+   * @param cursor cursor sent by client
+   * @return exception
+   */
+  public static InvalidInputException cursor(String cursor) {
+    return new InvalidInputException(ErrorCode.INVALID_PAGE,
+        String.format(": cursor '%s' is malformed", cursor));
+  }
+
   /**
    * Invalid day of week exception.
    *
@@ -77,6 +125,17 @@ public class InvalidInputException extends TemplateMessageException {
         String.format(": cannot create or edit slot on %s", dayOfWeek.toString().toLowerCase()));
   }
 
+  /**
+   * Unknown day of week exception.
+   *
+   * @param dayOfWeek day of week as requested
+   * @return exception
+   */
+  public static InvalidInputException dayOfWeek(String dayOfWeek) {
+    return new InvalidInputException(ErrorCode.INVALID_DAY_OF_WEEK,
+        String.format(": '%s' is not a day of week", dayOfWeek));
+  }
+
   /**
    * Invalid week number exception.
    *
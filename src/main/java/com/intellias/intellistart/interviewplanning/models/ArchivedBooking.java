@@ -0,0 +1,75 @@
+package com.intellias.intellistart.interviewplanning.models;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Booking of a past week moved out of {@code booking} by the archival job. Its slots are archived together with it,
+ * so they are referenced by id only.
+ */
+@Entity
+@Immutable
+@Table(name = "booking_archive")
+@Getter
+@ToString
+@NoArgsConstructor
+public class ArchivedBooking {
+
+  @Id
+  private Long id;
+  @Column(name = "from_time")
+  private LocalTime from;
+  @Column(name = "to_time")
+  private LocalTime to;
+  private String subject;
+  private String description;
+  @Column(name = "candidate_slot_id")
+  private Long candidateSlotId;
+  @Column(name = "interviewer_slot_id")
+  private Long interviewerSlotId;
+  private Integer weekNum;
+  @Column(name = "date_value")
+  private LocalDate date;
+
+  /**
+   * Restores the booking as it was before archival. The result is not managed and must not be saved.
+   *
+   * @param interviewerSlot restored interviewer slot of the booking
+   * @param candidateSlot   restored candidate slot of the booking
+   * @return booking
+   */
+  public Booking toBooking(InterviewerTimeSlot interviewerSlot, CandidateTimeSlot candidateSlot) {
+    Booking booking = new Booking(from, to, candidateSlot, interviewerSlot, subject, description);
+    booking.setId(id);
+    booking.setWeekNum(weekNum);
+    booking.setDate(date);
+    return booking;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+      return false;
+    }
+    ArchivedBooking that = (ArchivedBooking) o;
+    return id != null && Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
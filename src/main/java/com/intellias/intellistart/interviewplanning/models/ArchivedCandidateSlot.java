@@ -0,0 +1,71 @@
+package com.intellias.intellistart.interviewplanning.models;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Candidate slot of a past week moved out of {@code candidate_time_slot} by the archival job. Rows are only written
+ * by the job and keep the id of the original slot.
+ */
+@Entity
+@Immutable
+@Table(name = "candidate_time_slot_archive")
+@Getter
+@ToString
+@NoArgsConstructor
+public class ArchivedCandidateSlot {
+
+  @Id
+  private Long id;
+  private String email;
+  @Column(name = "date_value")
+  private LocalDate date;
+  @Column(name = "from_time")
+  private LocalTime from;
+  @Column(name = "to_time")
+  private LocalTime to;
+  private Integer weekNum;
+
+  /**
+   * Restores the slot as it was before archival. The result is not managed and must not be saved.
+   *
+   * @return candidate slot
+   */
+  public CandidateTimeSlot toSlot() {
+    CandidateTimeSlot slot = new CandidateTimeSlot();
+    slot.setId(id);
+    slot.setEmail(email);
+    slot.setDate(date);
+    slot.setFrom(from);
+    slot.setTo(to);
+    slot.setWeekNum(weekNum);
+    return slot;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+      return false;
+    }
+    ArchivedCandidateSlot that = (ArchivedCandidateSlot) o;
+    return id != null && Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -0,0 +1,74 @@
+package com.intellias.intellistart.interviewplanning.models;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Interviewer slot of a past week moved out of {@code interviewer_time_slot} by the archival job. Rows are only
+ * written by the job and keep the id of the original slot.
+ */
+@Entity
+@Immutable
+@Table(name = "interviewer_time_slot_archive")
+@Getter
+@ToString
+@NoArgsConstructor
+public class ArchivedInterviewerSlot {
+
+  @Id
+  private Long id;
+  @ManyToOne(fetch = FetchType.LAZY)
+  @ToString.Exclude
+  private User interviewer;
+  @Column(name = "from_time")
+  private LocalTime from;
+  @Column(name = "to_time")
+  private LocalTime to;
+  private DayOfWeek dayOfWeek;
+  private int weekNum;
+
+  /**
+   * Restores the slot as it was before archival. The result is not managed and must not be saved.
+   *
+   * @return interviewer slot
+   */
+  public InterviewerTimeSlot toSlot() {
+    InterviewerTimeSlot slot = new InterviewerTimeSlot();
+    slot.setId(id);
+    slot.setInterviewer(interviewer);
+    slot.setDayOfWeek(dayOfWeek);
+    slot.setWeekNum(weekNum);
+    slot.setFrom(from);
+    slot.setTo(to);
+    return slot;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+      return false;
+    }
+    ArchivedInterviewerSlot that = (ArchivedInterviewerSlot) o;
+    return id != null && Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
 import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Objects;
 import javax.persistence.Column;
@@ -12,7 +13,10 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.SequenceGenerator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.Hibernate;
@@ -26,7 +30,7 @@ import org.hibernate.Hibernate;
 public class Booking implements TimeSlot {
 
   @Id
-  @SequenceGenerator(name = "booking_seq", sequenceName = "booking_sequence", allocationSize = 5)
+  @SequenceGenerator(name = "booking_seq", sequenceName = "booking_sequence", allocationSize = 50)
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
   @Column(nullable = false)
   private Long id;
@@ -42,6 +46,17 @@ public class Booking implements TimeSlot {
   @ManyToOne
   @JsonIgnore
   private InterviewerTimeSlot interviewerSlot;
+  /**
+   * Week and date of the candidate slot, kept on write so that week and day reads filter bookings without joining the
+   * slots. Only set by the callbacks below and when a booking is restored from the archive.
+   */
+  @JsonIgnore
+  @Setter(AccessLevel.PACKAGE)
+  private Integer weekNum;
+  @JsonIgnore
+  @Setter(AccessLevel.PACKAGE)
+  @Column(name = "date_value")
+  private LocalDate date;
   public static final int MAX_SUBJECT_LENGTH = 255;
   public static final int MAX_DESCRIPTION_LENGTH = 4000;
 
@@ -68,6 +83,13 @@ public class Booking implements TimeSlot {
   public Booking() {
   }
 
+  @PrePersist
+  @PreUpdate
+  void updateWeekAndDate() {
+    date = candidateSlot == null ? null : candidateSlot.getDate();
+    weekNum = date == null ? null : Utils.getWeekNumByDate(date);
+  }
+
   @JsonGetter("from")
   public String getFromAsString() {
     return Utils.timeAsString(from);
@@ -5,8 +5,12 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Booking limit for interviewer per week.
@@ -14,8 +18,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = BookingLimit.INTERVIEWER_WEEK_CONSTRAINT,
+    columnNames = {"interviewerId", "weekNum"}))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BookingLimit.CACHE_REGION)
 public class BookingLimit {
 
+  public static final String CACHE_REGION = "booking-limits";
+  public static final String INTERVIEWER_WEEK_CONSTRAINT = "uk_booking_limit_interviewer_week";
+
   @Id
   @GeneratedValue
   @JsonIgnore
@@ -1,6 +1,7 @@
 package com.intellias.intellistart.interviewplanning.models;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
 import com.intellias.intellistart.interviewplanning.utils.Utils;
 import java.time.LocalDate;
@@ -11,7 +12,10 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.SequenceGenerator;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -29,7 +33,7 @@ import org.hibernate.Hibernate;
 public class CandidateTimeSlot implements TimeSlot {
 
   @Id
-  @SequenceGenerator(name = "cnd_seq", sequenceName = "candidate_slot_sequence", allocationSize = 5)
+  @SequenceGenerator(name = "cnd_seq", sequenceName = "candidate_slot_sequence", allocationSize = 50)
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cnd_seq")
   @Column(nullable = false)
   private Long id;
@@ -40,6 +44,13 @@ public class CandidateTimeSlot implements TimeSlot {
   private LocalTime from;
   @Column(name = "to_time")
   private LocalTime to;
+  /**
+   * Week of {@link #date}, kept on write so that week reads do not have to compute the date range. Only set by the
+   * callbacks below and when a slot is restored from the archive.
+   */
+  @JsonIgnore
+  @Setter(AccessLevel.PACKAGE)
+  private Integer weekNum;
 
   /**
    * Constructor.
@@ -56,6 +67,12 @@ public class CandidateTimeSlot implements TimeSlot {
     this.to = LocalTime.parse(to);
   }
 
+  @PrePersist
+  @PreUpdate
+  void updateWeekNum() {
+    weekNum = date == null ? null : Utils.getWeekNumByDate(date);
+  }
+
   @JsonGetter("from")
   public String getFromAsString() {
     return Utils.timeAsString(from);
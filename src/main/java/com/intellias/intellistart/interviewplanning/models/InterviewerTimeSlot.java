@@ -37,7 +37,7 @@ public class InterviewerTimeSlot implements TimeSlot {
   @JsonIgnore
   User interviewer;
   @Id
-  @SequenceGenerator(name = "interv_seq", sequenceName = "interviewer_slot_sequence", allocationSize = 5)
+  @SequenceGenerator(name = "interv_seq", sequenceName = "interviewer_slot_sequence", allocationSize = 50)
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interv_seq")
   @Column(nullable = false)
   private Long id;
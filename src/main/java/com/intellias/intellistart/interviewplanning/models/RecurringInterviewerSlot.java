@@ -0,0 +1,79 @@
+package com.intellias.intellistart.interviewplanning.models;
+
+import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Objects;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+
+/**
+ * Weekly availability of an interviewer, e.g. every Tuesday 10:00-13:00. Concrete {@link InterviewerTimeSlot}s are
+ * created from it week by week; {@link #lastMaterializedWeekNum} is the last week that already has them.
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class RecurringInterviewerSlot implements TimeSlot {
+
+  @ManyToOne
+  @ToString.Exclude
+  private User interviewer;
+  @Id
+  @SequenceGenerator(name = "recurring_seq", sequenceName = "recurring_slot_sequence", allocationSize = 50)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_seq")
+  @Column(nullable = false)
+  private Long id;
+  @Column(name = "from_time")
+  private LocalTime from;
+  @Column(name = "to_time")
+  private LocalTime to;
+  private DayOfWeek dayOfWeek;
+  private int startWeekNum;
+  private int lastMaterializedWeekNum;
+
+  /**
+   * Creates a concrete slot of this availability for the given week.
+   *
+   * @param weekNum week number
+   * @return new interviewer slot
+   */
+  public InterviewerTimeSlot toSlot(int weekNum) {
+    InterviewerTimeSlot slot = new InterviewerTimeSlot();
+    slot.setInterviewer(interviewer);
+    slot.setDayOfWeek(dayOfWeek);
+    slot.setWeekNum(weekNum);
+    slot.setFrom(from);
+    slot.setTo(to);
+    return slot;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+      return false;
+    }
+    RecurringInterviewerSlot that = (RecurringInterviewerSlot) o;
+    return id != null && Objects.equals(id, that.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
+  }
+}
@@ -28,6 +28,9 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -43,12 +46,15 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 @RequiredArgsConstructor
 @Table(name = "USERS")
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_NULL)
 public class User implements UserDetails, OAuth2User {
 
+  public static final String CACHE_REGION = "users";
+
   @Id
-  @SequenceGenerator(name = "user_seq", sequenceName = "user_sequence", allocationSize = 5)
+  @SequenceGenerator(name = "user_seq", sequenceName = "user_sequence", allocationSize = 50)
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
   @Column(nullable = false)
   private Long id;
@@ -65,6 +71,10 @@ public class User implements UserDetails, OAuth2User {
   @JsonAlias("last_name")
   private String lastName;
   @JsonIgnore
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  private int roleVersion;
+  @JsonIgnore
   @Transient
   private Collection<GrantedAuthority> authorities;
 
@@ -0,0 +1,51 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import com.intellias.intellistart.interviewplanning.models.ArchivedBooking;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bookings of archived weeks.
+ */
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+  /**
+   * Provides archived bookings of the week, the same ones {@link #archiveWeek} copied for it.
+   *
+   * @param weekNum number of the week of interviewer slots
+   * @param from    first date of the week
+   * @param to      last date of the week
+   * @return bookings whose interviewer slot belongs to the week or candidate slot is within the dates
+   */
+  @Query("select b from ArchivedBooking b"
+      + " where b.interviewerSlotId in (select i.id from ArchivedInterviewerSlot i where i.weekNum = :weekNum)"
+      + " or b.candidateSlotId in (select c.id from ArchivedCandidateSlot c where c.date between :from and :to)")
+  List<ArchivedBooking> findAllOfWeek(@Param("weekNum") int weekNum, @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Copies bookings whose interviewer slot belongs to the week or candidate slot is within the dates into the
+   * archive.
+   *
+   * @param weekNum number of the week of interviewer slots
+   * @param from    first date of the week
+   * @param to      last date of the week
+   * @return number of copied bookings
+   */
+  @Modifying
+  @Query(value = "insert into booking_archive"
+      + " (id, from_time, to_time, subject, description, candidate_slot_id, interviewer_slot_id, week_num, date_value)"
+      + " select b.id, b.from_time, b.to_time, b.subject, b.description, b.candidate_slot_id, b.interviewer_slot_id,"
+      + " b.week_num, b.date_value"
+      + " from booking b"
+      + " where b.interviewer_slot_id in (select i.id from interviewer_time_slot i where i.week_num = :weekNum)"
+      + " or b.candidate_slot_id in (select c.id from candidate_time_slot c where c.date_value between :from and :to)",
+      nativeQuery = true)
+  int archiveWeek(@Param("weekNum") int weekNum, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,32 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import com.intellias.intellistart.interviewplanning.models.ArchivedCandidateSlot;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Candidate slots of archived weeks.
+ */
+@Repository
+public interface ArchivedCandidateSlotRepository extends JpaRepository<ArchivedCandidateSlot, Long> {
+
+  List<ArchivedCandidateSlot> findByDateBetween(LocalDate from, LocalDate to);
+
+  /**
+   * Copies candidate slots within the dates into the archive.
+   *
+   * @param from first date
+   * @param to   last date
+   * @return number of copied slots
+   */
+  @Modifying
+  @Query(value = "insert into candidate_time_slot_archive (id, email, date_value, from_time, to_time, week_num)"
+      + " select id, email, date_value, from_time, to_time, week_num from candidate_time_slot"
+      + " where date_value between :from and :to", nativeQuery = true)
+  int archiveDates(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,34 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import com.intellias.intellistart.interviewplanning.models.ArchivedInterviewerSlot;
+import java.time.DayOfWeek;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interviewer slots of archived weeks.
+ */
+@Repository
+public interface ArchivedInterviewerSlotRepository extends JpaRepository<ArchivedInterviewerSlot, Long> {
+
+  List<ArchivedInterviewerSlot> findByWeekNum(int weekNum);
+
+  List<ArchivedInterviewerSlot> findByWeekNumAndDayOfWeek(int weekNum, DayOfWeek dayOfWeek);
+
+  /**
+   * Copies interviewer slots of the week into the archive.
+   *
+   * @param weekNum number of the week
+   * @return number of copied slots
+   */
+  @Modifying
+  @Query(value = "insert into interviewer_time_slot_archive"
+      + " (id, interviewer_id, from_time, to_time, day_of_week, week_num)"
+      + " select id, interviewer_id, from_time, to_time, day_of_week, week_num from interviewer_time_slot"
+      + " where week_num = :weekNum", nativeQuery = true)
+  int archiveWeek(@Param("weekNum") int weekNum);
+}
@@ -1,9 +1,18 @@
 package com.intellias.intellistart.interviewplanning.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 import com.intellias.intellistart.interviewplanning.models.BookingLimit;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,9 +21,34 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BookingLimitRepository extends JpaRepository<BookingLimit, Long> {
 
+  String QUERY_CACHE_REGION = "booking-limits.queries";
+
+  @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
   Optional<BookingLimit> findByInterviewerIdAndWeekNum(Long interviewerId, Integer weekNum);
 
+  /**
+   * Same as {@link #findByInterviewerIdAndWeekNum}, but takes a write lock on the row until the end of the current
+   * transaction. Used to serialize booking creation per interviewer and week, so it always reads the database and
+   * bypasses the query cache.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  Optional<BookingLimit> findLockedByInterviewerIdAndWeekNum(Long interviewerId, Integer weekNum);
+
   List<BookingLimit> findByInterviewerIdAndWeekNumLessThan(Long interviewerId, Integer weekNum);
 
   List<BookingLimit> findAllByWeekNum(Integer weekNum);
+
+  /**
+   * Provides the limits that apply to the week: the limit of the week itself or, if it is not set yet, the latest
+   * limit of a previous week, which is what a new booking of the week would copy.
+   *
+   * @param weekNum number of the week
+   * @return at most one limit per interviewer
+   */
+  @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)})
+  @Query("select l from BookingLimit l where l.weekNum = (select max(p.weekNum) from BookingLimit p"
+      + " where p.interviewerId = l.interviewerId and p.weekNum <= :weekNum)")
+  List<BookingLimit> findEffectiveOfWeek(@Param("weekNum") int weekNum);
 }
\ No newline at end of file
@@ -4,8 +4,12 @@ import com.intellias.intellistart.interviewplanning.models.Booking;
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -18,5 +22,50 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
   List<Booking> findByCandidateSlot(CandidateTimeSlot candidateSlot);
 
-  List<Booking> findByCandidateSlotDate(LocalDate date);
+  List<Booking> findByCandidateSlotIn(Collection<CandidateTimeSlot> candidateSlots);
+
+  int countByInterviewerSlotInterviewerIdAndInterviewerSlotWeekNum(Long interviewerId, int weekNum);
+
+  /**
+   * Provides all bookings of the week together with their slots in a single query. Bookings are selected by their own
+   * week column, so the slots are only joined by primary key.
+   *
+   * @param weekNum number of the week
+   * @return bookings of the week
+   */
+  @Query("select b from Booking b"
+      + " join fetch b.interviewerSlot i"
+      + " join fetch i.interviewer"
+      + " join fetch b.candidateSlot"
+      + " where b.weekNum = :weekNum")
+  List<Booking> findAllOfWeek(@Param("weekNum") int weekNum);
+
+  /**
+   * Provides all bookings of the day together with their slots in a single query.
+   *
+   * @param date date of the day
+   * @return bookings of the day
+   */
+  @Query("select b from Booking b"
+      + " join fetch b.interviewerSlot i"
+      + " join fetch i.interviewer"
+      + " join fetch b.candidateSlot"
+      + " where b.date = :date")
+  List<Booking> findAllOfDate(@Param("date") LocalDate date);
+
+  /**
+   * Deletes bookings whose interviewer slot belongs to the week or whose candidate slot is within the dates, the same
+   * ones {@link ArchivedBookingRepository#archiveWeek} copies, so that no booking is left referencing a slot archived
+   * with the week. Unlike {@link #findAllOfWeek}, this does not rely on the week of the booking itself.
+   *
+   * @param weekNum number of the week of interviewer slots
+   * @param from    first date of the week
+   * @param to      last date of the week
+   * @return number of deleted bookings
+   */
+  @Modifying
+  @Query("delete from Booking b"
+      + " where b.interviewerSlot.id in (select i.id from InterviewerTimeSlot i where i.weekNum = :weekNum)"
+      + " or b.candidateSlot.id in (select c.id from CandidateTimeSlot c where c.date between :from and :to)")
+  int deleteAllOfWeek(@Param("weekNum") int weekNum, @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
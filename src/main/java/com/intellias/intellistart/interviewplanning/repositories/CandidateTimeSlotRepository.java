@@ -2,8 +2,14 @@ package com.intellias.intellistart.interviewplanning.repositories;
 
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -14,8 +20,38 @@ public interface CandidateTimeSlotRepository extends JpaRepository<CandidateTime
 
   List<CandidateTimeSlot> findByDate(LocalDate date);
 
+  List<CandidateTimeSlot> findByWeekNum(int weekNum);
+
   List<CandidateTimeSlot> findByEmail(String email);
 
   List<CandidateTimeSlot> findByDateAndEmail(LocalDate date, String email);
 
+  List<CandidateTimeSlot> findByEmailAndDateIn(String email, Collection<LocalDate> dates);
+
+  List<CandidateTimeSlot> findByDateAndEmailAndIdNot(LocalDate date, String email, Long excludedSlotId);
+
+  List<CandidateTimeSlot> findByEmailOrderByDateAscFromAscIdAsc(String email, Pageable pageable);
+
+  /**
+   * Provides slots of the candidate that follow the given one in (date, from, id) order.
+   *
+   * @param email    candidate email
+   * @param date     date of the last slot of the previous page
+   * @param from     start of the last slot of the previous page
+   * @param id       id of the last slot of the previous page
+   * @param pageable page size
+   * @return slots in (date, from, id) order
+   */
+  @Query("select c from CandidateTimeSlot c where c.email = :email"
+      + " and (c.date > :date or c.date = :date and (c.from > :from or c.from = :from and c.id > :id))"
+      + " order by c.date, c.from, c.id")
+  List<CandidateTimeSlot> findByEmailAfter(@Param("email") String email, @Param("date") LocalDate date,
+      @Param("from") LocalTime from, @Param("id") Long id, Pageable pageable);
+
+  @Query("select min(c.date) from CandidateTimeSlot c")
+  LocalDate findMinDate();
+
+  @Modifying
+  @Query("delete from CandidateTimeSlot c where c.date between :from and :to")
+  int deleteAllOfDates(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
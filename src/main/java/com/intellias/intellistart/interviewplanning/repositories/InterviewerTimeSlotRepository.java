@@ -1,10 +1,15 @@
 package com.intellias.intellistart.interviewplanning.repositories;
 
 import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
-import com.intellias.intellistart.interviewplanning.models.User;
 import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,7 +22,37 @@ public interface InterviewerTimeSlotRepository extends JpaRepository<Interviewer
 
   List<InterviewerTimeSlot> findByInterviewerIdAndWeekNum(Long id, int weekNum);
 
+  List<InterviewerTimeSlot> findByInterviewerIdAndWeekNumIn(Long id, Collection<Integer> weekNums);
+
+  List<InterviewerTimeSlot> findByInterviewerIdAndWeekNumAndDayOfWeek(Long id, int weekNum, DayOfWeek dayOfWeek);
+
+  List<InterviewerTimeSlot> findByInterviewerIdAndWeekNumAndDayOfWeekAndIdNot(Long id, int weekNum,
+      DayOfWeek dayOfWeek, Long excludedSlotId);
+
   List<InterviewerTimeSlot> findByWeekNumAndDayOfWeek(int weekNum, DayOfWeek dayOfWeek);
 
-  List<InterviewerTimeSlot> findByInterviewer(User interviewer);
+  @EntityGraph(attributePaths = "interviewer")
+  List<InterviewerTimeSlot> findByWeekNum(int weekNum);
+
+  /**
+   * Checks whether the interviewer has a slot starting after the given moment. The row comparison is a single range
+   * on idx_interviewer_slot_interviewer_start, so the lookup stops at the first matching index entry.
+   *
+   * @param interviewerId id of the interviewer
+   * @param weekNum       week of the moment
+   * @param dayOfWeek     ordinal of the day of the moment, as the column stores it
+   * @param time          time of the moment
+   * @return true if there is a later slot
+   */
+  @Query(value = "select exists(select 1 from interviewer_time_slot s where s.interviewer_id = :interviewerId"
+      + " and (s.week_num, s.day_of_week, s.from_time) > (:weekNum, :dayOfWeek, :time))", nativeQuery = true)
+  boolean existsStartingAfter(@Param("interviewerId") Long interviewerId, @Param("weekNum") int weekNum,
+      @Param("dayOfWeek") int dayOfWeek, @Param("time") LocalTime time);
+
+  @Query("select min(s.weekNum) from InterviewerTimeSlot s")
+  Integer findMinWeekNum();
+
+  @Modifying
+  @Query("delete from InterviewerTimeSlot s where s.weekNum = :weekNum")
+  int deleteAllOfWeek(@Param("weekNum") int weekNum);
 }
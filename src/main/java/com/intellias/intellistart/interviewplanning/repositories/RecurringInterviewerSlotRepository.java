@@ -0,0 +1,53 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import com.intellias.intellistart.interviewplanning.models.RecurringInterviewerSlot;
+import java.time.DayOfWeek;
+import java.util.List;
+import javax.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Recurring interviewer slot repository. Pending slots are the ones that already apply to the given week, but have
+ * not been turned into interviewer slots for it yet.
+ */
+@Repository
+public interface RecurringInterviewerSlotRepository extends JpaRepository<RecurringInterviewerSlot, Long> {
+
+  List<RecurringInterviewerSlot> findByInterviewerId(Long interviewerId);
+
+  List<RecurringInterviewerSlot> findByInterviewerEmail(String email);
+
+  List<RecurringInterviewerSlot> findByInterviewerIdAndDayOfWeek(Long interviewerId, DayOfWeek dayOfWeek);
+
+  @Query("select case when count(r) > 0 then true else false end from RecurringInterviewerSlot r"
+      + " where r.startWeekNum <= :weekNum and r.lastMaterializedWeekNum < :weekNum")
+  boolean existsPending(@Param("weekNum") int weekNum);
+
+  @Query("select case when count(r) > 0 then true else false end from RecurringInterviewerSlot r"
+      + " where r.interviewer.id = :interviewerId"
+      + " and r.startWeekNum <= :weekNum and r.lastMaterializedWeekNum < :weekNum")
+  boolean existsPendingOfInterviewer(@Param("interviewerId") Long interviewerId, @Param("weekNum") int weekNum);
+
+  /**
+   * Same as {@link #existsPending}, but loads the slots and takes write locks on them until the end of the current
+   * transaction, so that concurrent readers do not materialize the same week twice.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select r from RecurringInterviewerSlot r"
+      + " where r.startWeekNum <= :weekNum and r.lastMaterializedWeekNum < :weekNum")
+  List<RecurringInterviewerSlot> findPendingLocked(@Param("weekNum") int weekNum);
+
+  /**
+   * Same as {@link #existsPendingOfInterviewer}, but loads the slots and takes write locks on them.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select r from RecurringInterviewerSlot r"
+      + " where r.interviewer.id = :interviewerId"
+      + " and r.startWeekNum <= :weekNum and r.lastMaterializedWeekNum < :weekNum")
+  List<RecurringInterviewerSlot> findPendingLockedOfInterviewer(@Param("interviewerId") Long interviewerId,
+      @Param("weekNum") int weekNum);
+}
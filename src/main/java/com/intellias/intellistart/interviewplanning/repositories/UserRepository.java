@@ -1,10 +1,16 @@
 package com.intellias.intellistart.interviewplanning.repositories;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,9 +19,17 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+  String BY_EMAIL_CACHE_REGION = "users.by-email";
+
+  @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+      @QueryHint(name = HINT_CACHE_REGION, value = BY_EMAIL_CACHE_REGION)})
   Optional<User> findByEmail(String email);
 
   List<User> findByRole(UserRole role);
 
+  List<User> findByRoleOrderByIdAsc(UserRole role, Pageable pageable);
+
+  List<User> findByRoleAndIdGreaterThanOrderByIdAsc(UserRole role, Long id, Pageable pageable);
+
   boolean existsByEmail(String email);
 }
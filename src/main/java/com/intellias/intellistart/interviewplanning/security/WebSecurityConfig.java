@@ -4,17 +4,29 @@ import static com.intellias.intellistart.interviewplanning.models.User.UserRole.
 import static com.intellias.intellistart.interviewplanning.models.User.UserRole.INTERVIEWER;
 
 import com.intellias.intellistart.interviewplanning.security.jwt.JwtRequestFilter;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -38,10 +50,11 @@ public class WebSecurityConfig {
    * Requests filter to perform authorization.
    *
    * @param http HttpSecurity injected object
+   * @param env  environment holding the port of the management server once it is started
    * @return http filter
    */
   @Bean
-  public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+  public SecurityFilterChain securityFilterChain(HttpSecurity http, Environment env) throws Exception {
     http.csrf().disable();
     http.cors().disable();
     http.httpBasic().disable();
@@ -54,10 +67,15 @@ public class WebSecurityConfig {
 
     http.authorizeRequests(authorize -> authorize
         .antMatchers("/authenticate/**", "/auth-link", "/").permitAll()
+        .antMatchers("/actuator/health").permitAll()
+        .requestMatchers(new AndRequestMatcher(new AntPathRequestMatcher("/actuator/prometheus"),
+            request -> isOnManagementPort(request, env))).permitAll()
+        .antMatchers("/actuator/**").hasAuthority(COORDINATOR.name())
         .antMatchers("/bookings/**").hasAnyAuthority(COORDINATOR.name())
         .antMatchers("/interviewers/**").hasAnyAuthority(COORDINATOR.name(), INTERVIEWER.name())
         .antMatchers("/users/**").hasAuthority(COORDINATOR.name())
-        .antMatchers("/weeks/{weekId}/dashboard").hasAuthority(COORDINATOR.name())
+        .antMatchers("/weeks/{weekId}/dashboard/**", "/weeks/{weekId}/matches",
+            "/weeks/{weekId}/schedule-proposal").hasAuthority(COORDINATOR.name())
         .antMatchers("/weeks/*").permitAll()
         .anyRequest().authenticated()
     );
@@ -65,9 +83,46 @@ public class WebSecurityConfig {
     return http.build();
   }
 
+  /**
+   * Checks whether the request came to the separate management port, which is not published outside the host
+   * network, so scrapers reaching it need no token. Without a separate port the property is absent and nothing
+   * matches.
+   */
+  private static boolean isOnManagementPort(HttpServletRequest request, Environment env) {
+    return String.valueOf(request.getLocalPort()).equals(env.getProperty("local.management.port"));
+  }
+
+  /**
+   * HTTP client for calls to Facebook. Connections are pooled and kept alive between logins, so a burst of logins
+   * reuses a bounded number of sockets instead of opening one per call; a call that cannot get a connection, connect
+   * or read in time fails instead of holding the request thread.
+   *
+   * @param maxConnections maximum number of open connections
+   * @param connectTimeout timeout of establishing a connection and of waiting for a free one in the pool
+   * @param readTimeout    timeout of waiting for response data
+   * @return pooled client
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient httpClient(@Value("${facebook.http.max-connections:50}") int maxConnections,
+      @Value("${facebook.http.connect-timeout:PT2S}") Duration connectTimeout,
+      @Value("${facebook.http.read-timeout:PT5S}") Duration readTimeout) {
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnections);
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout((int) connectTimeout.toMillis())
+            .setConnectTimeout((int) connectTimeout.toMillis())
+            .setSocketTimeout((int) readTimeout.toMillis())
+            .build())
+        .evictIdleConnections(1, TimeUnit.MINUTES)
+        .build();
+  }
+
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+    return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
   }
 
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.intellias.intellistart.interviewplanning.security.jwt;
 
 import com.intellias.intellistart.interviewplanning.models.User;
-import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import java.io.IOException;
 import javax.servlet.FilterChain;
@@ -13,22 +13,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
- * OncePerRequestFilter that tries to authorize user by their token.
+ * OncePerRequestFilter that tries to authorize user by their token. The user is built from the token's claims, so
+ * authenticating a request does not touch the database; tokens issued before a role change of their user are rejected.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
 
-  private final UserDetailsService userDetailsService;
   private final JwtTokenUtil jwtTokenUtil;
+  private final JwtUserCache jwtUserCache;
+  private final RoleVersionRegistry roleVersionRegistry;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -36,34 +36,25 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     final String requestTokenHeader = request.getHeader("Authorization");
 
-    String username = null;
-    String jwtToken = null;
-
-    //trying to get username from token
-    if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-      jwtToken = requestTokenHeader.substring(7);
-      try {
-        username = jwtTokenUtil.getUsernameFromToken(jwtToken);
-      } catch (IllegalArgumentException e) {
-        log.debug("Unable to get JWT Token");
-      } catch (ExpiredJwtException e) {
-        log.debug("JWT Token has expired");
-      }
-    }
-
-    if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+    if (requestTokenHeader == null || !requestTokenHeader.startsWith("Bearer ")
+        || SecurityContextHolder.getContext().getAuthentication() != null) {
       chain.doFilter(request, response);
       return;
     }
 
-    UserDetails userDetails;
-    try {
-      userDetails = userDetailsService.loadUserByUsername(username);
-    } catch (UsernameNotFoundException e) {
-      userDetails = new User(username, UserRole.CANDIDATE);
+    String jwtToken = requestTokenHeader.substring(7);
+    UserDetails userDetails = jwtUserCache.get(jwtToken);
+    if (userDetails == null) {
+      userDetails = verifyToken(jwtToken);
     }
 
-    if (jwtTokenUtil.isTokenValid(jwtToken, userDetails)) {
+    if (userDetails instanceof User
+        && !roleVersionRegistry.isCurrent(userDetails.getUsername(), ((User) userDetails).getRoleVersion())) {
+      log.debug("JWT Token was issued before the role of {} changed", userDetails.getUsername());
+      userDetails = null;
+    }
+
+    if (userDetails != null) {
       //TODO replace with OAuth2AuthenticationToken
       UsernamePasswordAuthenticationToken token =
           new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -73,4 +64,32 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     chain.doFilter(request, response);
   }
 
+  /**
+   * Parses the token, builds its user from the claims and remembers the result in the cache.
+   *
+   * @param jwtToken JWT token value
+   * @return user of the token or null if the token is not valid
+   */
+  private UserDetails verifyToken(String jwtToken) {
+    Claims claims;
+    try {
+      claims = jwtTokenUtil.parseClaims(jwtToken);
+    } catch (IllegalArgumentException e) {
+      log.debug("Unable to get JWT Token");
+      return null;
+    } catch (ExpiredJwtException e) {
+      log.debug("JWT Token has expired");
+      return null;
+    }
+
+    User user = jwtTokenUtil.getUserFromClaims(claims);
+    if (user == null || claims.getExpiration() == null) {
+      log.debug("JWT Token has no role claims");
+      return null;
+    }
+
+    jwtUserCache.put(jwtToken, user, claims.getExpiration().toInstant());
+    return user;
+  }
+
 }
\ No newline at end of file
@@ -2,12 +2,15 @@ package com.intellias.intellistart.interviewplanning.security.jwt;
 
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
@@ -27,19 +30,30 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class JwtTokenUtil implements Serializable {
 
-  public static final long JWT_TOKEN_VALIDITY_SECONDS = 5 * 60 * 60L;
+  public static final String USER_ID_CLAIM = "uid";
+  public static final String ROLE_CLAIM = "role";
+  public static final String ROLE_VERSION_CLAIM = "rv";
   private static final long serialVersionUID = -2550185165626007488L;
   @Value("${jwt.secret}")
   private String secret;
-  private Key key;
+  @Value("${jwt.token-lifetime:PT1H}")
+  private Duration tokenLifetime = Duration.ofHours(1);
+  private volatile Key key;
+  private transient volatile JwtParser parser;
 
-  private Claims getAllClaimsFromToken(String token) {
-    return Jwts.parserBuilder().setSigningKey(getKey()).build().parseClaimsJws(token).getBody();
+  /**
+   * Verifies the signature and expiration of the token and provides its claims. A request should parse its token
+   * once and read everything it needs from the returned claims, as every parse verifies the HMAC again.
+   *
+   * @param token JWT token value
+   * @return verified claims
+   */
+  public Claims parseClaims(String token) {
+    return getParser().parseClaimsJws(token).getBody();
   }
 
   public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = getAllClaimsFromToken(token);
-    return claimsResolver.apply(claims);
+    return claimsResolver.apply(parseClaims(token));
   }
 
   public String getUsernameFromToken(String token) {
@@ -50,13 +64,30 @@ public class JwtTokenUtil implements Serializable {
     return getClaimFromToken(token, Claims::getExpiration);
   }
 
-  private Boolean isTokenExpired(String token) {
-    final Date expiration = getExpirationDateFromToken(token);
-    return expiration.before(new Date());
+  /**
+   * Builds the user of the token from its claims without loading it.
+   *
+   * @param claims verified claims of the token
+   * @return user or null if the token was issued without role claims
+   */
+  public User getUserFromClaims(Claims claims) {
+    String role = claims.get(ROLE_CLAIM, String.class);
+    Integer roleVersion = claims.get(ROLE_VERSION_CLAIM, Integer.class);
+    if (claims.getSubject() == null || role == null || roleVersion == null) {
+      return null;
+    }
+    return new User(claims.getSubject(), UserRole.valueOf(role))
+        .setId(claims.get(USER_ID_CLAIM, Long.class))
+        .setRoleVersion(roleVersion)
+        .setFacebookId(claims.get("fb_id", Long.class))
+        .setFirstName(claims.get("first_name", String.class))
+        .setMiddleName(claims.get("middle_name", String.class))
+        .setLastName(claims.get("last_name", String.class));
   }
 
   /**
-   * Generates token string with username, issued time, expire time and authorities.
+   * Generates token string with username, issued time, expire time and authorities. Tokens of {@link User} also
+   * carry the user id, role and role version, which is all the request filter needs to authenticate them.
    *
    * @param userDetails user data object to get username and authorities from
    * @return token String
@@ -66,6 +97,9 @@ public class JwtTokenUtil implements Serializable {
     claims.put("authorities", userDetails.getAuthorities());
     if (userDetails instanceof User) {
       User user = (User) userDetails;
+      claims.put(USER_ID_CLAIM, user.getId());
+      claims.put(ROLE_CLAIM, user.getRole().name());
+      claims.put(ROLE_VERSION_CLAIM, user.getRoleVersion());
       claims.put("fb_id", user.getFacebookId());
       claims.put("first_name", user.getFirstName());
       claims.put("middle_name", user.getMiddleName());
@@ -76,7 +110,7 @@ public class JwtTokenUtil implements Serializable {
 
   private OAuth2AccessToken doGenerateToken(Map<String, Object> claims, String subject) {
     Date issuedAt = new Date(System.currentTimeMillis());
-    Date expiresAt = new Date(issuedAt.getTime() + JWT_TOKEN_VALIDITY_SECONDS * 1000);
+    Date expiresAt = new Date(issuedAt.getTime() + tokenLifetime.toMillis());
     String tokenValue = Jwts.builder()
         .setClaims(claims)
         .setSubject(subject)
@@ -102,8 +136,24 @@ public class JwtTokenUtil implements Serializable {
   }
 
   public boolean isTokenValid(String token, UserDetails userDetails) {
-    final String username = getUsernameFromToken(token);
-    return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    return isTokenValid(parseClaims(token), userDetails);
+  }
+
+  public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+    return claims.getSubject().equals(userDetails.getUsername()) && claims.getExpiration().after(new Date());
+  }
+
+  /**
+   * Provides the parser built for the signing key. The parser is immutable and thread-safe, so it is built once
+   * instead of for every token.
+   */
+  private JwtParser getParser() {
+    JwtParser current = parser;
+    if (current == null) {
+      current = Jwts.parserBuilder().setSigningKey(getKey()).build();
+      parser = current;
+    }
+    return current;
   }
 
   private Key getKey() {
@@ -0,0 +1,114 @@
+package com.intellias.intellistart.interviewplanning.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of already verified tokens and the users they belong to. An entry lives no longer than the configured TTL
+ * and never outlives the token's own expiration. Entries of a user are evicted when their role changes.
+ */
+@Component
+@Slf4j
+public class JwtUserCache implements MeterBinder {
+
+  static final String CACHE_NAME = "jwt.users";
+
+  private final Duration timeToLive;
+  private final Cache<String, Entry> cache;
+
+  /**
+   * Creates the cache.
+   *
+   * @param maximumSize maximum number of cached tokens
+   * @param timeToLive  maximum time a verified token is trusted without re-verification
+   */
+  public JwtUserCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+      @Value("${jwt.cache.time-to-live:PT5M}") Duration timeToLive) {
+    this.timeToLive = timeToLive;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new TokenExpiry())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the user of a previously verified token.
+   *
+   * @param token JWT token value
+   * @return user details or null if the token was not verified recently
+   */
+  public UserDetails get(String token) {
+    Entry entry = cache.getIfPresent(token);
+    return entry == null ? null : entry.getUserDetails();
+  }
+
+  /**
+   * Remembers a verified token.
+   *
+   * @param token       JWT token value
+   * @param userDetails user the token belongs to
+   * @param expiresAt   token expiration
+   */
+  public void put(String token, UserDetails userDetails, Instant expiresAt) {
+    cache.put(token, new Entry(userDetails, expiresAt));
+  }
+
+  /**
+   * Drops all tokens of the user whose role has changed.
+   *
+   * @param event role change
+   */
+  @EventListener
+  public void onUserRoleChanged(UserRoleChangedEvent event) {
+    cache.asMap().values().removeIf(entry -> entry.getUserDetails().getUsername().equals(event.getEmail()));
+    log.debug("Evicted cached tokens of {}", event.getEmail());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  @Data
+  private static class Entry {
+
+    private final UserDetails userDetails;
+    private final Instant expiresAt;
+  }
+
+  private class TokenExpiry implements Expiry<String, Entry> {
+
+    @Override
+    public long expireAfterCreate(String token, Entry entry, long currentTime) {
+      Duration untilTokenExpires = Duration.between(Instant.now(), entry.getExpiresAt());
+      if (untilTokenExpires.isNegative()) {
+        return 0;
+      }
+      return untilTokenExpires.compareTo(timeToLive) < 0 ? untilTokenExpires.toNanos() : timeToLive.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+      return expireAfterCreate(token, entry, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.intellias.intellistart.interviewplanning.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latest role versions of users whose role has changed recently. Tokens carry the role version they were issued with,
+ * so a token issued before a role change is rejected without loading the user. An entry is only kept for the token
+ * lifetime, after which every older token has expired anyway.
+ */
+@Component
+@Slf4j
+public class RoleVersionRegistry {
+
+  private final Cache<String, Integer> versions;
+
+  /**
+   * Creates the registry.
+   *
+   * @param tokenLifetime lifetime of issued tokens
+   */
+  public RoleVersionRegistry(@Value("${jwt.token-lifetime:PT1H}") Duration tokenLifetime) {
+    this.versions = Caffeine.newBuilder()
+        .expireAfterWrite(tokenLifetime)
+        .build();
+  }
+
+  /**
+   * Checks that the user's role has not changed since the token was issued.
+   *
+   * @param email       email of the user
+   * @param roleVersion role version of the token
+   * @return false if the role has changed since
+   */
+  public boolean isCurrent(String email, int roleVersion) {
+    Integer latest = versions.getIfPresent(email);
+    return latest == null || roleVersion >= latest;
+  }
+
+  /**
+   * Remembers the new role version of the user.
+   *
+   * @param event role change
+   */
+  @EventListener
+  public void onUserRoleChanged(UserRoleChangedEvent event) {
+    versions.asMap().merge(event.getEmail(), event.getRoleVersion(), Math::max);
+    log.debug("Tokens of {} older than role version {} are revoked", event.getEmail(), event.getRoleVersion());
+  }
+}
@@ -0,0 +1,239 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.models.ArchivedBooking;
+import com.intellias.intellistart.interviewplanning.models.ArchivedCandidateSlot;
+import com.intellias.intellistart.interviewplanning.models.ArchivedInterviewerSlot;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repositories.ArchivedBookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.ArchivedCandidateSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.ArchivedInterviewerSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Keeps the slot and booking tables limited to recent weeks. Weeks older than {@code archive.horizon-weeks} are moved
+ * to the archive tables by a nightly job, one week per transaction, so queries for the current and next weeks run
+ * against tables that do not grow with history. Archived weeks are read back through the archive repositories, which
+ * is slower and only done for weeks behind the horizon.
+ */
+@Service
+@Slf4j
+public class ArchiveService {
+
+  private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private final CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private final BookingRepository bookingRepository;
+  private final ArchivedInterviewerSlotRepository archivedInterviewerSlotRepository;
+  private final ArchivedCandidateSlotRepository archivedCandidateSlotRepository;
+  private final ArchivedBookingRepository archivedBookingRepository;
+  private final WeekService weekService;
+  private final TransactionOperations transactionOperations;
+  private final int horizonWeeks;
+
+  /**
+   * Creates the service.
+   *
+   * @param horizonWeeks number of past weeks kept in the slot and booking tables
+   */
+  public ArchiveService(InterviewerTimeSlotRepository interviewerTimeSlotRepository,
+      CandidateTimeSlotRepository candidateTimeSlotRepository, BookingRepository bookingRepository,
+      ArchivedInterviewerSlotRepository archivedInterviewerSlotRepository,
+      ArchivedCandidateSlotRepository archivedCandidateSlotRepository,
+      ArchivedBookingRepository archivedBookingRepository, WeekService weekService,
+      TransactionOperations transactionOperations, @Value("${archive.horizon-weeks:26}") int horizonWeeks) {
+    this.interviewerTimeSlotRepository = interviewerTimeSlotRepository;
+    this.candidateTimeSlotRepository = candidateTimeSlotRepository;
+    this.bookingRepository = bookingRepository;
+    this.archivedInterviewerSlotRepository = archivedInterviewerSlotRepository;
+    this.archivedCandidateSlotRepository = archivedCandidateSlotRepository;
+    this.archivedBookingRepository = archivedBookingRepository;
+    this.weekService = weekService;
+    this.transactionOperations = transactionOperations;
+    this.horizonWeeks = horizonWeeks;
+  }
+
+  /**
+   * Defines the oldest week kept in the slot and booking tables.
+   *
+   * @return number of week
+   */
+  public int getHorizonWeekNum() {
+    return weekService.getWeekNumByDate(weekService.getCurrentDate().minusWeeks(horizonWeeks));
+  }
+
+  /**
+   * Checks whether the week is behind the horizon, so that its slots and bookings are, or soon will be, archived.
+   *
+   * @param weekNum number of the week
+   * @return true if the week has to be read from the archive as well
+   */
+  public boolean isArchived(int weekNum) {
+    return weekNum < getHorizonWeekNum();
+  }
+
+  /**
+   * Nightly job that moves every week behind the horizon to the archive, oldest first.
+   */
+  @Scheduled(cron = "${archive.cron:0 30 2 * * *}", zone = "Europe/Kiev")
+  public void archivePastWeeks() {
+    int horizonWeekNum = getHorizonWeekNum();
+    Integer weekNum = getOldestWeekNum();
+    while (weekNum != null && weekNum < horizonWeekNum) {
+      int week = weekNum;
+      transactionOperations.executeWithoutResult(status -> archiveWeek(week));
+      weekNum = getOldestWeekNum();
+    }
+  }
+
+  /**
+   * Moves slots and bookings of the week to the archive. Bookings go first, as they reference the slots.
+   */
+  private void archiveWeek(int weekNum) {
+    LocalDate monday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.MONDAY);
+    LocalDate sunday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.SUNDAY);
+
+    final int bookings = archivedBookingRepository.archiveWeek(weekNum, monday, sunday);
+    final int interviewerSlots = archivedInterviewerSlotRepository.archiveWeek(weekNum);
+    final int candidateSlots = archivedCandidateSlotRepository.archiveDates(monday, sunday);
+    bookingRepository.deleteAllOfWeek(weekNum, monday, sunday);
+    interviewerTimeSlotRepository.deleteAllOfWeek(weekNum);
+    candidateTimeSlotRepository.deleteAllOfDates(monday, sunday);
+    log.info("Archived week {}: {} interviewer slots, {} candidate slots, {} bookings", weekNum, interviewerSlots,
+        candidateSlots, bookings);
+  }
+
+  private Integer getOldestWeekNum() {
+    Integer interviewerWeekNum = interviewerTimeSlotRepository.findMinWeekNum();
+    LocalDate candidateDate = candidateTimeSlotRepository.findMinDate();
+    Integer candidateWeekNum = candidateDate == null ? null : weekService.getWeekNumByDate(candidateDate);
+    if (interviewerWeekNum == null || candidateWeekNum == null) {
+      return interviewerWeekNum == null ? candidateWeekNum : interviewerWeekNum;
+    }
+    return Math.min(interviewerWeekNum, candidateWeekNum);
+  }
+
+  /**
+   * Provides archived slots and bookings of the week.
+   *
+   * @param weekNum number of the week
+   * @param from    first date of the week
+   * @param to      last date of the week
+   * @return archived schedule of the week
+   */
+  public ArchivedSchedule getWeek(int weekNum, LocalDate from, LocalDate to) {
+    return restore(archivedInterviewerSlotRepository.findByWeekNum(weekNum),
+        archivedCandidateSlotRepository.findByDateBetween(from, to),
+        archivedBookingRepository.findAllOfWeek(weekNum, from, to));
+  }
+
+  /**
+   * Provides archived slots and bookings of the day.
+   *
+   * @param weekNum number of the week
+   * @param day     day of the week
+   * @param date    date of the day
+   * @return archived schedule of the day
+   */
+  public ArchivedSchedule getDay(int weekNum, DayOfWeek day, LocalDate date) {
+    return restore(archivedInterviewerSlotRepository.findByWeekNumAndDayOfWeek(weekNum, day),
+        archivedCandidateSlotRepository.findByDateBetween(date, date),
+        archivedBookingRepository.findAllOfWeek(weekNum, date, date));
+  }
+
+  /**
+   * Restores archived rows as unmanaged entities. Bookings may reference slots of other days of the week, which are
+   * loaded by id. A booking may also span weeks, with its other slot in a week that is not archived yet, so such slots
+   * are loaded from the slot tables. Bookings whose slot is found in neither are skipped and reported.
+   */
+  private ArchivedSchedule restore(List<ArchivedInterviewerSlot> archivedInterviewerSlots,
+      List<ArchivedCandidateSlot> archivedCandidateSlots, List<ArchivedBooking> archivedBookings) {
+    Map<Long, InterviewerTimeSlot> interviewerSlots = toSlotMap(archivedInterviewerSlots,
+        ArchivedInterviewerSlot::getId, ArchivedInterviewerSlot::toSlot);
+    Map<Long, CandidateTimeSlot> candidateSlots = toSlotMap(archivedCandidateSlots,
+        ArchivedCandidateSlot::getId, ArchivedCandidateSlot::toSlot);
+
+    Set<Long> missingInterviewerSlots = new HashSet<>();
+    Set<Long> missingCandidateSlots = new HashSet<>();
+    for (ArchivedBooking booking : archivedBookings) {
+      if (!interviewerSlots.containsKey(booking.getInterviewerSlotId())) {
+        missingInterviewerSlots.add(booking.getInterviewerSlotId());
+      }
+      if (!candidateSlots.containsKey(booking.getCandidateSlotId())) {
+        missingCandidateSlots.add(booking.getCandidateSlotId());
+      }
+    }
+    interviewerSlots.putAll(toSlotMap(archivedInterviewerSlotRepository.findAllById(missingInterviewerSlots),
+        ArchivedInterviewerSlot::getId, ArchivedInterviewerSlot::toSlot));
+    candidateSlots.putAll(toSlotMap(archivedCandidateSlotRepository.findAllById(missingCandidateSlots),
+        ArchivedCandidateSlot::getId, ArchivedCandidateSlot::toSlot));
+    missingInterviewerSlots.removeAll(interviewerSlots.keySet());
+    missingCandidateSlots.removeAll(candidateSlots.keySet());
+    interviewerSlots.putAll(toSlotMap(interviewerTimeSlotRepository.findAllById(missingInterviewerSlots),
+        InterviewerTimeSlot::getId, Function.identity()));
+    candidateSlots.putAll(toSlotMap(candidateTimeSlotRepository.findAllById(missingCandidateSlots),
+        CandidateTimeSlot::getId, Function.identity()));
+
+    List<Booking> bookings = new ArrayList<>(archivedBookings.size());
+    for (ArchivedBooking booking : archivedBookings) {
+      InterviewerTimeSlot interviewerSlot = interviewerSlots.get(booking.getInterviewerSlotId());
+      CandidateTimeSlot candidateSlot = candidateSlots.get(booking.getCandidateSlotId());
+      if (interviewerSlot == null || candidateSlot == null) {
+        log.warn("Skipped archived booking {}: interviewer slot {} or candidate slot {} not found", booking.getId(),
+            booking.getInterviewerSlotId(), booking.getCandidateSlotId());
+        continue;
+      }
+      bookings.add(booking.toBooking(interviewerSlot, candidateSlot));
+    }
+    return new ArchivedSchedule(
+        archivedInterviewerSlots.stream()
+            .map(slot -> interviewerSlots.get(slot.getId()))
+            .collect(Collectors.toList()),
+        archivedCandidateSlots.stream()
+            .map(slot -> candidateSlots.get(slot.getId()))
+            .collect(Collectors.toList()),
+        bookings);
+  }
+
+  private static <A, S> Map<Long, S> toSlotMap(Collection<A> archived, Function<A, Long> id,
+      Function<A, S> restore) {
+    Map<Long, S> slots = new HashMap<>();
+    archived.forEach(slot -> slots.put(id.apply(slot), restore.apply(slot)));
+    return slots;
+  }
+
+  /**
+   * Slots and bookings restored from the archive.
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public static class ArchivedSchedule {
+
+    public static final ArchivedSchedule EMPTY = new ArchivedSchedule(List.of(), List.of(), List.of());
+
+    private final List<InterviewerTimeSlot> interviewerSlots;
+    private final List<CandidateTimeSlot> candidateSlots;
+    private final List<Booking> bookings;
+  }
+}
@@ -9,9 +9,11 @@ import com.intellias.intellistart.interviewplanning.exceptions.TemplateMessageEx
 import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import com.intellias.intellistart.interviewplanning.security.jwt.JwtTokenUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
@@ -38,45 +40,36 @@ public class AuthService {
   public final String facebookTokenVerifyUri;
   public final String facebookUserProfileUri;
   public final RestTemplate rest;
-  private FacebookAppAccessToken appAccessToken;
+  private final FacebookAppTokenProvider appTokenProvider;
   private final UserService userService;
   private final JwtTokenUtil jwtTokenUtil;
+  private final FacebookProfileCache profileCache;
+  private final MeterRegistry meterRegistry;
 
   /**
    * Initiates required URIs from environment variables.
    *
    * @param env object to retrieve project environment variables
    */
-  public AuthService(Environment env, RestTemplate rest, UserService userService, JwtTokenUtil jwtTokenUtil) {
+  public AuthService(Environment env, RestTemplate rest, FacebookAppTokenProvider appTokenProvider,
+      UserService userService, JwtTokenUtil jwtTokenUtil, FacebookProfileCache profileCache,
+      MeterRegistry meterRegistry) {
     this.rest = rest;
+    this.appTokenProvider = appTokenProvider;
     this.userService = userService;
     this.jwtTokenUtil = jwtTokenUtil;
+    this.profileCache = profileCache;
+    this.meterRegistry = meterRegistry;
 
     facebookGetTokenByCodeUri = env.getProperty("facebook.uri.get_token_by_code");
     facebookTokenVerifyUri = env.getProperty("facebook.uri.token_verify");
     facebookUserProfileUri = env.getProperty("facebook.uri.user_data");
     offlineUserEmail = env.getProperty("facebook.native_user.offline.email");
 
-    //needs to be updated every ~60 days
-    appAccessToken = new FacebookAppAccessToken(env.getProperty("facebook.app-token"), "bearer");
-
     isOffline = Arrays.stream(env.getActiveProfiles()).anyMatch(s -> s.equalsIgnoreCase("offline"));
     if (isOffline) {
       log.error("AUTH SERVICE IS OFFLINE!");
     }
-
-    if (appAccessToken.accessToken == null || appAccessToken.accessToken.isBlank()) {
-      log.info("Getting new app token from Facebook");
-      if (isOffline) {
-        appAccessToken = new FacebookAppAccessToken("offline_fb_app_token_placeholder", "bearer");
-      } else {
-        appAccessToken = rest.getForObject(Objects.requireNonNull(env.getProperty("facebook.uri.get_app_token"),
-                "Facebook app access token property is not set. Check 'facebook.uri.get_app_token' in application.yml"),
-            FacebookAppAccessToken.class);
-        log.debug("Acquired new FB app token [{}]:{}", Objects.requireNonNull(appAccessToken).getTokenType(),
-            appAccessToken.getAccessToken());
-      }
-    }
   }
 
   /**
@@ -87,8 +80,8 @@ public class AuthService {
    * @return json of jwt token of this app
    */
   public OAuth2AccessToken generateJwtByFacebookCode(String code) {
-    FacebookTokenResponse token = rest.getForObject(format(facebookGetTokenByCodeUri, code),
-        FacebookTokenResponse.class);
+    FacebookTokenResponse token = callFacebook("token_by_code",
+        () -> rest.getForObject(format(facebookGetTokenByCodeUri, code), FacebookTokenResponse.class));
     if (token == null || token.hasErrors()) {
       log.info("Acquiring user token by code failed");
       throw new TemplateMessageException(ErrorCode.INVALID_USER_CREDENTIALS,
@@ -154,9 +147,15 @@ public class AuthService {
     return generatedJwtToken;
   }
 
+  /**
+   * Verifies the token and provides the profile of its user. The profile request depends on the user id returned by
+   * the verification, so the two run one after another; the profile is served from {@link FacebookProfileCache} when
+   * the user has logged in recently.
+   */
   private FacebookUserProfile getFacebookUserProfile(String token) {
-    FacebookTokenInfo tokenData = rest.getForObject(
-        format(facebookTokenVerifyUri, token, appAccessToken.getAccessToken()), FacebookTokenInfo.class);
+    String appToken = appTokenProvider.getAccessToken();
+    FacebookTokenInfo tokenData = callFacebook("debug_token",
+        () -> rest.getForObject(format(facebookTokenVerifyUri, token, appToken), FacebookTokenInfo.class));
 
     log.debug("Token data retrieved: {}", tokenData);
 
@@ -168,7 +167,31 @@ public class AuthService {
       throw new ApplicationErrorException(ErrorCode.INVALID_USER_CREDENTIALS, "Cannot verify user token");
     }
 
-    return rest.getForObject(format(facebookUserProfileUri, tokenData.data.userId, token), FacebookUserProfile.class);
+    String userId = tokenData.data.userId;
+    FacebookUserProfile profile = profileCache.get(userId);
+    if (profile == null) {
+      profile = callFacebook("user_profile",
+          () -> rest.getForObject(format(facebookUserProfileUri, userId, token), FacebookUserProfile.class));
+      if (profile != null && profile.getEmail() != null && !profile.getEmail().isBlank()) {
+        profileCache.put(userId, profile);
+      }
+    }
+    return profile;
+  }
+
+  /**
+   * Times a request to Facebook as {@code facebook.requests}, tagged by the call and whether it failed.
+   */
+  private <T> T callFacebook(String call, Supplier<T> request) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      T response = request.get();
+      outcome = "success";
+      return response;
+    } finally {
+      sample.stop(meterRegistry.timer("facebook.requests", "call", call, "outcome", outcome));
+    }
   }
 
   /**
@@ -186,6 +209,8 @@ public class AuthService {
     @JsonAlias("token_type")
     private String tokenType;
 
+    @JsonAlias("expires_in")
+    private Long expiresIn;
   }
 
   /**
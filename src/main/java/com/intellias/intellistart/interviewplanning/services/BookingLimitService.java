@@ -31,7 +31,7 @@ public class BookingLimitService {
    * @return Booking limit
    */
   public BookingLimit saveBookingLimit(Long interviewerId, BookingLimitDto bookingLimitRequest) {
-    if (!userRepository.existsById(interviewerId)) {
+    if (userRepository.findById(interviewerId).isEmpty()) {
       throw NotFoundException.interviewer(interviewerId);
     }
     if (bookingLimitRequest.getWeekNum() != weekService.getNextWeekNum()) {
@@ -60,7 +60,7 @@ public class BookingLimitService {
    * @return BookingLimit
    */
   public BookingLimit findBookingLimit(Long interviewerId, Integer weekNum) {
-    if (!userRepository.existsById(interviewerId)) {
+    if (userRepository.findById(interviewerId).isEmpty()) {
       throw NotFoundException.interviewer(interviewerId);
     }
     return bookingLimitRepository.findByInterviewerIdAndWeekNum(interviewerId, weekNum)
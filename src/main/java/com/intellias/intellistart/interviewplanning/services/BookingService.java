@@ -1,6 +1,10 @@
 package com.intellias.intellistart.interviewplanning.services;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
 import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.Booking;
@@ -13,47 +17,132 @@ import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSl
 import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.utils.mappers.BookingMapper;
 import com.intellias.intellistart.interviewplanning.validators.PeriodValidator;
-import java.util.ArrayList;
+import com.intellias.intellistart.interviewplanning.validators.SlotValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 /**
  * Booking service.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingService {
 
+  static final int MAX_CREATE_ATTEMPTS = 3;
+
   private final BookingRepository bookingRepository;
   private final BookingLimitRepository bookingLimitRepository;
   private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   private final CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private final TransactionOperations transactionOperations;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry;
 
   /**
-   * Creates new booking.
+   * Creates new booking. Limit check, overlap check and insert run in one transaction that holds a row lock on the
+   * interviewer's booking limit for the week, so concurrent requests for the same interviewer are serialized and
+   * cannot exceed the limit or double-book a period. Lost races are retried a few times before giving up.
    *
    * @param bookingDto object with data to create
    * @return object with created booking data
-   * @throws NotFoundException if slot with the specified id is not found
+   * @throws NotFoundException         if slot with the specified id is not found
+   * @throws ApplicationErrorException if booking could not be created because of concurrent changes
    */
   public BookingDto createBooking(BookingDto bookingDto) {
-    validate(bookingDto);
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String exception = "none";
+    try {
+      validate(bookingDto);
+      return executeWithRetries(() -> createBookingInTransaction(bookingDto));
+    } catch (RuntimeException e) {
+      exception = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      sample.stop(meterRegistry.timer("bookings.create", "exception", exception));
+    }
+  }
+
+  /**
+   * Creates new bookings in one transaction: either all of them are created or none. Every booking is checked the
+   * same way as by {@link #createBooking}, including against the bookings created before it in the batch.
+   *
+   * @param bookingDtos bookings to create
+   * @return created bookings in the order of the request
+   * @throws NotFoundException         if a slot with the specified id is not found
+   * @throws InvalidInputException     if there are too many bookings or any of them is invalid
+   * @throws ApplicationErrorException if bookings could not be created because of concurrent changes
+   */
+  public List<BookingDto> createBookings(List<BookingDto> bookingDtos) {
+    SlotValidator.validateBatchSize(bookingDtos);
+    bookingDtos.forEach(this::validate);
+    return executeWithRetries(() -> bookingDtos.stream()
+        .map(this::createBookingInTransaction)
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Runs the action in a transaction, retrying it when it loses a race: on lock and serialization failures, and on a
+   * concurrent insert of the same booking limit. Other integrity violations are not caused by a race and are rethrown.
+   */
+  private <T> T executeWithRetries(Supplier<T> action) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return transactionOperations.execute(status -> action.get());
+      } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+        if (e instanceof DataIntegrityViolationException && !isBookingLimitInsertRace(e)) {
+          throw e;
+        }
+        if (attempt >= MAX_CREATE_ATTEMPTS) {
+          throw new ApplicationErrorException(ErrorCode.BOOKING_CONFLICT);
+        }
+        log.debug("Booking creation attempt {} lost a race, retrying: {}", attempt, e.getMessage());
+      }
+    }
+  }
+
+  private static boolean isBookingLimitInsertRace(RuntimeException e) {
+    if (!(e.getCause() instanceof ConstraintViolationException)) {
+      return false;
+    }
+    // PostgreSQL reports the name of the constraint, H2 the name of its index starting with it
+    String constraintName = ((ConstraintViolationException) e.getCause()).getConstraintName();
+    return constraintName != null
+        && constraintName.toLowerCase(Locale.ROOT).contains(BookingLimit.INTERVIEWER_WEEK_CONSTRAINT);
+  }
+
+  private BookingDto createBookingInTransaction(BookingDto bookingDto) {
     Long interviewerSlotId = bookingDto.getInterviewerSlotId();
     InterviewerTimeSlot interviewerSlot = interviewerTimeSlotRepository.findById(interviewerSlotId)
         .orElseThrow(() -> NotFoundException.timeSlot(interviewerSlotId));
 
     checkFitsBookingLimit(interviewerSlot);
+    SlotValidator.validateSlotOverlapping(bookingDto, bookingRepository.findByInterviewerSlot(interviewerSlot));
 
     Long candidateSlotId = bookingDto.getCandidateSlotId();
     CandidateTimeSlot candidateSlot = candidateTimeSlotRepository.findById(candidateSlotId)
         .orElseThrow(() -> NotFoundException.timeSlot(candidateSlotId));
+    SlotValidator.validateSlotOverlapping(bookingDto, bookingRepository.findByCandidateSlot(candidateSlot));
 
     Booking booking = BookingMapper.mapToEntity(bookingDto, interviewerSlot, candidateSlot);
 
-    return BookingMapper.mapToDto(bookingRepository.save(booking));
+    BookingDto savedBooking = BookingMapper.mapToDto(bookingRepository.save(booking));
+    publishScheduleChanged(interviewerSlot, Change.BOOKING_CREATED, savedBooking);
+    return savedBooking;
   }
 
   /**
@@ -76,7 +165,8 @@ public class BookingService {
   }
 
   /**
-   * Checks if the interviewer booking limit allows to create a new booking.
+   * Checks if the interviewer booking limit allows to create a new booking. Locks the booking limit row until the end
+   * of the current transaction.
    *
    * @param interviewerSlot interviewer time slot
    */
@@ -86,43 +176,35 @@ public class BookingService {
 
     BookingLimit bookingLimit = getOrCreateBookingLimit(interviewerId, weekNum);
     int maxBookings = bookingLimit.getValue();
-    int currentBookingsCount = getBookingsCountForWeek(interviewerId, weekNum);
+    int currentBookingsCount = bookingRepository
+        .countByInterviewerSlotInterviewerIdAndInterviewerSlotWeekNum(interviewerId, weekNum);
 
     if (maxBookings < currentBookingsCount + 1) {
+      meterRegistry.counter("bookings.limit.rejections").increment();
       throw InvalidInputException.exceedsBookingLimit(maxBookings);
     }
   }
 
   private BookingLimit getOrCreateBookingLimit(Long interviewerId, int weekNum) {
-    Optional<BookingLimit> bookingLimit = bookingLimitRepository.findByInterviewerIdAndWeekNum(interviewerId, weekNum);
+    Optional<BookingLimit> bookingLimit = bookingLimitRepository
+        .findLockedByInterviewerIdAndWeekNum(interviewerId, weekNum);
     if (bookingLimit.isEmpty()) {
       return saveAndGetPreviousBookingLimit(interviewerId, weekNum);
     }
     return bookingLimit.get();
   }
 
+  /**
+   * Inserts the limit for the week, copying the value of the latest previous week. The row is flushed immediately: a
+   * concurrent insert of the same week fails on the unique constraint and is retried, while the winner keeps the new
+   * row locked until it commits.
+   */
   private BookingLimit saveAndGetPreviousBookingLimit(Long interviewerId, int weekNum) {
-    List<BookingLimit> bookingLimits = bookingLimitRepository.findByInterviewerIdAndWeekNumLessThan(interviewerId,
-        weekNum);
-    if (bookingLimits.isEmpty()) {
-      return bookingLimitRepository.save(new BookingLimit(interviewerId, weekNum, Integer.MAX_VALUE));
-    }
-
-    bookingLimits.sort(Comparator.comparing(BookingLimit::getWeekNum).reversed());
-    BookingLimit bookingLimit = bookingLimits.get(0);
-    bookingLimit.setWeekNum(weekNum);
-    return bookingLimitRepository.save(bookingLimit);
-  }
-
-  private int getBookingsCountForWeek(Long interviewerId, int weekNum) {
-    List<InterviewerTimeSlot> weekInterviewerSlots =
-        interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(interviewerId, weekNum);
-
-    List<Booking> weekInterviewerBookings = new ArrayList<>();
-    for (InterviewerTimeSlot slot : weekInterviewerSlots) {
-      weekInterviewerBookings.addAll(bookingRepository.findByInterviewerSlot(slot));
-    }
-    return weekInterviewerBookings.size();
+    int limit = bookingLimitRepository.findByInterviewerIdAndWeekNumLessThan(interviewerId, weekNum).stream()
+        .max(Comparator.comparing(BookingLimit::getWeekNum))
+        .map(BookingLimit::getValue)
+        .orElse(Integer.MAX_VALUE);
+    return bookingLimitRepository.saveAndFlush(new BookingLimit(interviewerId, weekNum, limit));
   }
 
   /**
@@ -141,7 +223,9 @@ public class BookingService {
     booking.setTo(bookingDto.getTo());
     booking.setSubject(bookingDto.getSubject());
     booking.setDescription(bookingDto.getDescription());
-    return BookingMapper.mapToDto(bookingRepository.save(booking));
+    BookingDto savedBooking = BookingMapper.mapToDto(bookingRepository.save(booking));
+    publishScheduleChanged(booking.getInterviewerSlot(), Change.BOOKING_UPDATED, savedBooking);
+    return savedBooking;
   }
 
   /**
@@ -155,6 +239,13 @@ public class BookingService {
     Booking booking = bookingRepository.findById(id)
         .orElseThrow(() -> NotFoundException.booking(id));
     bookingRepository.delete(booking);
-    return BookingMapper.mapToDto(booking);
+    BookingDto deletedBooking = BookingMapper.mapToDto(booking);
+    publishScheduleChanged(booking.getInterviewerSlot(), Change.BOOKING_DELETED, deletedBooking);
+    return deletedBooking;
+  }
+
+  private void publishScheduleChanged(InterviewerTimeSlot interviewerSlot, Change change, BookingDto booking) {
+    eventPublisher.publishEvent(new ScheduleChangedEvent(interviewerSlot.getWeekNum(),
+        interviewerSlot.getInterviewer().getId(), change, booking));
   }
 }
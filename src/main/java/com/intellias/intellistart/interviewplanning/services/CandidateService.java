@@ -1,19 +1,33 @@
 package com.intellias.intellistart.interviewplanning.services;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
+import com.intellias.intellistart.interviewplanning.models.Booking;
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
 import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.utils.KeysetPagination;
 import com.intellias.intellistart.interviewplanning.utils.mappers.CandidateSlotMapper;
 import com.intellias.intellistart.interviewplanning.validators.PeriodValidator;
 import com.intellias.intellistart.interviewplanning.validators.SlotValidator;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -23,9 +37,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CandidateService {
 
+  static final int STREAM_PAGE_SIZE = 500;
+
   private final CandidateTimeSlotRepository candidateTimeSlotRepository;
   private final BookingRepository bookingRepository;
   private final SlotValidator slotValidator;
+  private final WeekService weekService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Create slot for candidate. Candidate slot must be in the future.
@@ -41,9 +59,45 @@ public class CandidateService {
         candidateSlotDto.getDate(), email);
     SlotValidator.validateSlotOverlapping(candidateSlotDto, slots);
 
-    return CandidateSlotMapper.mapToDto(candidateTimeSlotRepository.save(
-        CandidateSlotMapper.mapToEntity(email, candidateSlotDto)
-    ));
+    CandidateSlotDto savedSlot = CandidateSlotMapper.mapToDto(candidateTimeSlotRepository.save(
+        CandidateSlotMapper.mapToEntity(email, candidateSlotDto)));
+    publishScheduleChanged(savedSlot.getDate(), Change.CANDIDATE_SLOT_ADDED, savedSlot);
+    return savedSlot;
+  }
+
+  /**
+   * Create several slots for candidate at once. The slots are validated together and inserted in JDBC batches.
+   *
+   * @param email             candidate email
+   * @param candidateSlotDtos candidate slot dtos
+   * @return created slots
+   */
+  public List<CandidateSlotDto> createSlots(String email, List<CandidateSlotDto> candidateSlotDtos) {
+    SlotValidator.validateBatchSize(candidateSlotDtos);
+    for (CandidateSlotDto candidateSlotDto : candidateSlotDtos) {
+      slotValidator.validateCandidateSlot(candidateSlotDto);
+      PeriodValidator.validate(candidateSlotDto);
+    }
+    Set<LocalDate> dates = candidateSlotDtos.stream()
+        .map(CandidateSlotDto::getDate)
+        .collect(Collectors.toSet());
+    Map<LocalDate, List<CandidateTimeSlot>> existingSlots = candidateTimeSlotRepository
+        .findByEmailAndDateIn(email, dates).stream()
+        .collect(Collectors.groupingBy(CandidateTimeSlot::getDate));
+    candidateSlotDtos.stream()
+        .collect(Collectors.groupingBy(CandidateSlotDto::getDate))
+        .forEach((date, slots) -> SlotValidator.validateSlotsOverlapping(slots,
+            existingSlots.getOrDefault(date, List.of())));
+
+    List<CandidateSlotDto> savedSlots = candidateTimeSlotRepository.saveAll(candidateSlotDtos.stream()
+            .map(candidateSlotDto -> CandidateSlotMapper.mapToEntity(email, candidateSlotDto))
+            .collect(Collectors.toList()))
+        .stream()
+        .map(CandidateSlotMapper::mapToDto)
+        .collect(Collectors.toList());
+    savedSlots.forEach(savedSlot -> publishScheduleChanged(savedSlot.getDate(), Change.CANDIDATE_SLOT_ADDED,
+        savedSlot));
+    return savedSlots;
   }
 
   /**
@@ -66,6 +120,70 @@ public class CandidateService {
     return getCandidateSlotsWithBookings(candidateTimeSlotRepository.findByEmail(email));
   }
 
+  /**
+   * Provides a page of time slots of the candidate, ordered by date and start time.
+   *
+   * @param email  email of candidate to get slots from
+   * @param cursor cursor of the previous page, null for the first page
+   * @param limit  page size
+   * @return page of time slots with bookings
+   */
+  public CursorPageDto<CandidateSlotDto> getCandidateSlots(String email, String cursor, int limit) {
+    List<CandidateTimeSlot> rows;
+    if (cursor == null) {
+      rows = candidateTimeSlotRepository.findByEmailOrderByDateAscFromAscIdAsc(email,
+          KeysetPagination.firstRows(limit));
+    } else {
+      CandidateTimeSlot last = KeysetPagination.decodeCursor(cursor, key -> {
+        CandidateTimeSlot slot = new CandidateTimeSlot();
+        slot.setDate(LocalDate.parse(key[0]));
+        slot.setFrom(LocalTime.parse(key[1]));
+        slot.setId(Long.valueOf(key[2]));
+        return slot;
+      });
+      rows = candidateTimeSlotRepository.findByEmailAfter(email, last.getDate(), last.getFrom(), last.getId(),
+          KeysetPagination.firstRows(limit));
+    }
+    return KeysetPagination.toPage(rows, limit, this::mapWithBookings,
+        slot -> KeysetPagination.encodeCursor(slot.getDate(), slot.getFrom(), slot.getId()));
+  }
+
+  /**
+   * Passes all time slots of the candidate to the consumer one by one, ordered by date and start time. Slots are read
+   * page by page with the keyset of {@link #getCandidateSlots} and their bookings are loaded per page, each query in a
+   * short transaction of its own, so a slow consumer holds neither a database connection nor more than a page of
+   * slots in memory.
+   *
+   * @param email    email of candidate to get slots from
+   * @param consumer consumer of time slots with bookings
+   */
+  public void streamCandidateSlots(String email, Consumer<CandidateSlotDto> consumer) {
+    Pageable page = PageRequest.of(0, STREAM_PAGE_SIZE);
+    List<CandidateTimeSlot> slots = candidateTimeSlotRepository.findByEmailOrderByDateAscFromAscIdAsc(email, page);
+    while (!slots.isEmpty()) {
+      mapWithBookings(slots).forEach(consumer);
+      if (slots.size() < STREAM_PAGE_SIZE) {
+        return;
+      }
+      CandidateTimeSlot last = slots.get(slots.size() - 1);
+      slots = candidateTimeSlotRepository.findByEmailAfter(email, last.getDate(), last.getFrom(), last.getId(), page);
+    }
+  }
+
+  /**
+   * Maps slots sorted by date and start time, loading bookings of all of them in a single query.
+   */
+  private List<CandidateSlotDto> mapWithBookings(List<CandidateTimeSlot> slots) {
+    if (slots.isEmpty()) {
+      return List.of();
+    }
+    Map<CandidateTimeSlot, List<Booking>> bookings = bookingRepository.findByCandidateSlotIn(slots).stream()
+        .collect(Collectors.groupingBy(Booking::getCandidateSlot));
+    return slots.stream()
+        .map(slot -> CandidateSlotMapper.mapToDtoWithBookings(slot, bookings.getOrDefault(slot, List.of())))
+        .collect(Collectors.toList());
+  }
+
   /**
    * Returns candidate slots with bookings.
    *
@@ -101,18 +219,25 @@ public class CandidateService {
     slotValidator.validateCandidateSlot(candidateSlotDto);
     slotValidator.validateCandidateSlot(CandidateSlotMapper.mapToDto(timeSlot));
     PeriodValidator.validate(candidateSlotDto);
-    SlotValidator.validateSlotOverlapping(
-        candidateSlotDto,
-        candidateTimeSlotRepository.findByDateAndEmail(candidateSlotDto.getDate(), email)
-            .stream()
-            .filter(s -> !s.getId().equals(slotId))
-            .collect(Collectors.toList())
-    );
+    SlotValidator.validateSlotOverlapping(candidateSlotDto,
+        candidateTimeSlotRepository.findByDateAndEmailAndIdNot(candidateSlotDto.getDate(), email, slotId));
 
+    final LocalDate previousDate = timeSlot.getDate();
     timeSlot.setFrom(candidateSlotDto.getFrom());
     timeSlot.setTo(candidateSlotDto.getTo());
     timeSlot.setDate(candidateSlotDto.getDate());
-    return CandidateSlotMapper.mapToDto(candidateTimeSlotRepository.save(timeSlot));
+    CandidateSlotDto savedSlot = CandidateSlotMapper.mapToDto(candidateTimeSlotRepository.save(timeSlot));
+    if (weekService.getWeekNumByDate(savedSlot.getDate()) == weekService.getWeekNumByDate(previousDate)) {
+      publishScheduleChanged(savedSlot.getDate(), Change.CANDIDATE_SLOT_UPDATED, savedSlot);
+    } else {
+      publishScheduleChanged(previousDate, Change.CANDIDATE_SLOT_REMOVED, savedSlot);
+      publishScheduleChanged(savedSlot.getDate(), Change.CANDIDATE_SLOT_ADDED, savedSlot);
+    }
+    return savedSlot;
+  }
+
+  private void publishScheduleChanged(LocalDate date, Change change, CandidateSlotDto slot) {
+    eventPublisher.publishEvent(new ScheduleChangedEvent(weekService.getWeekNumByDate(date), null, change, slot));
   }
 
   private boolean hasBooking(CandidateTimeSlot candidateTimeSlot) {
@@ -136,7 +261,9 @@ public class CandidateService {
       throw new ApplicationErrorException(ErrorCode.CANNOT_EDIT_SLOT_WITH_BOOKING);
     }
     candidateTimeSlotRepository.delete(timeSlot);
-    return CandidateSlotMapper.mapToDto(timeSlot);
+    CandidateSlotDto deletedSlot = CandidateSlotMapper.mapToDto(timeSlot);
+    publishScheduleChanged(deletedSlot.getDate(), Change.CANDIDATE_SLOT_REMOVED, deletedSlot);
+    return deletedSlot;
   }
 
 }
@@ -5,6 +5,7 @@ import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlo
 import com.intellias.intellistart.interviewplanning.controllers.dto.DashboardDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.DayDashboardDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
@@ -17,12 +18,16 @@ import com.intellias.intellistart.interviewplanning.repositories.BookingReposito
 import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import com.intellias.intellistart.interviewplanning.services.ArchiveService.ArchivedSchedule;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
 import com.intellias.intellistart.interviewplanning.utils.mappers.BookingMapper;
 import com.intellias.intellistart.interviewplanning.utils.mappers.CandidateSlotMapper;
 import com.intellias.intellistart.interviewplanning.utils.mappers.InterviewerSlotMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.TextStyle;
 import java.util.Comparator;
 import java.util.List;
@@ -30,9 +35,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -42,63 +48,148 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CoordinatorService {
 
+  private static final List<DayOfWeek> WORKING_DAYS = List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY,
+      DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+
   private final WeekService weekService;
   private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   private final CandidateTimeSlotRepository candidateTimeSlotRepository;
   private final BookingRepository bookingRepository;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final RecurringSlotService recurringSlotService;
+  private final DashboardCache dashboardCache;
+  private final ArchiveService archiveService;
+  private final MeterRegistry meterRegistry;
 
   /**
-   * Returns week dashboard with time slots and bookings by a specified number of week.
+   * Returns week dashboard with time slots and bookings by a specified number of week. The dashboard is served from
+   * {@link DashboardCache} until the schedule of the week changes.
    *
    * @param weekNum number of the week
    * @return dashboard with time slots and bookings for the week
    */
   public DashboardDto getWeekDashboard(int weekNum) {
+    recurringSlotService.materializeWeek(weekNum);
+    return dashboardCache.getWeekDashboard(weekNum,
+        () -> dashboardBuildTimer("week").record(() -> buildWeekDashboard(weekNum)));
+  }
+
+  /**
+   * Builds week dashboard from the database. Slots and bookings of the whole week are loaded at once and then
+   * distributed between the days, so the number of queries does not depend on the number of slots. Weeks behind the
+   * archive horizon are completed from the archive.
+   */
+  private DashboardDto buildWeekDashboard(int weekNum) {
+    LocalDate monday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.MONDAY);
+    LocalDate friday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.FRIDAY);
+    ArchivedSchedule archived = archiveService.isArchived(weekNum)
+        ? archiveService.getWeek(weekNum, monday, friday) : ArchivedSchedule.EMPTY;
+
+    Map<DayOfWeek, List<InterviewerTimeSlot>> interviewerSlots = concat(
+        interviewerTimeSlotRepository.findByWeekNum(weekNum), archived.getInterviewerSlots()).stream()
+        .collect(Collectors.groupingBy(InterviewerTimeSlot::getDayOfWeek));
+    Map<LocalDate, List<CandidateTimeSlot>> candidateSlots = concat(
+        candidateTimeSlotRepository.findByWeekNum(weekNum), archived.getCandidateSlots()).stream()
+        .collect(Collectors.groupingBy(CandidateTimeSlot::getDate));
+    List<Booking> bookings = concat(bookingRepository.findAllOfWeek(weekNum),
+        archived.getBookings());
+
     Set<DayDashboardDto> set = new TreeSet<>(Comparator.comparing(DayDashboardDto::getDate));
-    set.add(getDayDashboard(weekNum, DayOfWeek.MONDAY));
-    set.add(getDayDashboard(weekNum, DayOfWeek.TUESDAY));
-    set.add(getDayDashboard(weekNum, DayOfWeek.WEDNESDAY));
-    set.add(getDayDashboard(weekNum, DayOfWeek.THURSDAY));
-    set.add(getDayDashboard(weekNum, DayOfWeek.FRIDAY));
+    for (DayOfWeek day : WORKING_DAYS) {
+      LocalDate date = weekService.getDateByWeekNumAndDayOfWeek(weekNum, day);
+      set.add(buildDayDashboard(date, day,
+          interviewerSlots.getOrDefault(day, List.of()),
+          candidateSlots.getOrDefault(date, List.of()),
+          bookings));
+    }
     return new DashboardDto(set);
-
   }
 
   /**
-   * Returns day dashboard with time slots and bookings by a specified week number and day of week.
+   * Returns day dashboard with time slots and bookings by a specified week number and day of week. The dashboard is
+   * served from {@link DashboardCache} until the schedule of the week changes.
    *
    * @param weekNum number of the week
    * @param day     day of the week
    * @return dashboard with time slots and bookings for the day
    */
   public DayDashboardDto getDayDashboard(int weekNum, DayOfWeek day) {
+    recurringSlotService.materializeWeek(weekNum);
+    return dashboardCache.getDayDashboard(weekNum, day,
+        () -> dashboardBuildTimer("day").record(() -> buildDayDashboard(weekNum, day)));
+  }
+
+  private Timer dashboardBuildTimer(String scope) {
+    return Timer.builder("dashboard.build")
+        .description("Building a dashboard that is not cached")
+        .tag("scope", scope)
+        .register(meterRegistry);
+  }
+
+  private DayDashboardDto buildDayDashboard(int weekNum, DayOfWeek day) {
     LocalDate date = weekService.getDateByWeekNumAndDayOfWeek(weekNum, day);
+    ArchivedSchedule archived = archiveService.isArchived(weekNum)
+        ? archiveService.getDay(weekNum, day, date) : ArchivedSchedule.EMPTY;
+
+    List<InterviewerTimeSlot> interviewerSlots = concat(interviewerTimeSlotRepository
+        .findByWeekNumAndDayOfWeek(weekNum, day), archived.getInterviewerSlots());
+    List<CandidateTimeSlot> candidateSlots = concat(candidateTimeSlotRepository.findByDate(date),
+        archived.getCandidateSlots());
+    List<Booking> bookings = concat(bookingRepository.findAllOfDate(date), archived.getBookings());
+
+    return buildDayDashboard(date, day, interviewerSlots, candidateSlots, bookings);
+  }
 
-    List<InterviewerTimeSlot> interviewerSlots = interviewerTimeSlotRepository
-        .findByWeekNumAndDayOfWeek(weekNum, day);
-    List<CandidateTimeSlot> candidateSlots = candidateTimeSlotRepository.findByDate(date);
-    List<Booking> bookings = bookingRepository.findByCandidateSlotDate(date);
+  /**
+   * Assembles day dashboard from already loaded slots of the day and bookings.
+   *
+   * @param date             date of the day
+   * @param day              day of the week
+   * @param interviewerSlots interviewer slots of the day
+   * @param candidateSlots   candidate slots of the day
+   * @param bookings         bookings that may belong to the slots of the day
+   * @return dashboard with time slots and bookings for the day
+   */
+  private DayDashboardDto buildDayDashboard(LocalDate date, DayOfWeek day,
+      List<InterviewerTimeSlot> interviewerSlots, List<CandidateTimeSlot> candidateSlots,
+      List<Booking> bookings) {
+    Map<Long, List<Booking>> bookingsByInterviewerSlot = bookings.stream()
+        .collect(Collectors.groupingBy(booking -> booking.getInterviewerSlot().getId()));
+    Map<Long, List<Booking>> bookingsByCandidateSlot = bookings.stream()
+        .collect(Collectors.groupingBy(booking -> booking.getCandidateSlot().getId()));
+    List<Booking> dayBookings = candidateSlots.stream()
+        .flatMap(slot -> bookingsByCandidateSlot.getOrDefault(slot.getId(), List.of()).stream())
+        .collect(Collectors.toList());
 
     return DayDashboardDto.builder()
         .date(date)
         .dayOfWeek(day.getDisplayName(TextStyle.SHORT, Locale.US))
-        .interviewerSlots(getInterviewerSlotsWithBookings(interviewerSlots))
-        .candidateSlots(getCandidateSlotsWithBookings(candidateSlots))
-        .bookings(getBookingMap(bookings))
+        .interviewerSlots(getInterviewerSlotsWithBookings(interviewerSlots, bookingsByInterviewerSlot))
+        .candidateSlots(getCandidateSlotsWithBookings(candidateSlots, bookingsByCandidateSlot))
+        .bookings(getBookingMap(dayBookings))
         .build();
   }
 
+  private static <T> List<T> concat(List<T> live, List<T> archived) {
+    if (archived.isEmpty()) {
+      return live;
+    }
+    return Stream.concat(live.stream(), archived.stream()).collect(Collectors.toList());
+  }
+
   /**
    * Returns interviewer slots with bookings.
    *
-   * @param slots interviewer time slots
+   * @param slots             interviewer time slots
+   * @param bookingsBySlotIds bookings grouped by id of interviewer slot
    * @return a list of interviewer time slots with bookings
    */
-  public List<InterviewerSlotDto> getInterviewerSlotsWithBookings(List<InterviewerTimeSlot> slots) {
+  public List<InterviewerSlotDto> getInterviewerSlotsWithBookings(List<InterviewerTimeSlot> slots,
+      Map<Long, List<Booking>> bookingsBySlotIds) {
     return slots.stream()
         .map(slot -> InterviewerSlotMapper.mapToDtoWithBookings(slot,
-            bookingRepository.findByInterviewerSlot(slot)))
+            bookingsBySlotIds.getOrDefault(slot.getId(), List.of())))
         .sorted(Comparator.comparing(InterviewerSlotDto::getFrom))
         .collect(Collectors.toList());
   }
@@ -106,13 +197,15 @@ public class CoordinatorService {
   /**
    * Returns candidate slots with bookings.
    *
-   * @param slots candidate time slots
+   * @param slots             candidate time slots
+   * @param bookingsBySlotIds bookings grouped by id of candidate slot
    * @return a list of candidate time slots with bookings
    */
-  public List<CandidateSlotDto> getCandidateSlotsWithBookings(List<CandidateTimeSlot> slots) {
+  public List<CandidateSlotDto> getCandidateSlotsWithBookings(List<CandidateTimeSlot> slots,
+      Map<Long, List<Booking>> bookingsBySlotIds) {
     return slots.stream()
         .map(slot -> CandidateSlotMapper.mapToDtoWithBookings(slot,
-            bookingRepository.findByCandidateSlot(slot)))
+            bookingsBySlotIds.getOrDefault(slot.getId(), List.of())))
         .sorted(Comparator.comparing(CandidateSlotDto::getFrom))
         .collect(Collectors.toList());
   }
@@ -124,9 +217,7 @@ public class CoordinatorService {
    * @return map of bookings as map bookingId bookingData
    */
   public Map<Long, BookingDto> getBookingMap(List<Booking> bookings) {
-    return bookings.stream()
-        .map(BookingMapper::mapToDto)
-        .collect(Collectors.toMap(BookingDto::getId, Function.identity()));
+    return BookingMapper.mapToDtoMap(bookings);
   }
 
   /**
@@ -144,7 +235,7 @@ public class CoordinatorService {
     User user = userRepository.findByEmail(email)
         .orElseGet(() -> new User(email, UserRole.INTERVIEWER));
     user.setRole(UserRole.INTERVIEWER);
-    return userRepository.save(user);
+    return saveRoleChange(user);
   }
 
   /**
@@ -161,7 +252,7 @@ public class CoordinatorService {
       throw new ApplicationErrorException(ErrorCode.REVOKE_USER_WITH_SLOT);
     }
     user.setRole(UserRole.COORDINATOR);
-    return userRepository.save(user);
+    return saveRoleChange(user);
   }
 
   /**
@@ -181,7 +272,7 @@ public class CoordinatorService {
       throw new ApplicationErrorException(ErrorCode.REVOKE_USER_WITH_SLOT);
     }
     user.setRole(UserRole.CANDIDATE);
-    return userRepository.save(user);
+    return saveRoleChange(user);
   }
 
   /**
@@ -202,7 +293,7 @@ public class CoordinatorService {
       throw NotFoundException.coordinator(id);
     }
     user.setRole(UserRole.CANDIDATE);
-    return userRepository.save(user);
+    return saveRoleChange(user);
   }
 
   /**
@@ -222,15 +313,22 @@ public class CoordinatorService {
    * @return true if user has active slots, otherwise - false
    */
   private boolean hasActiveSlot(User user) {
-    List<InterviewerTimeSlot> slots = interviewerTimeSlotRepository.findByInterviewer(user);
-    for (InterviewerTimeSlot slot : slots) {
-      if (weekService.getDateByWeekNumAndDayOfWeek(slot.getWeekNum(), slot.getDayOfWeek())
-          .atTime(slot.getFrom())
-          .isAfter(weekService.getCurrentDateTime())) {
-        return true;
-      }
-    }
-    return false;
+    LocalDateTime now = weekService.getCurrentDateTime();
+    return interviewerTimeSlotRepository.existsStartingAfter(user.getId(),
+        weekService.getWeekNumByDate(now.toLocalDate()), now.getDayOfWeek().ordinal(), now.toLocalTime());
+  }
+
+  /**
+   * Saves user with the new role and the next role version and notifies listeners about the change.
+   *
+   * @param user user with the new role
+   * @return saved user
+   */
+  private User saveRoleChange(User user) {
+    user.setRoleVersion(user.getRoleVersion() + 1);
+    User savedUser = userRepository.save(user);
+    eventPublisher.publishEvent(new UserRoleChangedEvent(user.getEmail(), user.getRole(), user.getRoleVersion()));
+    return savedUser;
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intellias.intellistart.interviewplanning.controllers.dto.DashboardDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.DayDashboardDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache of week and day dashboards. Entries of a week are evicted as soon as its schedule changes, after
+ * the change is committed; the time to live only bounds how long an entry survives a change made outside the
+ * services, e.g. directly in the database.
+ *
+ * <p>Dashboards are built on the thread of the first reader, outside of the cache's locks, and concurrent readers of
+ * the same key wait for its result. An eviction only removes the pending result without waiting for the build, so a
+ * slow query never holds up the transaction that changed the schedule.
+ */
+@Component
+@Slf4j
+public class DashboardCache implements MeterBinder {
+
+  static final String WEEKS_CACHE_NAME = "dashboard.weeks";
+  static final String DAYS_CACHE_NAME = "dashboard.days";
+
+  private final AsyncCache<Integer, DashboardDto> weeks;
+  private final AsyncCache<Entry<Integer, DayOfWeek>, DayDashboardDto> days;
+
+  /**
+   * Creates the cache.
+   *
+   * @param maximumSize maximum number of cached dashboards of each kind
+   * @param timeToLive  maximum time a dashboard is served without being rebuilt
+   */
+  public DashboardCache(@Value("${dashboard.cache.maximum-size:100}") long maximumSize,
+      @Value("${dashboard.cache.time-to-live:PT10M}") Duration timeToLive) {
+    this.weeks = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .buildAsync();
+    this.days = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .buildAsync();
+  }
+
+  /**
+   * Returns cached dashboard of the week, building it if absent. Concurrent readers of the same week wait for a single
+   * build. A build in progress when the week is evicted is returned to its readers but not kept, so a dashboard built
+   * from data older than the eviction is never served to readers coming after it.
+   *
+   * @param weekNum number of the week
+   * @param builder builds the dashboard from the database
+   * @return dashboard of the week
+   */
+  public DashboardDto getWeekDashboard(int weekNum, Supplier<DashboardDto> builder) {
+    return get(weeks, weekNum, builder);
+  }
+
+  /**
+   * Returns cached dashboard of the day, building it if absent.
+   *
+   * @param weekNum number of the week
+   * @param day     day of the week
+   * @param builder builds the dashboard from the database
+   * @return dashboard of the day
+   */
+  public DayDashboardDto getDayDashboard(int weekNum, DayOfWeek day, Supplier<DayDashboardDto> builder) {
+    return get(days, Map.entry(weekNum, day), builder);
+  }
+
+  /**
+   * Evicts dashboards of the week whose schedule has changed. Runs after the transaction of the change commits, or
+   * right away if there is none.
+   *
+   * @param event schedule change
+   */
+  @Order(0)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScheduleChanged(ScheduleChangedEvent event) {
+    int weekNum = event.getWeekNum();
+    weeks.synchronous().invalidate(weekNum);
+    for (DayOfWeek day : DayOfWeek.values()) {
+      days.synchronous().invalidate(Map.entry(weekNum, day));
+    }
+    log.debug("Evicted dashboards of week {}", weekNum);
+  }
+
+  /**
+   * Only puts a pending result under the key while holding its lock; the build itself runs afterwards on the calling
+   * thread. A failed build is removed by the cache and rethrown to all of its readers.
+   */
+  private static <K, V> V get(AsyncCache<K, V> cache, K key, Supplier<V> builder) {
+    CompletableFuture<V> build = new CompletableFuture<>();
+    CompletableFuture<V> result = cache.get(key, (k, executor) -> build);
+    if (result == build) {
+      try {
+        build.complete(builder.get());
+      } catch (RuntimeException | Error e) {
+        build.completeExceptionally(e);
+        throw e;
+      }
+    }
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, weeks, WEEKS_CACHE_NAME);
+    CaffeineCacheMetrics.monitor(registry, days, DAYS_CACHE_NAME);
+  }
+}
@@ -0,0 +1,308 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.DashboardEventDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Pushes schedule changes of a week to its dashboard subscribers as server-sent events. An idle subscriber holds no
+ * thread: events are queued per subscriber and written by a small shared pool. A subscriber that falls behind by more
+ * than the buffer size loses its queued events and gets a single {@value #RESYNC} event instead, after which it is
+ * expected to reload the dashboard. Events are idempotent by the id of the slot or booking they carry.
+ *
+ * <p>A client that stops reading blocks the sender thread writing to it once its TCP buffers are full. Subscribers
+ * stuck in a single send for longer than the send timeout are dropped: they get no further events and their connection
+ * is completed with an error. Completing waits for the blocked send, which holds the emitter, so it is left to a
+ * separate closer pool and neither the heartbeat nor the sender threads wait for it. The blocked threads are released
+ * once the container gives up on the write; the client reconnects and reloads the dashboard as on {@value #RESYNC}.
+ */
+@Component
+@Slf4j
+public class DashboardEventBroadcaster implements MeterBinder {
+
+  static final String RESYNC = "resync";
+  static final String HEARTBEAT = "heartbeat";
+
+  private final int bufferSize;
+  private final long sendTimeoutNanos;
+  private final Supplier<SseEmitter> emitters;
+  private final ExecutorService sender;
+  private final ExecutorService closer;
+  private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicLong resyncCount = new AtomicLong();
+  private final AtomicLong stalledCount = new AtomicLong();
+
+  /**
+   * Creates the broadcaster.
+   *
+   * @param bufferSize    maximum number of events queued for one subscriber
+   * @param timeout       time after which a subscription is closed and the client has to reconnect
+   * @param sendTimeout   time a single send may block before the subscriber is dropped
+   * @param senderThreads number of threads writing events to subscribers
+   */
+  @Autowired
+  public DashboardEventBroadcaster(@Value("${dashboard.events.buffer-size:64}") int bufferSize,
+      @Value("${dashboard.events.timeout:PT30M}") Duration timeout,
+      @Value("${dashboard.events.send-timeout:PT10S}") Duration sendTimeout,
+      @Value("${dashboard.events.sender-threads:4}") int senderThreads) {
+    // a close waits at most for the send blocked on its subscriber, so there are never more closes waiting than senders
+    this(bufferSize, sendTimeout, () -> new SseEmitter(timeout.toMillis()),
+        Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("dashboard-events-")),
+        Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("dashboard-events-close-")));
+  }
+
+  DashboardEventBroadcaster(int bufferSize, Duration sendTimeout, Supplier<SseEmitter> emitters,
+      ExecutorService sender, ExecutorService closer) {
+    this.bufferSize = bufferSize;
+    this.sendTimeoutNanos = sendTimeout.toNanos();
+    this.emitters = emitters;
+    this.sender = sender;
+    this.closer = closer;
+  }
+
+  /**
+   * Subscribes to the changes of the week.
+   *
+   * @param weekNum number of the week
+   * @return emitter of the subscription
+   */
+  public SseEmitter subscribe(int weekNum) {
+    Subscriber subscriber = new Subscriber(weekNum, emitters.get());
+    subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+    subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+    subscriber.emitter.onError(e -> unsubscribe(subscriber));
+    subscribers.computeIfAbsent(weekNum, week -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    return subscriber.emitter;
+  }
+
+  /**
+   * Queues the change for every subscriber of its week. Runs after the dashboard cache is evicted and the schedule
+   * versions are incremented, so a client reloading on an event gets the changed dashboard.
+   *
+   * @param event schedule change
+   */
+  @Order(2)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScheduleChanged(ScheduleChangedEvent event) {
+    Set<Subscriber> weekSubscribers = subscribers.get(event.getWeekNum());
+    if (weekSubscribers == null) {
+      return;
+    }
+    String name = event.getChange().name().toLowerCase(Locale.ROOT).replace('_', '-');
+    DashboardEventDto data = new DashboardEventDto(event.getWeekNum(), event.getInterviewerId(), event.getSubject());
+    weekSubscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event()
+        .name(name)
+        .data(data, MediaType.APPLICATION_JSON)));
+  }
+
+  /**
+   * Sends a comment to subscribers with nothing queued, which keeps idle connections open through proxies and detects
+   * clients that are gone. Subscribers stuck in a send are dropped first.
+   */
+  @Scheduled(fixedRateString = "${dashboard.events.heartbeat-interval:PT15S}")
+  public void sendHeartbeats() {
+    dropStalledSubscribers();
+    subscribers.values().forEach(weekSubscribers -> weekSubscribers.forEach(Subscriber::offerHeartbeat));
+  }
+
+  /**
+   * Drops subscribers whose current send has been blocked for longer than the send timeout.
+   */
+  void dropStalledSubscribers() {
+    long now = System.nanoTime();
+    subscribers.values().forEach(weekSubscribers -> weekSubscribers.stream()
+        .filter(subscriber -> subscriber.isStalled(now))
+        .forEach(subscriber -> {
+          stalledCount.incrementAndGet();
+          subscriber.drop(new IOException("Send blocked for longer than " + Duration.ofNanos(sendTimeoutNanos)));
+        }));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("dashboard.events.subscribers", this, DashboardEventBroadcaster::getSubscriberCount)
+        .description("Open dashboard event subscriptions")
+        .register(registry);
+    FunctionCounter.builder("dashboard.events.resyncs", resyncCount, AtomicLong::get)
+        .description("Subscribers that fell behind and were asked to reload the dashboard")
+        .register(registry);
+    FunctionCounter.builder("dashboard.events.stalled", stalledCount, AtomicLong::get)
+        .description("Subscribers dropped because a send to them blocked for longer than the send timeout")
+        .register(registry);
+  }
+
+  int getSubscriberCount() {
+    return subscribers.values().stream().mapToInt(Set::size).sum();
+  }
+
+  /**
+   * Closes all subscriptions on shutdown; clients reconnect to another instance. Changes arriving meanwhile are not
+   * sent. Subscriptions are completed by the closer pool, which is waited for no longer than the send timeout, as a
+   * subscriber stuck in a send cannot be completed before the send gives up.
+   */
+  @PreDestroy
+  public void shutdown() {
+    subscribers.values().forEach(weekSubscribers -> weekSubscribers.forEach(Subscriber::close));
+    sender.shutdownNow();
+    closer.shutdown();
+    try {
+      if (!closer.awaitTermination(sendTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        log.warn("Dashboard subscribers still being closed on shutdown");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    subscribers.computeIfPresent(subscriber.weekNum, (week, weekSubscribers) -> {
+      weekSubscribers.remove(subscriber);
+      return weekSubscribers.isEmpty() ? null : weekSubscribers;
+    });
+  }
+
+  private final class Subscriber {
+
+    private final int weekNum;
+    private final SseEmitter emitter;
+    private final Queue<SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+    private final AtomicBoolean resync = new AtomicBoolean();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean dropped = new AtomicBoolean();
+    private volatile boolean sending;
+    private volatile long sendingSince;
+
+    Subscriber(int weekNum, SseEmitter emitter) {
+      this.weekNum = weekNum;
+      this.emitter = emitter;
+    }
+
+    void offer(SseEventBuilder event) {
+      if (dropped.get()) {
+        return;
+      }
+      if (!queue.offer(event)) {
+        queue.clear();
+        resync.set(true);
+        resyncCount.incrementAndGet();
+      }
+      scheduleDrain();
+    }
+
+    void offerHeartbeat() {
+      if (!dropped.get() && queue.isEmpty() && queue.offer(SseEmitter.event().comment(HEARTBEAT))) {
+        scheduleDrain();
+      }
+    }
+
+    boolean isStalled(long now) {
+      return sending && now - sendingSince > sendTimeoutNanos;
+    }
+
+    /**
+     * Unsubscribes and has the connection completed with an error. Events queued or offered later are not sent.
+     */
+    void drop(Exception e) {
+      if (dropped.compareAndSet(false, true)) {
+        log.debug("Dropping dashboard subscriber of week {}: {}", weekNum, e.getMessage());
+        unsubscribe(this);
+        queue.clear();
+        runOnCloser(() -> emitter.completeWithError(e));
+      }
+    }
+
+    /**
+     * Stops sending and has the connection completed.
+     */
+    void close() {
+      if (dropped.compareAndSet(false, true)) {
+        queue.clear();
+        runOnCloser(emitter::complete);
+      }
+    }
+
+    private void runOnCloser(Runnable completion) {
+      try {
+        closer.execute(completion);
+      } catch (RejectedExecutionException e) {
+        // shut down, the emitter times out instead
+        log.debug("Dashboard subscriber of week {} left to time out", weekNum);
+      }
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        try {
+          sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+          // shutting down, the subscription is being completed
+          draining.set(false);
+        }
+      }
+    }
+
+    /**
+     * Writes queued events until the queue is empty. Only one drain of a subscriber runs at a time; an event queued
+     * right after the queue was found empty is picked up by the re-check at the end, which schedules the next drain
+     * instead of looping, so that a busy subscriber does not hold on to a sender thread.
+     */
+    private void drain() {
+      try {
+        if (resync.getAndSet(false)) {
+          send(SseEmitter.event().name(RESYNC).data(new DashboardEventDto(weekNum, null, null),
+              MediaType.APPLICATION_JSON));
+        }
+        for (SseEventBuilder event = queue.poll(); event != null && !dropped.get(); event = queue.poll()) {
+          send(event);
+        }
+      } catch (IOException | RuntimeException e) {
+        drop(e);
+      } finally {
+        draining.set(false);
+      }
+      if (!dropped.get() && (!queue.isEmpty() || resync.get())) {
+        scheduleDrain();
+      }
+    }
+
+    private void send(SseEventBuilder event) throws IOException {
+      sendingSince = System.nanoTime();
+      sending = true;
+      try {
+        emitter.send(event);
+      } finally {
+        sending = false;
+      }
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
+import com.intellias.intellistart.interviewplanning.services.AuthService.FacebookAppAccessToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Facebook app access token used to verify user tokens. The token is requested in the background, so startup does
+ * not wait for Facebook, and renewed before it is due; logins read the current one without blocking. A failed renewal
+ * keeps the old token and is retried on the next check.
+ */
+@Component
+@Slf4j
+public class FacebookAppTokenProvider implements MeterBinder, HealthIndicator {
+
+  private final RestTemplate rest;
+  private final String appTokenUri;
+  private final boolean isOffline;
+  private final Duration refreshInterval;
+  private final Clock clock;
+  private final AtomicReference<IssuedToken> token = new AtomicReference<>();
+  private volatile String lastError;
+
+  /**
+   * Creates the provider. A token set in {@code facebook.app-token} is used until the first renewal is due. Its age is
+   * unknown, so the age gauge stays empty until the first renewal.
+   *
+   * @param env             object to retrieve project environment variables
+   * @param rest            client for Facebook calls
+   * @param refreshInterval time after which a token is renewed
+   */
+  @Autowired
+  public FacebookAppTokenProvider(Environment env, RestTemplate rest,
+      @Value("${facebook.app-token-refresh.interval:PT12H}") Duration refreshInterval) {
+    this(env, rest, refreshInterval, Clock.systemUTC());
+  }
+
+  FacebookAppTokenProvider(Environment env, RestTemplate rest, Duration refreshInterval, Clock clock) {
+    this.rest = rest;
+    this.clock = clock;
+    this.appTokenUri = env.getProperty("facebook.uri.get_app_token");
+    this.refreshInterval = refreshInterval;
+    this.isOffline = Arrays.stream(env.getActiveProfiles()).anyMatch(s -> s.equalsIgnoreCase("offline"));
+
+    String configuredToken = env.getProperty("facebook.app-token");
+    if (isOffline) {
+      token.set(new IssuedToken(new FacebookAppAccessToken("offline_fb_app_token_placeholder", "bearer", null),
+          clock.instant(), clock.instant()));
+    } else if (configuredToken != null && !configuredToken.isBlank()) {
+      token.set(new IssuedToken(new FacebookAppAccessToken(configuredToken, "bearer", null), null,
+          clock.instant()));
+    }
+  }
+
+  /**
+   * Provides the current app token. Only when no token has been acquired yet the caller waits for Facebook.
+   *
+   * @return app access token
+   * @throws ApplicationErrorException if no token could be acquired
+   */
+  public String getAccessToken() {
+    IssuedToken current = token.get();
+    if (current == null) {
+      synchronized (this) {
+        if (token.get() == null) {
+          refresh();
+        }
+      }
+      current = token.get();
+      if (current == null) {
+        throw new ApplicationErrorException(ErrorCode.AUTH_PROVIDER_UNAVAILABLE);
+      }
+    }
+    return current.getToken().getAccessToken();
+  }
+
+  /**
+   * Renews the token when there is none yet or it is due. Runs right after startup and then periodically.
+   */
+  @Scheduled(fixedDelayString = "${facebook.app-token-refresh.check-interval:PT1M}")
+  public void refreshIfDue() {
+    IssuedToken current = token.get();
+    if (!isOffline && (current == null || !clock.instant().isBefore(dueAt(current)))) {
+      refresh();
+    }
+  }
+
+  /**
+   * Requests a new token from Facebook and swaps it in.
+   */
+  synchronized void refresh() {
+    try {
+      FacebookAppAccessToken newToken = rest.getForObject(appTokenUri, FacebookAppAccessToken.class);
+      if (newToken == null || newToken.getAccessToken() == null || newToken.getAccessToken().isBlank()) {
+        throw new IllegalStateException("Facebook returned no app token");
+      }
+      Instant now = clock.instant();
+      token.set(new IssuedToken(newToken, now, now));
+      lastError = null;
+      log.info("Acquired new FB app token");
+    } catch (RuntimeException e) {
+      lastError = e.getMessage();
+      log.warn("Could not acquire FB app token: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Renewal is due after the refresh interval, or halfway through the token's lifetime if it is shorter.
+   */
+  private Instant dueAt(IssuedToken issued) {
+    Long expiresIn = issued.getToken().getExpiresIn();
+    Duration renewAfter = expiresIn == null ? refreshInterval
+        : min(refreshInterval, Duration.ofSeconds(expiresIn).dividedBy(2));
+    return issued.getHeldSince().plus(renewAfter);
+  }
+
+  private static Duration min(Duration first, Duration second) {
+    return first.compareTo(second) <= 0 ? first : second;
+  }
+
+  private double getAgeSeconds() {
+    IssuedToken current = token.get();
+    return current == null || current.getIssuedAt() == null ? Double.NaN
+        : Duration.between(current.getIssuedAt(), clock.instant()).toMillis() / 1000.0;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    TimeGauge.builder("facebook.app_token.age", this, TimeUnit.SECONDS, FacebookAppTokenProvider::getAgeSeconds)
+        .description("Time since the Facebook app token was acquired")
+        .register(registry);
+  }
+
+  @Override
+  public Health health() {
+    IssuedToken current = token.get();
+    Health.Builder health = current == null ? Health.down() : Health.up();
+    if (current != null) {
+      if (current.getIssuedAt() != null) {
+        health.withDetail("age", Duration.between(current.getIssuedAt(), clock.instant()).withNanos(0).toString());
+      }
+      health.withDetail("renewalDue", !clock.instant().isBefore(dueAt(current)));
+    }
+    if (lastError != null) {
+      health.withDetail("lastError", lastError);
+    }
+    return health.build();
+  }
+
+  @Data
+  private static class IssuedToken {
+
+    private final FacebookAppAccessToken token;
+    /**
+     * When Facebook issued the token, or null for a configured token whose age is unknown.
+     */
+    private final Instant issuedAt;
+    /**
+     * When the provider started using the token, which renewal is counted from.
+     */
+    private final Instant heldSince;
+  }
+}
@@ -0,0 +1,65 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.intellias.intellistart.interviewplanning.services.AuthService.FacebookUserProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of Facebook user profiles by Facebook user id. A profile is only looked up after the user's token has been
+ * verified and has yielded that id, so the cache saves the profile request of a repeated login without trusting an
+ * unverified token. Changes of a profile on Facebook show up after the TTL.
+ */
+@Component
+public class FacebookProfileCache implements MeterBinder {
+
+  static final String CACHE_NAME = "facebook.profiles";
+
+  private final Cache<String, FacebookUserProfile> cache;
+
+  /**
+   * Creates the cache.
+   *
+   * @param maximumSize maximum number of cached profiles
+   * @param timeToLive  time after which a profile is requested again
+   */
+  public FacebookProfileCache(@Value("${facebook.profile-cache.maximum-size:10000}") long maximumSize,
+      @Value("${facebook.profile-cache.time-to-live:PT1H}") Duration timeToLive) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the cached profile.
+   *
+   * @param facebookUserId verified Facebook user id
+   * @return profile or null if it is not cached
+   */
+  public FacebookUserProfile get(String facebookUserId) {
+    return cache.getIfPresent(facebookUserId);
+  }
+
+  public void put(String facebookUserId, FacebookUserProfile profile) {
+    cache.put(facebookUserId, profile);
+  }
+
+  /**
+   * Drops all cached profiles.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+}
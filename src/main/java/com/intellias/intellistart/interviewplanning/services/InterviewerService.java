@@ -3,6 +3,9 @@ package com.intellias.intellistart.interviewplanning.services;
 import static com.intellias.intellistart.interviewplanning.validators.SlotValidator.validateSlotOverlapping;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.RecurringSlotDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
@@ -19,8 +22,12 @@ import com.intellias.intellistart.interviewplanning.validators.SlotValidator;
 import java.time.DayOfWeek;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -35,6 +42,8 @@ public class InterviewerService {
   private final BookingRepository bookingRepository;
   private final WeekService weekService;
   private final SlotValidator slotValidator;
+  private final RecurringSlotService recurringSlotService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Create slot for interview. Interviewer can create slot for current or next week.
@@ -48,14 +57,55 @@ public class InterviewerService {
     InterviewerTimeSlot slot = InterviewerSlotMapper.mapToEntity(interviewer, interviewerSlotDto);
     slotValidator.validateInterviewerSlot(interviewerSlotDto);
     PeriodValidator.validate(interviewerSlotDto);
-    validateSlotOverlapping(interviewerSlotDto,
-        interviewerTimeSlotRepository
-            .findByInterviewerIdAndWeekNum(interviewerId, slot.getWeekNum())
-            .stream()
-            .filter(s -> s.getDayOfWeek().equals(slot.getDayOfWeek()))
-            .collect(Collectors.toList()));
-
-    return InterviewerSlotMapper.mapToDto(interviewerTimeSlotRepository.save(slot));
+    validateSlotOverlapping(interviewerSlotDto, interviewerTimeSlotRepository
+        .findByInterviewerIdAndWeekNumAndDayOfWeek(interviewerId, slot.getWeekNum(), slot.getDayOfWeek()));
+
+    InterviewerSlotDto savedSlot = InterviewerSlotMapper.mapToDto(interviewerTimeSlotRepository.save(slot));
+    publishScheduleChanged(interviewerId, Change.INTERVIEWER_SLOT_ADDED, savedSlot);
+    return savedSlot;
+  }
+
+  /**
+   * Create several slots for interviewer at once. The slots are validated together and inserted in JDBC batches.
+   *
+   * @param interviewerId       id of interviewer to bind slots to
+   * @param interviewerSlotDtos dtos to validate and save
+   * @return created slots
+   */
+  public List<InterviewerSlotDto> createSlots(Long interviewerId, List<InterviewerSlotDto> interviewerSlotDtos) {
+    SlotValidator.validateBatchSize(interviewerSlotDtos);
+    User interviewer = getInterviewerById(interviewerId);
+    for (InterviewerSlotDto interviewerSlotDto : interviewerSlotDtos) {
+      slotValidator.validateInterviewerSlot(interviewerSlotDto);
+      PeriodValidator.validate(interviewerSlotDto);
+    }
+    List<InterviewerTimeSlot> slots = interviewerSlotDtos.stream()
+        .map(interviewerSlotDto -> InterviewerSlotMapper.mapToEntity(interviewer, interviewerSlotDto))
+        .collect(Collectors.toList());
+    Set<Integer> weekNums = slots.stream()
+        .map(InterviewerTimeSlot::getWeekNum)
+        .collect(Collectors.toSet());
+    Map<Entry<Integer, DayOfWeek>, List<InterviewerTimeSlot>> existingSlots = interviewerTimeSlotRepository
+        .findByInterviewerIdAndWeekNumIn(interviewerId, weekNums).stream()
+        .collect(Collectors.groupingBy(InterviewerService::getDay));
+    slots.stream()
+        .collect(Collectors.groupingBy(InterviewerService::getDay))
+        .forEach((day, daySlots) -> SlotValidator.validateSlotsOverlapping(daySlots,
+            existingSlots.getOrDefault(day, List.of())));
+
+    List<InterviewerSlotDto> savedSlots = interviewerTimeSlotRepository.saveAll(slots).stream()
+        .map(InterviewerSlotMapper::mapToDto)
+        .collect(Collectors.toList());
+    savedSlots.forEach(savedSlot -> publishScheduleChanged(interviewerId, Change.INTERVIEWER_SLOT_ADDED, savedSlot));
+    return savedSlots;
+  }
+
+  private void publishScheduleChanged(Long interviewerId, Change change, InterviewerSlotDto slot) {
+    eventPublisher.publishEvent(new ScheduleChangedEvent(slot.getWeekNum(), interviewerId, change, slot));
+  }
+
+  private static Entry<Integer, DayOfWeek> getDay(InterviewerTimeSlot slot) {
+    return Map.entry(slot.getWeekNum(), slot.getDayOfWeek());
   }
 
   /**
@@ -67,6 +117,7 @@ public class InterviewerService {
    */
   public List<InterviewerSlotDto> getRelevantInterviewerSlots(Long interviewerId) {
     User interviewer = getInterviewerById(interviewerId);
+    recurringSlotService.materializeWeek(interviewer.getId(), weekService.getNextWeekNum());
 
     List<InterviewerTimeSlot> slots = interviewerTimeSlotRepository
         .findByInterviewerIdAndWeekNumGreaterThanEqual(
@@ -85,6 +136,7 @@ public class InterviewerService {
    */
   public List<InterviewerSlotDto> getSlotsByWeekId(Long interviewerId, int weekId) {
     User interviewer = getInterviewerById(interviewerId);
+    recurringSlotService.materializeWeek(interviewer.getId(), weekId);
 
     List<InterviewerTimeSlot> slots = interviewerTimeSlotRepository
         .findByInterviewerIdAndWeekNum(interviewer.getId(), weekId);
@@ -107,6 +159,41 @@ public class InterviewerService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Provides recurring slots of the interviewer.
+   *
+   * @param interviewerId id of interviewer
+   * @return recurring slots
+   * @throws NotFoundException if no interviewer found
+   */
+  public List<RecurringSlotDto> getRecurringSlots(Long interviewerId) {
+    return recurringSlotService.getRecurringSlots(getInterviewerById(interviewerId));
+  }
+
+  /**
+   * Creates recurring slot, e.g. every Tuesday 10:00-13:00. Interviewer slots are created from it week by week.
+   *
+   * @param interviewerId    id of interviewer
+   * @param recurringSlotDto slot to validate and save
+   * @return created recurring slot
+   * @throws NotFoundException if no interviewer found
+   */
+  public RecurringSlotDto createRecurringSlot(Long interviewerId, RecurringSlotDto recurringSlotDto) {
+    return recurringSlotService.createRecurringSlot(getInterviewerById(interviewerId), recurringSlotDto);
+  }
+
+  /**
+   * Deletes recurring slot. Already created interviewer slots are kept.
+   *
+   * @param interviewerId   id of interviewer
+   * @param recurringSlotId id of recurring slot
+   * @return deleted recurring slot
+   * @throws NotFoundException if no interviewer or recurring slot found
+   */
+  public RecurringSlotDto deleteRecurringSlot(Long interviewerId, Long recurringSlotId) {
+    return recurringSlotService.deleteRecurringSlot(getInterviewerById(interviewerId), recurringSlotId);
+  }
+
   /**
    * Updates interviewer slot by slot id.
    *
@@ -124,25 +211,30 @@ public class InterviewerService {
     slotValidator.validateInterviewerSlot(interviewerSlotDto);
     slotValidator.validateInterviewerSlot(InterviewerSlotMapper.mapToDto(slot));
     PeriodValidator.validate(interviewerSlotDto);
-    SlotValidator.validateSlotOverlapping(
-        interviewerSlotDto,
-        interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(interviewerId,
-                slot.getWeekNum())
-            .stream()
-            .filter(s -> s.getDayOfWeek().equals(slot.getDayOfWeek()) && !s.getId().equals(slotId))
-            .collect(Collectors.toList()));
+    validateSlotOverlapping(interviewerSlotDto, interviewerTimeSlotRepository
+        .findByInterviewerIdAndWeekNumAndDayOfWeekAndIdNot(interviewerId, interviewerSlotDto.getWeekNum(),
+            interviewerSlotDto.getDayOfWeek(), slotId));
 
     if (hasBooking(slot)) {
       throw new ApplicationErrorException(ErrorCode.CANNOT_EDIT_SLOT_WITH_BOOKING);
     }
 
+    final int previousWeekNum = slot.getWeekNum();
     slot.setFrom(interviewerSlotDto.getFrom());
     slot.setTo(interviewerSlotDto.getTo());
     slot.setDayOfWeek(interviewerSlotDto.getDayOfWeek());
     slot.setWeekNum(interviewerSlotDto.getWeekNum());
     slot.setInterviewer(interviewer);
 
-    return InterviewerSlotMapper.mapToDto(interviewerTimeSlotRepository.save(slot));
+    InterviewerSlotDto savedSlot = InterviewerSlotMapper.mapToDto(interviewerTimeSlotRepository.save(slot));
+    if (savedSlot.getWeekNum() == previousWeekNum) {
+      publishScheduleChanged(interviewerId, Change.INTERVIEWER_SLOT_UPDATED, savedSlot);
+    } else {
+      eventPublisher.publishEvent(new ScheduleChangedEvent(previousWeekNum, interviewerId,
+          Change.INTERVIEWER_SLOT_REMOVED, savedSlot));
+      publishScheduleChanged(interviewerId, Change.INTERVIEWER_SLOT_ADDED, savedSlot);
+    }
+    return savedSlot;
   }
 
   /**
@@ -167,7 +259,9 @@ public class InterviewerService {
     }
 
     interviewerTimeSlotRepository.delete(slot);
-    return InterviewerSlotMapper.mapToDto(slot);
+    InterviewerSlotDto deletedSlot = InterviewerSlotMapper.mapToDto(slot);
+    publishScheduleChanged(interviewer.getId(), Change.INTERVIEWER_SLOT_REMOVED, deletedSlot);
+    return deletedSlot;
   }
 
   /**
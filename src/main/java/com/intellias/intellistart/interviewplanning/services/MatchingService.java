@@ -0,0 +1,139 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.MatchDto;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.utils.FreeWindowIndex;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Matches candidate slots with interviewer slots. Interviewer slots of interviewers who have reached their booking
+ * limit for the week are left out, and periods that are already booked are cut out of both sides.
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchingService {
+
+  static final Duration INTERVIEW_LENGTH = Duration.ofMinutes(90);
+
+  private static final Comparator<MatchDto> MATCH_ORDER = Comparator.comparing(MatchDto::getDate)
+      .thenComparing(MatchDto::getFrom)
+      .thenComparing(MatchDto::getInterviewerSlotId)
+      .thenComparing(MatchDto::getCandidateSlotId);
+
+  private final WeekService weekService;
+  private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private final CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private final BookingRepository bookingRepository;
+  private final BookingLimitRepository bookingLimitRepository;
+  private final RecurringSlotService recurringSlotService;
+
+  /**
+   * Finds every interviewer slot and candidate slot of the week that can still host a common interview.
+   *
+   * @param weekNum number of the week
+   * @return matches with the earliest free period, ordered by date and time
+   */
+  public List<MatchDto> getWeekMatches(int weekNum) {
+    recurringSlotService.materializeWeek(weekNum);
+
+    return match(weekNum,
+        interviewerTimeSlotRepository.findByWeekNum(weekNum),
+        candidateTimeSlotRepository.findByWeekNum(weekNum),
+        bookingRepository.findAllOfWeek(weekNum));
+  }
+
+  /**
+   * Finds every interviewer slot and candidate slot of the day that can still host a common interview.
+   *
+   * @param weekNum number of the week
+   * @param day     day of the week
+   * @return matches with the earliest free period, ordered by time
+   */
+  public List<MatchDto> getDayMatches(int weekNum, DayOfWeek day) {
+    recurringSlotService.materializeWeek(weekNum);
+    LocalDate date = weekService.getDateByWeekNumAndDayOfWeek(weekNum, day);
+
+    return match(weekNum,
+        interviewerTimeSlotRepository.findByWeekNumAndDayOfWeek(weekNum, day),
+        candidateTimeSlotRepository.findByDate(date),
+        bookingRepository.findAllOfWeek(weekNum));
+  }
+
+  /**
+   * Matches slots day by day on free window indexes, so the cost grows with the number of slots and matches rather
+   * than with the product of interviewer and candidate slots. Bookings may split a pair of slots into several pairs of
+   * free windows, so only the earliest start is kept for each pair of slots.
+   *
+   * @param weekNum          number of the week
+   * @param interviewerSlots interviewer slots to match
+   * @param candidateSlots   candidate slots to match
+   * @param bookings         bookings of the slots and all bookings of interviewers of the week
+   * @return one match per pair of slots, ordered by date and time
+   */
+  private List<MatchDto> match(int weekNum, List<InterviewerTimeSlot> interviewerSlots,
+      List<CandidateTimeSlot> candidateSlots, List<Booking> bookings) {
+    Map<Long, Integer> limits = bookingLimitRepository.findEffectiveOfWeek(weekNum).stream()
+        .collect(Collectors.toMap(BookingLimit::getInterviewerId, BookingLimit::getValue));
+    Map<Long, Long> bookingCounts = bookings.stream()
+        .filter(booking -> booking.getInterviewerSlot().getWeekNum() == weekNum)
+        .collect(Collectors.groupingBy(booking -> booking.getInterviewerSlot().getInterviewer().getId(),
+            Collectors.counting()));
+    Map<LocalDate, List<InterviewerTimeSlot>> interviewerSlotsByDate = interviewerSlots.stream()
+        .filter(slot -> {
+          Long interviewerId = slot.getInterviewer().getId();
+          return bookingCounts.getOrDefault(interviewerId, 0L) < limits.getOrDefault(interviewerId, Integer.MAX_VALUE);
+        })
+        .collect(Collectors.groupingBy(slot -> weekService.getDateByWeekNumAndDayOfWeek(weekNum, slot.getDayOfWeek())));
+    Map<LocalDate, List<CandidateTimeSlot>> candidateSlotsByDate = candidateSlots.stream()
+        .collect(Collectors.groupingBy(CandidateTimeSlot::getDate));
+    Map<Long, List<Booking>> bookingsByInterviewerSlot = bookings.stream()
+        .collect(Collectors.groupingBy(booking -> booking.getInterviewerSlot().getId()));
+    Map<Long, List<Booking>> bookingsByCandidateSlot = bookings.stream()
+        .collect(Collectors.groupingBy(booking -> booking.getCandidateSlot().getId()));
+
+    Map<List<Long>, MatchDto> matchesBySlots = new HashMap<>();
+    interviewerSlotsByDate.forEach((date, daySlots) -> {
+      List<CandidateTimeSlot> dayCandidateSlots = candidateSlotsByDate.get(date);
+      if (dayCandidateSlots == null) {
+        return;
+      }
+      FreeWindowIndex<InterviewerTimeSlot> interviewerIndex = new FreeWindowIndex<>(daySlots,
+          slot -> bookingsByInterviewerSlot.getOrDefault(slot.getId(), List.of()), INTERVIEW_LENGTH);
+      FreeWindowIndex<CandidateTimeSlot> candidateIndex = new FreeWindowIndex<>(dayCandidateSlots,
+          slot -> bookingsByCandidateSlot.getOrDefault(slot.getId(), List.of()), INTERVIEW_LENGTH);
+      interviewerIndex.match(candidateIndex, (interviewerSlot, candidateSlot, from) -> matchesBySlots.merge(
+          List.of(interviewerSlot.getId(), candidateSlot.getId()),
+          MatchDto.builder()
+              .interviewerSlotId(interviewerSlot.getId())
+              .interviewerId(interviewerSlot.getInterviewer().getId())
+              .candidateSlotId(candidateSlot.getId())
+              .candidateEmail(candidateSlot.getEmail())
+              .date(date)
+              .from(from)
+              .to(from.plus(INTERVIEW_LENGTH))
+              .build(),
+          (match, other) -> other.getFrom().isBefore(match.getFrom()) ? other : match));
+    });
+    List<MatchDto> matches = new ArrayList<>(matchesBySlots.values());
+    matches.sort(MATCH_ORDER);
+    return matches;
+  }
+}
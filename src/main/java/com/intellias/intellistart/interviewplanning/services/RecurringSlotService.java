@@ -0,0 +1,212 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.RecurringSlotDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.RecurringInterviewerSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.RecurringInterviewerSlotRepository;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.utils.mappers.InterviewerSlotMapper;
+import com.intellias.intellistart.interviewplanning.utils.mappers.RecurringSlotMapper;
+import com.intellias.intellistart.interviewplanning.validators.PeriodValidator;
+import com.intellias.intellistart.interviewplanning.validators.SlotOverlapDetector;
+import com.intellias.intellistart.interviewplanning.validators.SlotValidator;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Recurring interviewer slots. Instead of creating slots for every week in advance, interviewer slots are created from
+ * the recurring ones only for the current and the next week, when the week is first read or by the nightly job,
+ * whichever comes first. Weeks that nobody looks at do not get any rows.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecurringSlotService {
+
+  private final RecurringInterviewerSlotRepository recurringSlotRepository;
+  private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private final WeekService weekService;
+  private final TransactionOperations transactionOperations;
+  private final ApplicationEventPublisher eventPublisher;
+  /**
+   * Weeks this instance has found with nothing left to materialize. A recurring slot created later either starts after
+   * the next week or is materialized on creation, so such a week stays complete.
+   */
+  private final Set<Integer> materializedWeeks = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Provides recurring slots of the interviewer.
+   *
+   * @param interviewer interviewer
+   * @return recurring slots sorted by day of week and start time
+   */
+  public List<RecurringSlotDto> getRecurringSlots(User interviewer) {
+    return recurringSlotRepository.findByInterviewerId(interviewer.getId()).stream()
+        .map(RecurringSlotMapper::mapToDto)
+        .sorted(Comparator.comparing(RecurringSlotDto::getDayOfWeek)
+            .thenComparing(RecurringSlotDto::getFrom))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Creates recurring slot. It applies from the first week the interviewer is still allowed to edit: the next one, or
+   * the one after it if slots are already frozen for the weekend. Slots of the next week are created right away, so
+   * that cached dashboards and entity tags of that week change like on any other new slot; a later week can only be
+   * read once it becomes the next one, which changes the tags anyway.
+   *
+   * @param interviewer      interviewer
+   * @param recurringSlotDto slot to validate and save
+   * @return created slot
+   */
+  public RecurringSlotDto createRecurringSlot(User interviewer, RecurringSlotDto recurringSlotDto) {
+    PeriodValidator.validate(recurringSlotDto);
+    SlotValidator.validateSlotOverlapping(recurringSlotDto, recurringSlotRepository
+        .findByInterviewerIdAndDayOfWeek(interviewer.getId(), recurringSlotDto.getDayOfWeek()));
+
+    boolean isWeekend = weekService.getCurrentDay().getValue() > DayOfWeek.FRIDAY.getValue();
+    RecurringInterviewerSlot slot = RecurringSlotMapper.mapToEntity(interviewer, recurringSlotDto);
+    slot.setStartWeekNum(weekService.getWeekNumByDate(weekService.getCurrentDate().plusWeeks(isWeekend ? 2 : 1)));
+    slot.setLastMaterializedWeekNum(weekService.getCurrentWeekNum());
+    RecurringSlotDto savedSlot = RecurringSlotMapper.mapToDto(recurringSlotRepository.save(slot));
+    materializeWeek(interviewer.getId(), slot.getStartWeekNum());
+    return savedSlot;
+  }
+
+  /**
+   * Deletes recurring slot. Interviewer slots already created from it are kept, so nothing that was read changes.
+   *
+   * @param interviewer     interviewer
+   * @param recurringSlotId id of recurring slot
+   * @return deleted slot
+   * @throws NotFoundException if the interviewer has no such recurring slot
+   */
+  public RecurringSlotDto deleteRecurringSlot(User interviewer, Long recurringSlotId) {
+    RecurringInterviewerSlot slot = recurringSlotRepository.findById(recurringSlotId)
+        .orElseThrow(() -> NotFoundException.timeSlot(recurringSlotId));
+    if (!slot.getInterviewer().getId().equals(interviewer.getId())) {
+      throw NotFoundException.timeSlot(recurringSlotId, interviewer.getId());
+    }
+    recurringSlotRepository.delete(slot);
+    return RecurringSlotMapper.mapToDto(slot);
+  }
+
+  /**
+   * Creates interviewer slots of all interviewers from the recurring ones up to the given week. Costs a single query
+   * when there is nothing to create, and none once the week is known to be complete, e.g. on every read of a cached
+   * dashboard.
+   *
+   * @param weekNum number of the week
+   */
+  public void materializeWeek(int weekNum) {
+    if (!isMaterializable(weekNum) || materializedWeeks.contains(weekNum)) {
+      return;
+    }
+    if (recurringSlotRepository.existsPending(weekNum)) {
+      transactionOperations.executeWithoutResult(status -> materialize(
+          recurringSlotRepository.findPendingLocked(weekNum), weekNum,
+          interviewerTimeSlotRepository::findByWeekNum));
+    }
+    materializedWeeks.removeIf(week -> !isMaterializable(week));
+    materializedWeeks.add(weekNum);
+  }
+
+  /**
+   * Creates interviewer slots of one interviewer from the recurring ones up to the given week.
+   *
+   * @param interviewerId id of interviewer
+   * @param weekNum       number of the week
+   */
+  public void materializeWeek(Long interviewerId, int weekNum) {
+    if (isMaterializable(weekNum) && recurringSlotRepository.existsPendingOfInterviewer(interviewerId, weekNum)) {
+      transactionOperations.executeWithoutResult(status -> materialize(
+          recurringSlotRepository.findPendingLockedOfInterviewer(interviewerId, weekNum), weekNum,
+          week -> interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(interviewerId, week)));
+    }
+  }
+
+  /**
+   * Nightly job that prepares the next week, so that its first reader does not have to.
+   */
+  @Scheduled(cron = "${recurring-slots.materialization-cron:0 0 1 * * *}", zone = "Europe/Kiev")
+  public void materializeNextWeek() {
+    materializeWeek(weekService.getNextWeekNum());
+  }
+
+  /**
+   * Drops recurring slots of a user who is no longer an interviewer.
+   *
+   * @param event role change
+   */
+  @EventListener
+  public void onUserRoleChanged(UserRoleChangedEvent event) {
+    if (event.getRole() != UserRole.INTERVIEWER) {
+      recurringSlotRepository.deleteAll(recurringSlotRepository.findByInterviewerEmail(event.getEmail()));
+    }
+  }
+
+  private boolean isMaterializable(int weekNum) {
+    return weekNum == weekService.getCurrentWeekNum() || weekNum == weekService.getNextWeekNum();
+  }
+
+  /**
+   * Creates slots of every week from the current one up to the given one that the recurring slots have not been
+   * materialized for yet. A slot that would overlap an existing one of the same interviewer and day is skipped.
+   */
+  private void materialize(List<RecurringInterviewerSlot> recurringSlots, int weekNum,
+      IntFunction<List<InterviewerTimeSlot>> existingSlotsOfWeek) {
+    int currentWeekNum = weekService.getCurrentWeekNum();
+    List<InterviewerTimeSlot> slots = new ArrayList<>();
+    for (int week : weekNum == currentWeekNum ? List.of(weekNum) : List.of(currentWeekNum, weekNum)) {
+      List<RecurringInterviewerSlot> pending = recurringSlots.stream()
+          .filter(slot -> slot.getStartWeekNum() <= week && slot.getLastMaterializedWeekNum() < week)
+          .collect(Collectors.toList());
+      if (pending.isEmpty()) {
+        continue;
+      }
+      Map<Entry<Long, DayOfWeek>, List<InterviewerTimeSlot>> existingSlots = existingSlotsOfWeek.apply(week).stream()
+          .collect(Collectors.groupingBy(RecurringSlotService::getDay, Collectors.toCollection(ArrayList::new)));
+      for (RecurringInterviewerSlot recurringSlot : pending) {
+        InterviewerTimeSlot slot = recurringSlot.toSlot(week);
+        List<InterviewerTimeSlot> daySlots = existingSlots.computeIfAbsent(getDay(slot), day -> new ArrayList<>());
+        if (SlotOverlapDetector.findConflicts(slot, daySlots).isEmpty()) {
+          daySlots.add(slot);
+          slots.add(slot);
+        } else {
+          log.debug("Recurring slot {} overlaps existing slots in week {}", recurringSlot.getId(), week);
+        }
+      }
+    }
+    recurringSlots.forEach(slot -> slot.setLastMaterializedWeekNum(weekNum));
+    interviewerTimeSlotRepository.saveAll(slots);
+    recurringSlotRepository.saveAll(recurringSlots);
+    slots.forEach(slot -> eventPublisher.publishEvent(new ScheduleChangedEvent(slot.getWeekNum(),
+        slot.getInterviewer().getId(), Change.INTERVIEWER_SLOT_ADDED, InterviewerSlotMapper.mapToDto(slot))));
+    log.info("Created {} slots from recurring ones up to week {}", slots.size(), weekNum);
+  }
+
+  private static Entry<Long, DayOfWeek> getDay(InterviewerTimeSlot slot) {
+    return Map.entry(slot.getInterviewer().getId(), slot.getDayOfWeek());
+  }
+}
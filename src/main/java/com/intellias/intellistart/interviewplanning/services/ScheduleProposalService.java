@@ -0,0 +1,336 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Proposes bookings for the pending candidate slots of a week, i.e. the ones without any booking. The proposal is a
+ * draft for the coordinator to review; it is committed with {@link BookingService#createBookings}, which checks it
+ * again against the schedule at that time.
+ *
+ * <p>Every day is solved greedily on its own: candidate slots are taken in the order of their end, and each one gets
+ * the interviewer window where an interview can start earliest, preferring the window that ends first. Days share the
+ * remaining booking limits of the interviewers and take them in the order of their dates, so the same schedule always
+ * gets the same proposal. To still solve them in parallel on a fork-join pool, every day is first solved against the
+ * limits of the whole week; a day that turns out to need more than the earlier days left is solved again with what is
+ * left, which gives the same result as solving the days one after another.
+ */
+@Slf4j
+@Service
+public class ScheduleProposalService {
+
+  static final String SUBJECT = "Interview";
+  private static final int LENGTH = (int) MatchingService.INTERVIEW_LENGTH.toMinutes();
+  private static final int TIME_STEP = 30;
+  private static final Comparator<CandidateTimeSlot> BY_END = Comparator.comparing(CandidateTimeSlot::getTo)
+      .thenComparing(CandidateTimeSlot::getFrom)
+      .thenComparing(CandidateTimeSlot::getId);
+  private static final Comparator<Window> BY_START = Comparator.<Window>comparingInt(window -> window.from)
+      .thenComparingInt(window -> window.to)
+      .thenComparing(window -> window.slot.getId());
+  // windows ending the same way are taken in the order of their start, like when scanning by start
+  private static final Comparator<Window> BY_END_OF_WINDOW = Comparator.<Window>comparingInt(window -> window.to)
+      .thenComparing(BY_START);
+
+  private final WeekService weekService;
+  private final InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  private final CandidateTimeSlotRepository candidateTimeSlotRepository;
+  private final BookingRepository bookingRepository;
+  private final BookingLimitRepository bookingLimitRepository;
+  private final RecurringSlotService recurringSlotService;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates the service.
+   *
+   * @param parallelism number of days solved at the same time
+   */
+  public ScheduleProposalService(WeekService weekService,
+      InterviewerTimeSlotRepository interviewerTimeSlotRepository,
+      CandidateTimeSlotRepository candidateTimeSlotRepository,
+      BookingRepository bookingRepository,
+      BookingLimitRepository bookingLimitRepository,
+      RecurringSlotService recurringSlotService,
+      @Value("${schedule-proposal.parallelism:5}") int parallelism) {
+    this.weekService = weekService;
+    this.interviewerTimeSlotRepository = interviewerTimeSlotRepository;
+    this.candidateTimeSlotRepository = candidateTimeSlotRepository;
+    this.bookingRepository = bookingRepository;
+    this.bookingLimitRepository = bookingLimitRepository;
+    this.recurringSlotService = recurringSlotService;
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  /**
+   * Proposes bookings for the pending candidate slots of the week. Periods in the past are left out.
+   *
+   * @param weekNum number of the week
+   * @return draft bookings without ids, ordered by interviewer slot and time
+   */
+  public List<BookingDto> proposeSchedule(int weekNum) {
+    recurringSlotService.materializeWeek(weekNum);
+
+    List<InterviewerTimeSlot> weekInterviewerSlots = interviewerTimeSlotRepository.findByWeekNum(weekNum);
+    List<Booking> bookings = bookingRepository.findAllOfWeek(weekNum);
+    Map<Long, Integer> headroom = getHeadroom(weekNum, weekInterviewerSlots, bookings);
+    Map<Long, List<Booking>> bookingsByInterviewerSlot = bookings.stream()
+        .collect(Collectors.groupingBy(booking -> booking.getInterviewerSlot().getId()));
+    Set<Long> bookedCandidateSlots = bookings.stream()
+        .map(booking -> booking.getCandidateSlot().getId())
+        .collect(Collectors.toSet());
+    Map<LocalDate, List<InterviewerTimeSlot>> interviewerSlots = weekInterviewerSlots.stream()
+        .filter(slot -> headroom.get(slot.getInterviewer().getId()) > 0)
+        .collect(Collectors.groupingBy(slot -> weekService.getDateByWeekNumAndDayOfWeek(weekNum,
+            slot.getDayOfWeek())));
+    Map<LocalDate, List<CandidateTimeSlot>> candidateSlots = candidateTimeSlotRepository
+        .findByWeekNum(weekNum).stream()
+        .filter(slot -> !bookedCandidateSlots.contains(slot.getId()))
+        .collect(Collectors.groupingBy(CandidateTimeSlot::getDate));
+
+    LocalDateTime now = weekService.getCurrentDateTime();
+    Map<LocalDate, Function<Map<Long, Integer>, DayProposal>> days = new TreeMap<>();
+    interviewerSlots.forEach((date, daySlots) -> {
+      List<CandidateTimeSlot> dayCandidateSlots = candidateSlots.get(date);
+      if (dayCandidateSlots != null && !date.isBefore(now.toLocalDate())) {
+        int earliestStart = date.isEqual(now.toLocalDate()) ? roundUp(toMinutes(now.toLocalTime())) : 0;
+        days.put(date, dayHeadroom -> proposeDay(daySlots, bookingsByInterviewerSlot, dayCandidateSlots,
+            earliestStart, dayHeadroom));
+      }
+    });
+    Map<LocalDate, ForkJoinTask<DayProposal>> tasks = new TreeMap<>();
+    days.forEach((date, day) -> tasks.put(date, pool.submit(() -> day.apply(headroom))));
+
+    Map<Long, Integer> remaining = new HashMap<>(headroom);
+    List<BookingDto> proposal = new ArrayList<>();
+    days.forEach((date, day) -> {
+      DayProposal dayProposal = tasks.get(date).join();
+      if (!dayProposal.fitsInto(remaining)) {
+        dayProposal = day.apply(remaining);
+      }
+      dayProposal.takeFrom(remaining);
+      proposal.addAll(dayProposal.bookings);
+    });
+    proposal.sort(Comparator.comparing(BookingDto::getInterviewerSlotId).thenComparing(BookingDto::getFrom));
+    log.debug("Proposed {} bookings for week {}", proposal.size(), weekNum);
+    return proposal;
+  }
+
+  /**
+   * Provides the number of bookings every interviewer of the week may still take. Interviewers without a limit are
+   * not restricted.
+   */
+  private Map<Long, Integer> getHeadroom(int weekNum, List<InterviewerTimeSlot> interviewerSlots,
+      List<Booking> bookings) {
+    Map<Long, Integer> limits = bookingLimitRepository.findEffectiveOfWeek(weekNum).stream()
+        .collect(Collectors.toMap(BookingLimit::getInterviewerId, BookingLimit::getValue));
+    Map<Long, Long> bookingCounts = bookings.stream()
+        .filter(booking -> booking.getInterviewerSlot().getWeekNum() == weekNum)
+        .collect(Collectors.groupingBy(booking -> booking.getInterviewerSlot().getInterviewer().getId(),
+            Collectors.counting()));
+    return interviewerSlots.stream()
+        .map(slot -> slot.getInterviewer().getId())
+        .distinct()
+        .collect(Collectors.toMap(id -> id, id ->
+            (int) Math.max(0, limits.getOrDefault(id, Integer.MAX_VALUE) - bookingCounts.getOrDefault(id, 0L))));
+  }
+
+  /**
+   * Solves the day with the given number of bookings each interviewer may take, which is not changed.
+   */
+  private static DayProposal proposeDay(List<InterviewerTimeSlot> interviewerSlots,
+      Map<Long, List<Booking>> bookingsByInterviewerSlot, List<CandidateTimeSlot> candidateSlots, int earliestStart,
+      Map<Long, Integer> headroom) {
+    Windows windows = new Windows();
+    for (InterviewerTimeSlot slot : interviewerSlots) {
+      List<Booking> slotBookings = new ArrayList<>(bookingsByInterviewerSlot.getOrDefault(slot.getId(), List.of()));
+      slotBookings.sort(Comparator.comparing(Booking::getFrom));
+      int from = Math.max(toMinutes(slot.getFrom()), earliestStart);
+      for (Booking booking : slotBookings) {
+        addWindow(windows, slot, from, toMinutes(booking.getFrom()));
+        from = Math.max(from, toMinutes(booking.getTo()));
+      }
+      addWindow(windows, slot, from, toMinutes(slot.getTo()));
+    }
+
+    List<CandidateTimeSlot> sortedCandidateSlots = new ArrayList<>(candidateSlots);
+    sortedCandidateSlots.sort(BY_END);
+    DayProposal proposal = new DayProposal();
+    for (CandidateTimeSlot candidateSlot : sortedCandidateSlots) {
+      int candidateFrom = Math.max(toMinutes(candidateSlot.getFrom()), earliestStart);
+      int candidateTo = toMinutes(candidateSlot.getTo());
+      Window window = findBestWindow(windows, candidateFrom, candidateTo,
+          interviewerId -> proposal.getCount(interviewerId) < headroom.get(interviewerId));
+      if (window == null) {
+        continue;
+      }
+      int start = roundUp(Math.max(candidateFrom, window.from));
+      windows.remove(window);
+      addWindow(windows, window.slot, window.from, start);
+      addWindow(windows, window.slot, start + LENGTH, window.to);
+      proposal.add(window.slot.getInterviewer().getId(), BookingDto.builder()
+          .from(toTime(start))
+          .to(toTime(start + LENGTH))
+          .subject(SUBJECT)
+          .description("")
+          .interviewerSlotId(window.slot.getId())
+          .candidateSlotId(candidateSlot.getId())
+          .build());
+    }
+    return proposal;
+  }
+
+  /**
+   * Finds the window of an interviewer who may take another booking where an interview within the candidate period can
+   * start earliest; of those, the one that ends first, to keep longer windows for later candidates. Windows open at
+   * the earliest possible start are looked up by their end, the ones opening later by their start.
+   */
+  private static Window findBestWindow(Windows windows, int candidateFrom, int candidateTo,
+      LongPredicate hasHeadroom) {
+    int earliest = roundUp(candidateFrom);
+    if (earliest + LENGTH > candidateTo) {
+      return null;
+    }
+    // probes never equal a window in the fields compared, so they need no slot
+    NavigableSet<Window> byEnd = windows.byEnd;
+    for (Window window = byEnd.ceiling(new Window(null, Integer.MIN_VALUE, earliest + LENGTH)); window != null;
+        window = byEnd.higher(window)) {
+      if (window.from <= earliest && hasHeadroom.test(window.slot.getInterviewer().getId())) {
+        return window;
+      }
+    }
+
+    Window best = null;
+    int bestStart = Integer.MAX_VALUE;
+    NavigableSet<Window> byStart = windows.byStart;
+    for (Window window = byStart.higher(new Window(null, earliest, Integer.MAX_VALUE)); window != null;
+        window = byStart.higher(window)) {
+      int start = roundUp(window.from);
+      if (start > bestStart || start + LENGTH > candidateTo) {
+        break;
+      }
+      if (start + LENGTH <= window.to && (best == null || window.to < best.to)
+          && hasHeadroom.test(window.slot.getInterviewer().getId())) {
+        best = window;
+        bestStart = start;
+      }
+    }
+    return best;
+  }
+
+  private static void addWindow(Windows windows, InterviewerTimeSlot slot, int from, int to) {
+    if (to - from >= LENGTH) {
+      windows.add(new Window(slot, from, to));
+    }
+  }
+
+  private static int toMinutes(LocalTime time) {
+    return time.toSecondOfDay() / 60;
+  }
+
+  private static LocalTime toTime(int minutes) {
+    return LocalTime.ofSecondOfDay(minutes * 60L);
+  }
+
+  private static int roundUp(int minutes) {
+    return (minutes + TIME_STEP - 1) / TIME_STEP * TIME_STEP;
+  }
+
+  /**
+   * Stops the solver threads on shutdown.
+   */
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * Free periods of the interviewer slots of a day, ordered both by start and by end.
+   */
+  private static class Windows {
+
+    private final NavigableSet<Window> byStart = new TreeSet<>(BY_START);
+    private final NavigableSet<Window> byEnd = new TreeSet<>(BY_END_OF_WINDOW);
+
+    void add(Window window) {
+      byStart.add(window);
+      byEnd.add(window);
+    }
+
+    void remove(Window window) {
+      byStart.remove(window);
+      byEnd.remove(window);
+    }
+  }
+
+  /**
+   * Bookings proposed for a day with the number of them per interviewer.
+   */
+  private static class DayProposal {
+
+    private final List<BookingDto> bookings = new ArrayList<>();
+    private final Map<Long, Integer> counts = new HashMap<>();
+
+    void add(Long interviewerId, BookingDto booking) {
+      bookings.add(booking);
+      counts.merge(interviewerId, 1, Integer::sum);
+    }
+
+    int getCount(long interviewerId) {
+      return counts.getOrDefault(interviewerId, 0);
+    }
+
+    boolean fitsInto(Map<Long, Integer> headroom) {
+      return counts.entrySet().stream().allMatch(count -> count.getValue() <= headroom.get(count.getKey()));
+    }
+
+    void takeFrom(Map<Long, Integer> headroom) {
+      counts.forEach((interviewerId, count) -> headroom.merge(interviewerId, -count, Integer::sum));
+    }
+  }
+
+  /**
+   * Free period of an interviewer slot, in minutes of the day.
+   */
+  private static class Window {
+
+    private final InterviewerTimeSlot slot;
+    private final int from;
+    private final int to;
+
+    Window(InterviewerTimeSlot slot, int from, int to) {
+      this.slot = slot;
+      this.from = from;
+      this.to = to;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Change counters of week schedules and interviewer slots, used as entity tags of the responses built from them. A tag
+ * also contains the start time of this instance, so counters that restart from zero never repeat an earlier tag, and
+ * the current week number, so responses that depend on the current date are not reused after the week rolls over.
+ * The tag has to be taken before the response is built: a change that happens in between then only costs the client
+ * one more full response.
+ *
+ * <p>The counters only see changes made through the services of this instance. Changes made by other instances or
+ * directly in the database are covered by the period of the tag, which is the time to live of the dashboard cache:
+ * a tag changes at the end of every period, so clients revalidate no later than the cache is refreshed.
+ */
+@Component
+public class ScheduleVersions {
+
+  private final String instanceStart;
+  private final Map<Integer, AtomicLong> weekVersions = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicLong> interviewerVersions = new ConcurrentHashMap<>();
+
+  private final WeekService weekService;
+  private final long periodMillis;
+  private final Clock clock;
+
+  /**
+   * Creates the counters.
+   *
+   * @param weekService service to get the current week from
+   * @param period      time after which every tag changes, the time to live of the dashboard cache
+   */
+  @Autowired
+  public ScheduleVersions(WeekService weekService, @Value("${dashboard.cache.time-to-live:PT10M}") Duration period) {
+    this(weekService, period, Clock.systemUTC());
+  }
+
+  ScheduleVersions(WeekService weekService, Duration period, Clock clock) {
+    this.weekService = weekService;
+    this.periodMillis = period.toMillis();
+    this.clock = clock;
+    this.instanceStart = Long.toString(clock.millis(), Character.MAX_RADIX);
+  }
+
+  /**
+   * Provides entity tag of the schedule of the week, e.g. its dashboard.
+   *
+   * @param weekNum number of the week
+   * @return entity tag without quotes
+   */
+  public String getWeekEtag(int weekNum) {
+    return tag("w" + weekNum, getVersion(weekVersions, weekNum));
+  }
+
+  /**
+   * Provides entity tag of the slots of the interviewer with their bookings.
+   *
+   * @param interviewerId id of the interviewer
+   * @return entity tag without quotes
+   */
+  public String getInterviewerEtag(Long interviewerId) {
+    return tag("i" + interviewerId, getVersion(interviewerVersions, interviewerId));
+  }
+
+  /**
+   * Increments the counters touched by a change once it is committed. Runs after the dashboard cache is evicted, so
+   * the cached previous state is gone when a new tag becomes visible.
+   *
+   * @param event schedule change
+   */
+  @Order(1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onScheduleChanged(ScheduleChangedEvent event) {
+    weekVersions.computeIfAbsent(event.getWeekNum(), key -> new AtomicLong()).incrementAndGet();
+    if (event.getInterviewerId() != null) {
+      interviewerVersions.computeIfAbsent(event.getInterviewerId(), key -> new AtomicLong()).incrementAndGet();
+    }
+  }
+
+  private String tag(String scope, long version) {
+    long period = clock.millis() / periodMillis;
+    return instanceStart + "-" + weekService.getCurrentWeekNum() + "-" + period + "-" + scope + "-" + version;
+  }
+
+  private static <K> long getVersion(Map<K, AtomicLong> versions, K key) {
+    AtomicLong version = versions.get(key);
+    return version == null ? 0 : version.get();
+  }
+}
@@ -1,15 +1,21 @@
 package com.intellias.intellistart.interviewplanning.services;
 
 
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import com.intellias.intellistart.interviewplanning.utils.KeysetPagination;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import javax.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -22,6 +28,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UserService implements UserDetailsService {
 
+  static final int STREAM_PAGE_SIZE = 500;
+
   private final UserRepository userRepository;
 
   @Autowired
@@ -63,6 +71,43 @@ public class UserService implements UserDetailsService {
     return userRepository.findAll();
   }
 
+  /**
+   * Provides a page of users with the role, ordered by id.
+   *
+   * @param role   user role
+   * @param cursor cursor of the previous page, null for the first page
+   * @param limit  page size
+   * @return page of users
+   */
+  public CursorPageDto<User> getUsers(UserRole role, String cursor, int limit) {
+    List<User> rows = cursor == null
+        ? userRepository.findByRoleOrderByIdAsc(role, KeysetPagination.firstRows(limit))
+        : userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(role,
+            KeysetPagination.decodeCursor(cursor, key -> Long.valueOf(key[0])), KeysetPagination.firstRows(limit));
+    return KeysetPagination.toPage(rows, limit, Function.identity(),
+        user -> KeysetPagination.encodeCursor(user.getId()));
+  }
+
+  /**
+   * Passes all users with the role to the consumer one by one, ordered by id. Users are read page by page with the
+   * keyset of {@link #getUsers}, each page in a short transaction of its own, so a slow consumer holds neither a
+   * database connection nor more than a page of users in memory.
+   *
+   * @param role     user role
+   * @param consumer consumer of users
+   */
+  public void streamUsers(UserRole role, Consumer<User> consumer) {
+    Pageable page = PageRequest.of(0, STREAM_PAGE_SIZE);
+    List<User> users = userRepository.findByRoleOrderByIdAsc(role, page);
+    while (!users.isEmpty()) {
+      users.forEach(consumer);
+      if (users.size() < STREAM_PAGE_SIZE) {
+        return;
+      }
+      users = userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(role, users.get(users.size() - 1).getId(), page);
+    }
+  }
+
   /**
    * Removes coordinator from database if id is valid or throws CoordinatorNotFoundException.
    *
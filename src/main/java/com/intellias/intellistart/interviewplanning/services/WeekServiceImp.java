@@ -1,14 +1,14 @@
 package com.intellias.intellistart.interviewplanning.services;
 
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
-import com.intellias.intellistart.interviewplanning.utils.Utils;
+import com.intellias.intellistart.interviewplanning.utils.WeekCalendar;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
-import java.time.temporal.IsoFields;
-import java.time.temporal.WeekFields;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -18,6 +18,29 @@ import org.springframework.stereotype.Service;
 @Qualifier("WeekService")
 public class WeekServiceImp implements WeekService {
 
+  private final WeekCalendar calendar;
+
+  public WeekServiceImp() {
+    this(WeekCalendar.getDefault());
+  }
+
+  /**
+   * Creates the service with week starts precomputed for the configured years.
+   *
+   * @param firstYear first year of the week table
+   * @param lastYear  last year of the week table
+   */
+  @Autowired
+  public WeekServiceImp(@Value("${week-calendar.first-year:" + WeekCalendar.DEFAULT_FIRST_YEAR + "}") int firstYear,
+      @Value("${week-calendar.last-year:" + WeekCalendar.DEFAULT_LAST_YEAR + "}") int lastYear) {
+    this(firstYear == WeekCalendar.DEFAULT_FIRST_YEAR && lastYear == WeekCalendar.DEFAULT_LAST_YEAR
+        ? WeekCalendar.getDefault() : new WeekCalendar(firstYear, lastYear));
+  }
+
+  WeekServiceImp(WeekCalendar calendar) {
+    this.calendar = calendar;
+  }
+
   /**
    * Returns current zoned date.
    *
@@ -61,7 +84,7 @@ public class WeekServiceImp implements WeekService {
    * @return number of week
    */
   public int getWeekNumByDate(LocalDate date) {
-    return Utils.getWeekNumByDate(date);
+    return calendar.getWeekNum(date);
   }
 
   /**
@@ -72,10 +95,7 @@ public class WeekServiceImp implements WeekService {
    * @return local date
    */
   public LocalDate getDateByWeekNumAndDayOfWeek(int weekNum, DayOfWeek dayOfWeek) {
-    return LocalDate.now()
-        .with(IsoFields.WEEK_BASED_YEAR, weekNum / 100)
-        .with(WeekFields.ISO.weekOfWeekBasedYear(), weekNum % 100)
-        .with(WeekFields.ISO.dayOfWeek(), dayOfWeek.getValue());
+    return calendar.getDate(weekNum, dayOfWeek);
   }
 
   public DayOfWeek getCurrentDay() {
@@ -0,0 +1,132 @@
+package com.intellias.intellistart.interviewplanning.utils;
+
+import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Free windows of the slots of one day, i.e. what is left of every slot after its taken periods are cut out, keeping
+ * only the windows long enough for an interview. Two windows can host a common interview if they overlap by at least
+ * its length. Each window is stored with its latest possible interview start instead of its end, which turns this
+ * into a plain intersection test of closed intervals that {@link #match} sweeps in one pass.
+ *
+ * @param <T> type of slots
+ */
+public final class FreeWindowIndex<T extends TimeSlot> {
+
+  private static final Comparator<Window<?>> BY_START = Comparator.comparingInt(window -> window.start);
+  private static final Comparator<Window<?>> BY_LAST_START = Comparator.comparingInt(window -> window.lastStart);
+
+  private final List<Window<T>> windows = new ArrayList<>();
+
+  /**
+   * Builds the index. Taken periods of a slot are expected to be within the slot and not to overlap each other.
+   *
+   * @param slots  slots of the day
+   * @param taken  periods already taken in the slot
+   * @param length length of an interview
+   */
+  public FreeWindowIndex(List<T> slots, Function<T, List<? extends TimeSlot>> taken, Duration length) {
+    int minutes = (int) length.toMinutes();
+    for (T slot : slots) {
+      List<TimeSlot> periods = new ArrayList<>(taken.apply(slot));
+      periods.sort(Comparator.comparing(TimeSlot::getFrom));
+      int start = toMinutes(slot.getFrom());
+      for (TimeSlot period : periods) {
+        add(slot, start, toMinutes(period.getFrom()), minutes);
+        start = Math.max(start, toMinutes(period.getTo()));
+      }
+      add(slot, start, toMinutes(slot.getTo()), minutes);
+    }
+    windows.sort(BY_START);
+  }
+
+  private void add(T slot, int start, int end, int minutes) {
+    if (end - start >= minutes) {
+      windows.add(new Window<>(slot, start, end - minutes));
+    }
+  }
+
+  public int size() {
+    return windows.size();
+  }
+
+  /**
+   * Finds every pair of windows of this and the other index that overlap by at least the interview length. Windows
+   * of both indexes are merged in the order of their start while the ones still open are kept in heaps ordered by the
+   * latest interview start, which takes O((N + M) log(N + M) + K) for N and M windows and K matches. A pair of slots
+   * is reported once per pair of their windows, so callers that need one result per pair of slots keep the earliest.
+   *
+   * @param other    index of the other side built with the same interview length
+   * @param consumer receives the slots and the earliest interview start common to both windows
+   * @param <U>      type of slots of the other index
+   */
+  public <U extends TimeSlot> void match(FreeWindowIndex<U> other, MatchConsumer<T, U> consumer) {
+    PriorityQueue<Window<T>> openOwn = new PriorityQueue<>(BY_LAST_START);
+    PriorityQueue<Window<U>> openOther = new PriorityQueue<>(BY_LAST_START);
+    int i = 0;
+    int j = 0;
+    while (i < windows.size() || j < other.windows.size()) {
+      if (j == other.windows.size()
+          || i < windows.size() && windows.get(i).start <= other.windows.get(j).start) {
+        Window<T> window = windows.get(i++);
+        closeEndedBefore(openOther, window.start);
+        for (Window<U> open : openOther) {
+          consumer.accept(window.slot, open.slot, toTime(window.start));
+        }
+        openOwn.add(window);
+      } else {
+        Window<U> window = other.windows.get(j++);
+        closeEndedBefore(openOwn, window.start);
+        for (Window<T> open : openOwn) {
+          consumer.accept(open.slot, window.slot, toTime(window.start));
+        }
+        openOther.add(window);
+      }
+    }
+  }
+
+  private static <S> void closeEndedBefore(PriorityQueue<Window<S>> open, int start) {
+    while (!open.isEmpty() && open.peek().lastStart < start) {
+      open.poll();
+    }
+  }
+
+  private static int toMinutes(LocalTime time) {
+    return time.toSecondOfDay() / 60;
+  }
+
+  private static LocalTime toTime(int minutes) {
+    return LocalTime.ofSecondOfDay(minutes * 60L);
+  }
+
+  /**
+   * Receiver of matched slots.
+   *
+   * @param <T> type of slots of the first index
+   * @param <U> type of slots of the second index
+   */
+  @FunctionalInterface
+  public interface MatchConsumer<T, U> {
+
+    void accept(T slot, U otherSlot, LocalTime from);
+  }
+
+  private static class Window<S> {
+
+    private final S slot;
+    private final int start;
+    private final int lastStart;
+
+    Window(S slot, int start, int lastStart) {
+      this.slot = slot;
+      this.start = start;
+      this.lastStart = lastStart;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.intellias.intellistart.interviewplanning.utils;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Keyset (seek) pagination helpers. A page continues right after the sort key of the last row of the previous page,
+ * so fetching a page costs the same no matter how deep it is. The key is handed to clients as an opaque cursor.
+ */
+public final class KeysetPagination {
+
+  public static final int MAX_LIMIT = 1000;
+  private static final String SEPARATOR = ",";
+
+  private KeysetPagination() {
+  }
+
+  /**
+   * Validates page size and returns a pageable that fetches one extra row, to know whether another page follows.
+   *
+   * @param limit page size
+   * @return first limit + 1 rows
+   * @throws InvalidInputException if limit is out of bounds
+   */
+  public static Pageable firstRows(int limit) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw InvalidInputException.pageLimit(limit, MAX_LIMIT);
+    }
+    return PageRequest.of(0, limit + 1);
+  }
+
+  /**
+   * Builds a page from rows fetched with {@link #firstRows}.
+   *
+   * @param rows     up to limit + 1 rows in sort order
+   * @param limit    page size
+   * @param mapper   maps page rows to items
+   * @param cursorOf sort key of a row, encoded with {@link #encodeCursor}
+   * @param <E>      type of rows
+   * @param <T>      type of items
+   * @return page with cursor of its last row if more rows follow
+   */
+  public static <E, T> CursorPageDto<T> toPage(List<E> rows, int limit, Function<List<E>, List<T>> mapper,
+      Function<E, String> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPageDto<>(mapper.apply(rows), null);
+    }
+    List<E> pageRows = rows.subList(0, limit);
+    return new CursorPageDto<>(mapper.apply(pageRows), cursorOf.apply(pageRows.get(limit - 1)));
+  }
+
+  /**
+   * Encodes sort key as an opaque cursor.
+   *
+   * @param values sort key values, none of them containing a comma
+   * @return cursor
+   */
+  public static String encodeCursor(Object... values) {
+    String key = Stream.of(values).map(String::valueOf).collect(Collectors.joining(SEPARATOR));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes cursor created by {@link #encodeCursor}.
+   *
+   * @param cursor cursor
+   * @param parser parses sort key values
+   * @param <T>    type of sort key
+   * @return sort key
+   * @throws InvalidInputException if the cursor is malformed
+   */
+  public static <T> T decodeCursor(String cursor, Function<String[], T> parser) {
+    try {
+      String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      return parser.apply(key.split(SEPARATOR, -1));
+    } catch (RuntimeException e) {
+      throw InvalidInputException.cursor(cursor);
+    }
+  }
+}
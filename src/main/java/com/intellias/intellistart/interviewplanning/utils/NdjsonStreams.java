@@ -0,0 +1,47 @@
+package com.intellias.intellistart.interviewplanning.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Newline-delimited JSON responses. Items are written one per line as they are produced, so the response is never
+ * held in memory as a whole.
+ */
+public final class NdjsonStreams {
+
+  private NdjsonStreams() {
+  }
+
+  /**
+   * Creates response body that writes every item passed by the producer to its consumer.
+   *
+   * @param objectMapper mapper used for the items
+   * @param producer     passes items to the given consumer, e.g. while iterating a database cursor
+   * @param <T>          type of items
+   * @return streaming response body
+   */
+  public static <T> StreamingResponseBody stream(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+    return out -> {
+      // every line is terminated right after its item, instead of separating items by the next one
+      try (SequenceWriter writer = objectMapper.writer()
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+          .withRootValueSeparator("")
+          .writeValues(out)) {
+        producer.accept(item -> {
+          try {
+            writer.write(item);
+            writer.flush();
+            out.write('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      }
+    };
+  }
+}
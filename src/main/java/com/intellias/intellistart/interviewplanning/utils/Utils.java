@@ -1,5 +1,6 @@
 package com.intellias.intellistart.interviewplanning.utils;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.IsoFields;
@@ -38,6 +39,9 @@ public abstract class Utils {
    * @return day of week
    */
   public static int getWeekNumByDate(TemporalAccessor date) {
+    if (date instanceof LocalDate) {
+      return WeekCalendar.getDefault().getWeekNum((LocalDate) date);
+    }
     return date.get(WeekFields.ISO.weekOfWeekBasedYear())
         + date.get(IsoFields.WEEK_BASED_YEAR) * 100;
   }
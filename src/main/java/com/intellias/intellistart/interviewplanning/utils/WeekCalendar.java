@@ -0,0 +1,107 @@
+package com.intellias.intellistart.interviewplanning.utils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.WeekFields;
+
+/**
+ * Conversions between dates and week numbers in the {@code YYYYWW} form of ISO week-based years. The epoch day of the
+ * Monday that starts week 1 of every year in the range is computed once, after which a conversion is integer
+ * arithmetic on the table without {@code java.time} field lookups. Years outside the range fall back to
+ * {@code java.time} with the same results.
+ */
+public final class WeekCalendar {
+
+  public static final int DEFAULT_FIRST_YEAR = 2000;
+  public static final int DEFAULT_LAST_YEAR = 2100;
+
+  private static final WeekCalendar DEFAULT = new WeekCalendar(DEFAULT_FIRST_YEAR, DEFAULT_LAST_YEAR);
+
+  private final int firstYear;
+  private final int lastYear;
+  /**
+   * Epoch days of the first Monday of week 1 of every year from {@code firstYear} to {@code lastYear + 1}, the last
+   * one closing the range.
+   */
+  private final long[] weekOneStarts;
+
+  /**
+   * Precomputes the week starts of a range of years.
+   *
+   * @param firstYear first week-based year of the table
+   * @param lastYear  last week-based year of the table
+   */
+  public WeekCalendar(int firstYear, int lastYear) {
+    if (firstYear > lastYear) {
+      throw new IllegalArgumentException("Empty year range " + firstYear + ".." + lastYear);
+    }
+    this.firstYear = firstYear;
+    this.lastYear = lastYear;
+    this.weekOneStarts = new long[lastYear - firstYear + 2];
+    for (int i = 0; i < weekOneStarts.length; i++) {
+      // January 4th is always in week 1
+      LocalDate january4 = LocalDate.of(firstYear + i, 1, 4);
+      weekOneStarts[i] = january4.toEpochDay() - (january4.getDayOfWeek().getValue() - 1);
+    }
+  }
+
+  public static WeekCalendar getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Defines the number of the week of the date.
+   *
+   * @param date date
+   * @return week number as {@code YYYYWW}
+   */
+  public int getWeekNum(LocalDate date) {
+    int index = date.getYear() - firstYear;
+    if (index < 0 || index > lastYear - firstYear) {
+      return getWeekNumByJavaTime(date);
+    }
+    long epochDay = date.toEpochDay();
+    // the week-based year differs from the calendar year by at most one in the first and last days of January and
+    // December
+    if (epochDay < weekOneStarts[index]) {
+      if (index == 0) {
+        return getWeekNumByJavaTime(date);
+      }
+      index--;
+    } else if (epochDay >= weekOneStarts[index + 1]) {
+      if (index + 1 > lastYear - firstYear) {
+        return getWeekNumByJavaTime(date);
+      }
+      index++;
+    }
+    return (firstYear + index) * 100 + (int) ((epochDay - weekOneStarts[index]) / 7) + 1;
+  }
+
+  /**
+   * Defines the date of the day of the week. Week 53 of a year that has only 52 weeks is the first week of the next
+   * year, as with {@code java.time}.
+   *
+   * @param weekNum   week number as {@code YYYYWW}
+   * @param dayOfWeek day of week
+   * @return date
+   */
+  public LocalDate getDate(int weekNum, DayOfWeek dayOfWeek) {
+    int year = weekNum / 100;
+    int week = weekNum % 100;
+    if (year < firstYear || year > lastYear || week < 1 || week > 53) {
+      return getDateByJavaTime(weekNum, dayOfWeek);
+    }
+    return LocalDate.ofEpochDay(weekOneStarts[year - firstYear] + (week - 1) * 7L + dayOfWeek.getValue() - 1);
+  }
+
+  private static int getWeekNumByJavaTime(LocalDate date) {
+    return date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(WeekFields.ISO.weekOfWeekBasedYear());
+  }
+
+  private static LocalDate getDateByJavaTime(int weekNum, DayOfWeek dayOfWeek) {
+    return LocalDate.of(weekNum / 100, 1, 4)
+        .with(WeekFields.ISO.weekOfWeekBasedYear(), weekNum % 100)
+        .with(WeekFields.ISO.dayOfWeek(), dayOfWeek.getValue());
+  }
+}
@@ -6,6 +6,8 @@ import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 
@@ -70,4 +72,16 @@ public class BookingMapper {
         .sorted(Comparator.comparing(BookingDto::getFrom))
         .collect(Collectors.toList());
   }
+
+  /**
+   * entities to map of BookingDto by booking id.
+   *
+   * @param bookings entities
+   * @return map of BookingDto by booking id
+   */
+  public Map<Long, BookingDto> mapToDtoMap(List<Booking> bookings) {
+    return bookings.stream()
+        .map(BookingMapper::mapToDto)
+        .collect(Collectors.toMap(BookingDto::getId, Function.identity()));
+  }
 }
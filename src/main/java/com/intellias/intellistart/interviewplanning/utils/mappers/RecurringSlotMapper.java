@@ -0,0 +1,51 @@
+package com.intellias.intellistart.interviewplanning.utils.mappers;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.RecurringSlotDto;
+import com.intellias.intellistart.interviewplanning.models.RecurringInterviewerSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Recurring interviewer slot mapper.
+ */
+@UtilityClass
+public class RecurringSlotMapper {
+
+  /**
+   * to RecurringSlotDto.
+   *
+   * @param slot entity
+   * @return RecurringSlotDto
+   */
+  public RecurringSlotDto mapToDto(RecurringInterviewerSlot slot) {
+    if (slot == null) {
+      return null;
+    }
+    RecurringSlotDto slotDto = new RecurringSlotDto();
+    slotDto.setId(slot.getId());
+    slotDto.setDayOfWeek(slot.getDayOfWeek().name());
+    slotDto.setFrom(slot.getFrom());
+    slotDto.setTo(slot.getTo());
+    slotDto.setStartWeekNum(slot.getStartWeekNum());
+    return slotDto;
+  }
+
+  /**
+   * to RecurringInterviewerSlot.
+   *
+   * @param interviewer owner of the slot
+   * @param slotDto     slot dto
+   * @return RecurringInterviewerSlot
+   */
+  public RecurringInterviewerSlot mapToEntity(User interviewer, RecurringSlotDto slotDto) {
+    if (slotDto == null) {
+      return null;
+    }
+    RecurringInterviewerSlot slot = new RecurringInterviewerSlot();
+    slot.setInterviewer(interviewer);
+    slot.setDayOfWeek(slotDto.getDayOfWeek());
+    slot.setFrom(slotDto.getFrom());
+    slot.setTo(slotDto.getTo());
+    return slot;
+  }
+}
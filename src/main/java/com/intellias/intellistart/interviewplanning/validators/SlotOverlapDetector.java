@@ -0,0 +1,114 @@
+package com.intellias.intellistart.interviewplanning.validators;
+
+import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.Data;
+
+/**
+ * Finds overlapping time slots. Slots that only touch each other (one ends when the other starts) do not overlap.
+ * All slots are expected to belong to the same day and owner; filtering is up to the caller.
+ */
+public final class SlotOverlapDetector {
+
+  private static final Comparator<Interval> BY_FROM = Comparator.comparing(interval -> interval.slot.getFrom());
+  private static final Comparator<Interval> BY_TO = Comparator.comparing(interval -> interval.slot.getTo());
+
+  private SlotOverlapDetector() {
+  }
+
+  /**
+   * Finds all existing slots that overlap the given one. Linear in the number of existing slots.
+   *
+   * @param slot          new slot
+   * @param existingSlots slots already stored
+   * @return conflicts in the order of existing slots
+   */
+  public static List<Conflict> findConflicts(TimeSlot slot, List<? extends TimeSlot> existingSlots) {
+    List<Conflict> conflicts = new ArrayList<>();
+    for (TimeSlot existingSlot : existingSlots) {
+      if (overlap(slot, existingSlot)) {
+        conflicts.add(new Conflict(slot, existingSlot));
+      }
+    }
+    return conflicts;
+  }
+
+  /**
+   * Finds all overlaps of a batch of new slots with the existing ones and with each other. Slots are swept in the
+   * order of their start while the ones still open are kept in heaps ordered by end, which takes
+   * O((N + M) log(N + M) + K) for N new slots, M existing slots and K conflicts. Overlaps between existing slots
+   * are neither reported nor visited.
+   *
+   * @param newSlots      slots to validate
+   * @param existingSlots slots already stored
+   * @return conflicts ordered by the start of the later slot of each pair
+   */
+  public static List<Conflict> findConflicts(List<? extends TimeSlot> newSlots,
+      List<? extends TimeSlot> existingSlots) {
+    List<Interval> intervals = new ArrayList<>(newSlots.size() + existingSlots.size());
+    newSlots.forEach(slot -> intervals.add(new Interval(slot, true)));
+    existingSlots.forEach(slot -> intervals.add(new Interval(slot, false)));
+    intervals.sort(BY_FROM);
+
+    PriorityQueue<Interval> openNew = new PriorityQueue<>(BY_TO);
+    PriorityQueue<Interval> openExisting = new PriorityQueue<>(BY_TO);
+    List<Conflict> conflicts = new ArrayList<>();
+    for (Interval interval : intervals) {
+      closeEndedBefore(openNew, interval);
+      closeEndedBefore(openExisting, interval);
+      for (Interval open : openNew) {
+        conflicts.add(new Conflict(open.slot, interval.slot));
+      }
+      if (interval.isNew) {
+        for (Interval open : openExisting) {
+          conflicts.add(new Conflict(interval.slot, open.slot));
+        }
+        openNew.add(interval);
+      } else {
+        openExisting.add(interval);
+      }
+    }
+    return conflicts;
+  }
+
+  private static void closeEndedBefore(PriorityQueue<Interval> open, Interval interval) {
+    while (!open.isEmpty() && !open.peek().slot.getTo().isAfter(interval.slot.getFrom())) {
+      open.poll();
+    }
+  }
+
+  private static boolean overlap(TimeSlot slot, TimeSlot other) {
+    return !(other.isAfterOrEqual(slot) || other.isBeforeOrEqual(slot));
+  }
+
+  private static class Interval {
+
+    private final TimeSlot slot;
+    private final boolean isNew;
+
+    Interval(TimeSlot slot, boolean isNew) {
+      this.slot = slot;
+      this.isNew = isNew;
+    }
+  }
+
+  /**
+   * Pair of overlapping slots. The first one is always a new slot, the second one is either existing or new.
+   */
+  @Data
+  public static class Conflict {
+
+    private final TimeSlot slot;
+    private final TimeSlot conflictingSlot;
+
+    @Override
+    public String toString() {
+      return Utils.timeAsString(slot.getFrom()) + "-" + Utils.timeAsString(slot.getTo()) + " overlaps "
+          + Utils.timeAsString(conflictingSlot.getFrom()) + "-" + Utils.timeAsString(conflictingSlot.getTo());
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerS
 import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.validators.SlotOverlapDetector.Conflict;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -18,6 +19,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SlotValidator {
 
+  public static final int MAX_BATCH_SIZE = 500;
+
   private final WeekService weekService;
 
   /**
@@ -55,18 +58,45 @@ public class SlotValidator {
     }
   }
 
+  /**
+   * Validate number of slots created in one request.
+   *
+   * @param slots slots to be created
+   * @throws InvalidInputException if there are more than {@link #MAX_BATCH_SIZE} slots
+   */
+  public static void validateBatchSize(List<?> slots) {
+    if (slots.size() > MAX_BATCH_SIZE) {
+      throw InvalidInputException.batchSize(slots.size(), MAX_BATCH_SIZE);
+    }
+  }
+
   /**
    * Method to validate time slot overlapping.
    *
    * @param slot     time slot
    * @param allSlots list of slots
+   * @throws InvalidInputException listing all slots the given one overlaps
    */
   public static void validateSlotOverlapping(TimeSlot slot, List<? extends TimeSlot> allSlots) {
-    allSlots.forEach(s -> {
-      if (!(s.isAfterOrEqual(slot) || s.isBeforeOrEqual(slot))) {
-        throw InvalidInputException.periodOverlapping();
-      }
-    });
+    throwIfOverlapping(SlotOverlapDetector.findConflicts(slot, allSlots));
+  }
+
+  /**
+   * Validates a batch of slots against the existing ones and against each other.
+   *
+   * @param slots         new time slots
+   * @param existingSlots stored time slots of the same owner and day
+   * @throws InvalidInputException listing all overlapping pairs
+   */
+  public static void validateSlotsOverlapping(List<? extends TimeSlot> slots,
+      List<? extends TimeSlot> existingSlots) {
+    throwIfOverlapping(SlotOverlapDetector.findConflicts(slots, existingSlots));
+  }
+
+  private static void throwIfOverlapping(List<Conflict> conflicts) {
+    if (!conflicts.isEmpty()) {
+      throw InvalidInputException.periodOverlapping(conflicts);
+    }
   }
 
 }
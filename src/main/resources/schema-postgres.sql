@@ -1,12 +1,14 @@
-CREATE SEQUENCE IF NOT EXISTS booking_sequence START WITH 1 INCREMENT BY 5;
+CREATE SEQUENCE IF NOT EXISTS booking_sequence START WITH 1 INCREMENT BY 50;
 
-CREATE SEQUENCE IF NOT EXISTS candidate_slot_sequence START WITH 1 INCREMENT BY 5;
+CREATE SEQUENCE IF NOT EXISTS candidate_slot_sequence START WITH 1 INCREMENT BY 50;
 
 CREATE SEQUENCE IF NOT EXISTS hibernate_sequence START WITH 1 INCREMENT BY 1;
 
-CREATE SEQUENCE IF NOT EXISTS interviewer_slot_sequence START WITH 1 INCREMENT BY 5;
+CREATE SEQUENCE IF NOT EXISTS interviewer_slot_sequence START WITH 1 INCREMENT BY 50;
 
-CREATE SEQUENCE IF NOT EXISTS user_sequence START WITH 1 INCREMENT BY 5;
+CREATE SEQUENCE IF NOT EXISTS user_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS recurring_slot_sequence START WITH 1 INCREMENT BY 50;
 
 CREATE TABLE IF NOT EXISTS candidate_time_slot
 (
@@ -15,6 +17,7 @@ CREATE TABLE IF NOT EXISTS candidate_time_slot
     date_value date,
     from_time  TIME WITHOUT TIME ZONE,
     to_time    TIME WITHOUT TIME ZONE,
+    week_num   INTEGER,
     CONSTRAINT pk_candidatetimeslot PRIMARY KEY (id)
 );
 
@@ -27,6 +30,7 @@ CREATE TABLE IF NOT EXISTS users
     first_name  VARCHAR(255),
     middle_name VARCHAR(255),
     last_name   VARCHAR(255),
+    role_version INTEGER NOT NULL DEFAULT 0,
     CONSTRAINT pk_users PRIMARY KEY (id)
 );
 
@@ -51,6 +55,8 @@ CREATE TABLE IF NOT EXISTS booking
     description         VARCHAR(4000),
     candidate_slot_id   BIGINT,
     interviewer_slot_id BIGINT,
+    week_num            INTEGER,
+    date_value          date,
     CONSTRAINT pk_booking PRIMARY KEY (id),
     CONSTRAINT FK_BOOKING_ON_CANDIDATESLOT FOREIGN KEY (candidate_slot_id) REFERENCES candidate_time_slot (id),
     CONSTRAINT FK_BOOKING_ON_INTERVIEWERSLOT FOREIGN KEY (interviewer_slot_id) REFERENCES interviewer_time_slot (id)
@@ -65,7 +71,121 @@ CREATE TABLE IF NOT EXISTS booking_limit
     CONSTRAINT pk_bookinglimit PRIMARY KEY (id)
 );
 
+CREATE TABLE IF NOT EXISTS recurring_interviewer_slot
+(
+    id                         BIGINT  NOT NULL,
+    interviewer_id             BIGINT,
+    from_time                  TIME WITHOUT TIME ZONE,
+    to_time                    TIME WITHOUT TIME ZONE,
+    day_of_week                INTEGER,
+    start_week_num             INTEGER NOT NULL,
+    last_materialized_week_num INTEGER NOT NULL,
+    CONSTRAINT pk_recurringinterviewerslot PRIMARY KEY (id),
+    CONSTRAINT FK_RECURRINGINTERVIEWERSLOT_ON_INTERVIEWER FOREIGN KEY (interviewer_id) REFERENCES users (id)
+);
+
+-- weeks behind archive.horizon-weeks, moved out of the tables above by the nightly archival job; rows keep their ids
+CREATE TABLE IF NOT EXISTS interviewer_time_slot_archive
+(
+    id             BIGINT  NOT NULL,
+    interviewer_id BIGINT,
+    from_time      TIME WITHOUT TIME ZONE,
+    to_time        TIME WITHOUT TIME ZONE,
+    day_of_week    INTEGER,
+    week_num       INTEGER NOT NULL,
+    CONSTRAINT pk_interviewertimeslotarchive PRIMARY KEY (id),
+    CONSTRAINT FK_INTERVIEWERTIMESLOTARCHIVE_ON_INTERVIEWER FOREIGN KEY (interviewer_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS candidate_time_slot_archive
+(
+    id         BIGINT NOT NULL,
+    email      VARCHAR(255),
+    date_value date,
+    from_time  TIME WITHOUT TIME ZONE,
+    to_time    TIME WITHOUT TIME ZONE,
+    week_num   INTEGER,
+    CONSTRAINT pk_candidatetimeslotarchive PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS booking_archive
+(
+    id                  BIGINT NOT NULL,
+    from_time           TIME WITHOUT TIME ZONE,
+    to_time             TIME WITHOUT TIME ZONE,
+    subject             VARCHAR(255),
+    description         VARCHAR(4000),
+    candidate_slot_id   BIGINT,
+    interviewer_slot_id BIGINT,
+    week_num            INTEGER,
+    date_value          date,
+    CONSTRAINT pk_bookingarchive PRIMARY KEY (id)
+);
+
+-- week and date copied from the candidate slot on write; rows created before the columns existed are backfilled
+ALTER TABLE candidate_time_slot ADD COLUMN IF NOT EXISTS week_num INTEGER;
+ALTER TABLE booking ADD COLUMN IF NOT EXISTS week_num INTEGER;
+ALTER TABLE booking ADD COLUMN IF NOT EXISTS date_value date;
+UPDATE candidate_time_slot SET week_num = CAST(to_char(date_value, 'IYYYIW') AS INTEGER)
+WHERE week_num IS NULL AND date_value IS NOT NULL;
+UPDATE booking b SET week_num = c.week_num, date_value = c.date_value
+FROM candidate_time_slot c
+WHERE b.candidate_slot_id = c.id AND b.week_num IS NULL;
+ALTER TABLE candidate_time_slot_archive ADD COLUMN IF NOT EXISTS week_num INTEGER;
+ALTER TABLE booking_archive ADD COLUMN IF NOT EXISTS week_num INTEGER;
+ALTER TABLE booking_archive ADD COLUMN IF NOT EXISTS date_value date;
+UPDATE candidate_time_slot_archive SET week_num = CAST(to_char(date_value, 'IYYYIW') AS INTEGER)
+WHERE week_num IS NULL AND date_value IS NOT NULL;
+UPDATE booking_archive b SET week_num = c.week_num, date_value = c.date_value
+FROM candidate_time_slot_archive c
+WHERE b.candidate_slot_id = c.id AND b.week_num IS NULL;
+
 CREATE INDEX IF NOT EXISTS idx_users_email ON USERS (email);
-CREATE INDEX IF NOT EXISTS idx_interviewer_slot_weeknum ON INTERVIEWER_TIME_SLOT (week_num);
-CREATE INDEX IF NOT EXISTS idx_candidate_slot_date ON CANDIDATE_TIME_SLOT (date_value);
-CREATE INDEX IF NOT EXISTS idx_candidate_email_in_slot on candidate_time_slot (email);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_candidate_email_in_slot on candidate_time_slot (email);
+
+-- composite indexes follow the repository query shapes: equality columns first, range column last
+-- also serves (interviewer_id, week_num) lookups and the future slot check on (week_num, day_of_week, from_time)
+CREATE INDEX IF NOT EXISTS idx_interviewer_slot_interviewer_start
+    ON interviewer_time_slot (interviewer_id, week_num, day_of_week, from_time);
+CREATE INDEX IF NOT EXISTS idx_interviewer_slot_week_day ON interviewer_time_slot (week_num, day_of_week);
+CREATE INDEX IF NOT EXISTS idx_candidate_slot_date_email ON candidate_time_slot (date_value, email);
+CREATE INDEX IF NOT EXISTS idx_booking_interviewer_slot ON booking (interviewer_slot_id);
+CREATE INDEX IF NOT EXISTS idx_booking_candidate_slot ON booking (candidate_slot_id);
+CREATE INDEX IF NOT EXISTS idx_booking_limit_week ON booking_limit (week_num);
+CREATE INDEX IF NOT EXISTS idx_candidate_slot_week ON candidate_time_slot (week_num);
+CREATE INDEX IF NOT EXISTS idx_booking_week ON booking (week_num);
+CREATE INDEX IF NOT EXISTS idx_booking_date ON booking (date_value);
+-- pending recurring slots, checked on every read of a week: most rows are materialized up to the next week already,
+-- so the range on last_materialized_week_num comes first; the interviewer variant also serves lookups by interviewer
+CREATE INDEX IF NOT EXISTS idx_recurring_slot_pending
+    ON recurring_interviewer_slot (last_materialized_week_num, start_week_num);
+CREATE INDEX IF NOT EXISTS idx_recurring_slot_interviewer_pending
+    ON recurring_interviewer_slot (interviewer_id, last_materialized_week_num, start_week_num);
+CREATE INDEX IF NOT EXISTS idx_interviewer_slot_archive_week_day ON interviewer_time_slot_archive (week_num, day_of_week);
+CREATE INDEX IF NOT EXISTS idx_candidate_slot_archive_date ON candidate_time_slot_archive (date_value);
+CREATE INDEX IF NOT EXISTS idx_booking_archive_interviewer_slot ON booking_archive (interviewer_slot_id);
+CREATE INDEX IF NOT EXISTS idx_booking_archive_candidate_slot ON booking_archive (candidate_slot_id);
+-- keyset pages of users: role equality, then seek and order by id
+CREATE INDEX IF NOT EXISTS idx_users_role_id ON users (role, id);
+
+-- superseded by the composite indexes above
+DROP INDEX IF EXISTS idx_interviewer_slot_weeknum;
+DROP INDEX IF EXISTS idx_interviewer_slot_interviewer_week;
+DROP INDEX IF EXISTS idx_candidate_slot_date;
+DROP INDEX IF EXISTS idx_recurring_slot_interviewer;
+
+-- one booking limit row per interviewer and week; a one-time cleanup drops older duplicates before the constraint
+-- is created and does nothing on later startups, once the index exists
+DELETE FROM booking_limit a USING booking_limit b
+WHERE a.interviewer_id = b.interviewer_id AND a.week_num = b.week_num AND a.id < b.id
+  AND NOT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'uk_booking_limit_interviewer_week');
+CREATE UNIQUE INDEX IF NOT EXISTS uk_booking_limit_interviewer_week ON booking_limit (interviewer_id, week_num);
+
+-- sequence increments must match the entities' allocationSize
+ALTER SEQUENCE booking_sequence INCREMENT BY 50;
+ALTER SEQUENCE candidate_slot_sequence INCREMENT BY 50;
+ALTER SEQUENCE interviewer_slot_sequence INCREMENT BY 50;
+ALTER SEQUENCE user_sequence INCREMENT BY 50;
+
+-- columns added after the tables were first created
+ALTER TABLE users ADD COLUMN IF NOT EXISTS role_version INTEGER NOT NULL DEFAULT 0;
@@ -20,11 +20,13 @@ import com.intellias.intellistart.interviewplanning.services.AuthService.Faceboo
 import com.intellias.intellistart.interviewplanning.services.AuthService.FacebookTokenInfo.FbData;
 import com.intellias.intellistart.interviewplanning.services.AuthService.FacebookTokenResponse;
 import com.intellias.intellistart.interviewplanning.services.AuthService.FacebookUserProfile;
+import com.intellias.intellistart.interviewplanning.services.FacebookProfileCache;
 import com.intellias.intellistart.interviewplanning.test_utils.DisabledWhenOffline;
 import com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils;
 import java.util.Collections;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -56,9 +58,15 @@ class AuthControllerTest {
   private MockMvc mockMvc;
   @Autowired
   private AuthService authService;
+  @Autowired
+  private FacebookProfileCache profileCache;
   @SpyBean
   private RestTemplate rest;
 
+  @BeforeEach
+  void clearProfileCache() {
+    profileCache.invalidateAll();
+  }
 
   @Test
   void getAuthLink() {
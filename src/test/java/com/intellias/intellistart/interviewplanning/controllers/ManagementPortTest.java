@@ -0,0 +1,52 @@
+package com.intellias.intellistart.interviewplanning.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(classes = TestSecurityUtils.class, webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "management.server.port=0")
+@AutoConfigureMetrics
+class ManagementPortTest {
+
+  @Autowired
+  private TestRestTemplate rest;
+  @LocalServerPort
+  private int serverPort;
+  @LocalManagementPort
+  private int managementPort;
+
+  @Test
+  void testScrapeOnManagementPortNeedsNoToken() {
+    ResponseEntity<String> scrape = rest.getForEntity(url(managementPort, "/actuator/prometheus"), String.class);
+    assertEquals(HttpStatus.OK, scrape.getStatusCode());
+    assertThat(scrape.getBody()).contains("http_server_requests_seconds");
+  }
+
+  @Test
+  void testOtherEndpointsOnManagementPortNeedToken() {
+    assertEquals(HttpStatus.FORBIDDEN,
+        rest.getForEntity(url(managementPort, "/actuator/metrics"), String.class).getStatusCode());
+  }
+
+  @Test
+  void testScrapeOnServerPortIsNotServed() {
+    assertThat(rest.getForEntity(url(serverPort, "/actuator/prometheus"), String.class).getStatusCode()
+        .is2xxSuccessful()).isFalse();
+  }
+
+  private static String url(int port, String path) {
+    return "http://localhost:" + port + path;
+  }
+}
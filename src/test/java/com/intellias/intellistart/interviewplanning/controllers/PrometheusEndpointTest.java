@@ -0,0 +1,54 @@
+package com.intellias.intellistart.interviewplanning.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils;
+import com.intellias.intellistart.interviewplanning.test_utils.WithCustomUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(classes = TestSecurityUtils.class)
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@WithCustomUser
+class PrometheusEndpointTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+  @Autowired
+  private WeekService weekService;
+
+  @Test
+  void testScrapeContainsEndpointServiceAndQueryMetrics() throws Exception {
+    mockMvc.perform(get("/weeks/{weekId}/dashboard", weekService.getCurrentWeekNum()))
+        .andExpect(status().isOk());
+
+    String scrape = mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    assertThat(scrape)
+        .contains("http_server_requests_seconds_count{exception=\"None\",method=\"GET\"")
+        .contains("http_server_requests_sql_statements_count{method=\"GET\",uri=\"/weeks/{weekId}/dashboard\",}")
+        .contains("http_server_requests_sql_repository_statements_count{method=\"GET\","
+            + "repository=\"InterviewerTimeSlotRepository\",uri=\"/weeks/{weekId}/dashboard\",}")
+        .contains("dashboard_build_seconds_count{scope=\"week\",}")
+        .contains("spring_data_repository_invocations_seconds_count");
+  }
+
+  @Test
+  @WithAnonymousUser
+  void testScrapeOnApplicationPortNeedsToken() throws Exception {
+    mockMvc.perform(get("/actuator/prometheus").with(request -> {
+      request.setRemoteAddr("127.0.0.1");
+      return request;
+    })).andExpect(status().isForbidden());
+  }
+}
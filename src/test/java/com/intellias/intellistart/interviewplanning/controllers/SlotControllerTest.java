@@ -11,19 +11,24 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlotDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.RecurringSlotDto;
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.RecurringInterviewerSlotRepository;
 import com.intellias.intellistart.interviewplanning.services.CandidateService;
 import com.intellias.intellistart.interviewplanning.services.InterviewerService;
 import com.intellias.intellistart.interviewplanning.services.WeekServiceImp;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
 import com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils;
 import com.intellias.intellistart.interviewplanning.test_utils.WithCustomUser;
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
@@ -33,6 +38,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 @SpringBootTest(classes = TestSecurityUtils.class)
@@ -80,6 +87,12 @@ class SlotControllerTest {
   private InterviewerService interviewerService;
   @MockBean
   private CandidateService candidateService;
+  @SpyBean
+  private WeekServiceImp weekService;
+  @Autowired
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Autowired
+  private RecurringInterviewerSlotRepository recurringSlotRepository;
 
   @Test
   void testGetAllInterviewerSlots() {
@@ -97,6 +110,35 @@ class SlotControllerTest {
         json(interviewerSlotDto1), json(interviewerSlotDto1), mockMvc);
   }
 
+  @Test
+  void testAddSlotsToInterviewer() {
+    List<InterviewerSlotDto> slots = List.of(interviewerSlotDto1, interviewerSlotDto2);
+    doReturn(slots).when(interviewerService).createSlots(1L, slots);
+    checkResponseOk(
+        post("/interviewers/{INTERVIEWER_ID}/slots/batch", 1L),
+        json(slots), json(slots), mockMvc);
+  }
+
+  @Test
+  @WithCustomUser(CANDIDATE_EMAIL)
+  void testAddSlotsToCandidate() {
+    when(candidateService
+        .createSlots(CANDIDATE_EMAIL, List.of(candidateSlotDto)))
+        .thenReturn(List.of(candidateSlotDto));
+    checkResponseOk(
+        post("/candidates/current/slots/batch"),
+        json(List.of(candidateSlotDto)), json(List.of(candidateSlotDto)), mockMvc);
+  }
+
+  @Test
+  void testAddRecurringSlotToInterviewer() {
+    RecurringSlotDto recurringSlotDto = new RecurringSlotDto("10:00", "13:00", "Tue");
+    doReturn(recurringSlotDto).when(interviewerService).createRecurringSlot(1L, recurringSlotDto);
+    checkResponseOk(
+        post("/interviewers/{INTERVIEWER_ID}/slots/recurring", 1L),
+        json(recurringSlotDto), json(recurringSlotDto), mockMvc);
+  }
+
   @Test
   void testUpdateInterviewerTimeSlot() {
     doReturn(interviewerSlotDto1).when(interviewerService).updateSlot(1L, 1L, interviewerSlotDto1);
@@ -171,4 +213,29 @@ class SlotControllerTest {
             INTERVIEWER_ID + 2, interviewerSlot.getId()),
         null, null, status().isNotFound(), mockMvc);
   }
+
+  @Test
+  void testNewRecurringSlotChangesNextWeekSlotsTag() throws Exception {
+    doReturn(DayOfWeek.MONDAY).when(weekService).getCurrentDay();
+    int nextWeekNum = actualWeekService.getNextWeekNum();
+    String etag = mockMvc.perform(get("/interviewers/{INTERVIEWER_ID}/slots/weeks/next", INTERVIEWER_ID))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(0))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(post("/interviewers/{INTERVIEWER_ID}/slots/recurring", INTERVIEWER_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json(new RecurringSlotDto("10:00", "13:00", "Tue"))))
+        .andExpect(status().isOk());
+    try {
+      mockMvc.perform(get("/interviewers/{INTERVIEWER_ID}/slots/weeks/next", INTERVIEWER_ID)
+              .header(HttpHeaders.IF_NONE_MATCH, etag))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1));
+    } finally {
+      recurringSlotRepository.deleteAll(recurringSlotRepository.findByInterviewerId(INTERVIEWER_ID));
+      interviewerTimeSlotRepository.deleteAll(
+          interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(INTERVIEWER_ID, nextWeekNum));
+    }
+  }
 }
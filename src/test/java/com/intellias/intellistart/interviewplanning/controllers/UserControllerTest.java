@@ -3,12 +3,20 @@ package com.intellias.intellistart.interviewplanning.controllers;
 import static com.intellias.intellistart.interviewplanning.test_utils.TestUtils.checkResponseBad;
 import static com.intellias.intellistart.interviewplanning.test_utils.TestUtils.checkResponseOk;
 import static com.intellias.intellistart.interviewplanning.test_utils.TestUtils.json;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
@@ -16,15 +24,19 @@ import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import com.intellias.intellistart.interviewplanning.services.CoordinatorService;
 import com.intellias.intellistart.interviewplanning.services.InterviewerService;
+import com.intellias.intellistart.interviewplanning.services.UserService;
 import com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils;
 import com.intellias.intellistart.interviewplanning.test_utils.WithCustomUser;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest(classes = TestSecurityUtils.class)
 @AutoConfigureMockMvc
@@ -48,6 +60,8 @@ class UserControllerTest {
   private InterviewerService interviewerService;
   @MockBean
   private CoordinatorService coordinatorService;
+  @MockBean
+  private UserService userService;
 
   @Test
   void testGetUserInfo() {
@@ -176,4 +190,36 @@ class UserControllerTest {
     checkResponseOk(get("/users/coordinators"),
         null, json(List.of(TEST_COORDINATOR)), mockMvc);
   }
+
+  @Test
+  void testGetInterviewersPage() {
+    CursorPageDto<User> page = new CursorPageDto<>(List.of(TEST_INTERVIEWER), "MQ");
+    when(userService.getUsers(UserRole.INTERVIEWER, null, 1)).thenReturn(page);
+    checkResponseOk(get("/users/interviewers").param("limit", "1"),
+        null, json(page), mockMvc);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testStreamCoordinators() throws Exception {
+    doAnswer(invocation -> {
+      Consumer<User> consumer = invocation.getArgument(1);
+      consumer.accept(TEST_COORDINATOR);
+      consumer.accept(TEST_INTERVIEWER);
+      return null;
+    }).when(userService).streamUsers(eq(UserRole.COORDINATOR), any(Consumer.class));
+
+    MvcResult result = mockMvc.perform(get("/users/coordinators").accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+    String[] lines = result.getResponse().getContentAsString().split("\n");
+    assertEquals(2, lines.length);
+    assertEquals(UserRole.COORDINATOR.name(), new ObjectMapper().readTree(lines[0]).get("role").asText());
+    assertEquals(UserRole.INTERVIEWER.name(), new ObjectMapper().readTree(lines[1]).get("role").asText());
+    for (String line : lines) {
+      assertEquals(new ObjectMapper().readTree(line).toString(), line);
+    }
+  }
 }
@@ -3,14 +3,29 @@ package com.intellias.intellistart.interviewplanning.controllers;
 import static com.intellias.intellistart.interviewplanning.test_utils.TestUtils.checkResponseBad;
 import static com.intellias.intellistart.interviewplanning.test_utils.TestUtils.checkResponseOk;
 import static com.intellias.intellistart.interviewplanning.test_utils.TestUtils.json;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
 import com.intellias.intellistart.interviewplanning.security.jwt.JwtRequestFilter;
 import com.intellias.intellistart.interviewplanning.services.CoordinatorService;
+import com.intellias.intellistart.interviewplanning.services.DashboardEventBroadcaster;
+import com.intellias.intellistart.interviewplanning.services.MatchingService;
+import com.intellias.intellistart.interviewplanning.services.ScheduleProposalService;
+import com.intellias.intellistart.interviewplanning.services.ScheduleVersions;
 import com.intellias.intellistart.interviewplanning.services.WeekServiceImp;
 import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
@@ -18,9 +33,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(WeekController.class)
+@Import({ScheduleVersions.class, DashboardEventBroadcaster.class})
 @AutoConfigureMockMvc(addFilters = false)
 class WeekControllerTest {
 
@@ -29,11 +48,19 @@ class WeekControllerTest {
   @MockBean
   private CoordinatorService coordinatorService;
   @MockBean
+  private MatchingService matchingService;
+  @MockBean
+  private ScheduleProposalService scheduleProposalService;
+  @MockBean
   private CommandLineRunner commandLineRunner;
   @MockBean
   private JwtRequestFilter jwtRequestFilter;
   @SpyBean
   private WeekServiceImp weekService;
+  @Autowired
+  private ScheduleVersions scheduleVersions;
+  @Autowired
+  private DashboardEventBroadcaster dashboardEventBroadcaster;
 
   @Test
   void testGetCurrentWeek() {
@@ -54,6 +81,65 @@ class WeekControllerTest {
         null, mockMvc);
   }
 
+  @Test
+  void testNotModifiedDashboardIsNotRebuilt() throws Exception {
+    String etag = mockMvc.perform(get("/weeks/{weekId}/dashboard", 202240))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/weeks/{weekId}/dashboard", 202240).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+    verify(coordinatorService, times(1)).getWeekDashboard(202240);
+
+    scheduleVersions.onScheduleChanged(new ScheduleChangedEvent(202240, 2L, Change.BOOKING_DELETED, null));
+    mockMvc.perform(get("/weeks/{weekId}/dashboard", 202240).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG));
+    verify(coordinatorService, times(2)).getWeekDashboard(202240);
+  }
+
+  @Test
+  void testDashboardChangesArePushedToSubscribers() throws Exception {
+    MvcResult result = mockMvc.perform(get("/weeks/{weekId}/dashboard/events", 202240))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    dashboardEventBroadcaster.onScheduleChanged(new ScheduleChangedEvent(202240, 2L, Change.BOOKING_DELETED, null));
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!result.getResponse().getContentAsString().contains("event:booking-deleted")
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(result.getResponse().getContentAsString().contains("event:booking-deleted"));
+  }
+
+  @Test
+  void testGetDayMatches() throws Exception {
+    mockMvc.perform(get("/weeks/{weekId}/matches", 202240).param("day", "tue"))
+        .andExpect(status().isOk());
+    verify(matchingService).getDayMatches(202240, DayOfWeek.TUESDAY);
+  }
+
+  @Test
+  void testGetMatchesOfUnknownDay() {
+    checkResponseBad(get("/weeks/{weekId}/matches", 202240).param("day", "someday"), null,
+        null, status().isBadRequest(), mockMvc);
+  }
+
+  @Test
+  void testGetScheduleProposal() {
+    List<BookingDto> proposal = List.of(BookingDto.builder()
+        .from(LocalTime.of(9, 0))
+        .to(LocalTime.of(10, 30))
+        .subject("Interview")
+        .description("")
+        .interviewerSlotId(1L)
+        .candidateSlotId(2L)
+        .build());
+    when(scheduleProposalService.proposeSchedule(202240)).thenReturn(proposal);
+    checkResponseOk(get("/weeks/{weekId}/schedule-proposal", 202240), null, json(proposal), mockMvc);
+  }
+
   @Test
   void testExceptionHandles() {
     when(coordinatorService.getWeekDashboard(-1)).thenThrow(new DateTimeException("Invalid weekNum"));
@@ -0,0 +1,54 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@DataJpaTest
+class BookingRepositoryTest {
+
+  @MockBean
+  private CommandLineRunner commandLineRunner;
+  @Autowired
+  private TestEntityManager entityManager;
+  @Autowired
+  private BookingRepository bookingRepository;
+  @Autowired
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+
+  @Test
+  void testWeekAndDateAreKeptOnWrite() {
+    User interviewer = entityManager.persist(new User("interviewer@test.com", UserRole.INTERVIEWER));
+    InterviewerTimeSlot interviewerSlot = new InterviewerTimeSlot("10:00", "18:00", "Fri", 202053);
+    interviewerSlot.setInterviewer(interviewer);
+    entityManager.persist(interviewerSlot);
+    CandidateTimeSlot candidateSlot = entityManager.persist(
+        new CandidateTimeSlot("candidate@test.com", "2021-01-01", "10:00", "18:00"));
+    CandidateTimeSlot otherCandidateSlot = entityManager.persist(
+        new CandidateTimeSlot("candidate@test.com", "2021-01-04", "10:00", "18:00"));
+    Booking booking = entityManager.persist(new Booking(LocalTime.of(10, 0), LocalTime.of(11, 30), candidateSlot,
+        interviewerSlot, "subject", "description"));
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(List.of(candidateSlot), candidateTimeSlotRepository.findByWeekNum(202053));
+    assertEquals(List.of(otherCandidateSlot), candidateTimeSlotRepository.findByWeekNum(202101));
+    assertEquals(List.of(booking), bookingRepository.findAllOfWeek(202053));
+    assertEquals(List.of(booking), bookingRepository.findAllOfDate(LocalDate.of(2021, 1, 1)));
+    assertTrue(bookingRepository.findAllOfWeek(202101).isEmpty());
+  }
+}
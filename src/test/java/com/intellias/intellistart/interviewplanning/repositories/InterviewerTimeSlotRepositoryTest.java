@@ -0,0 +1,55 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@DataJpaTest
+class InterviewerTimeSlotRepositoryTest {
+
+  @MockBean
+  private CommandLineRunner commandLineRunner;
+  @Autowired
+  private InterviewerTimeSlotRepository repository;
+  @Autowired
+  private UserRepository userRepository;
+
+  private User interviewer;
+
+  @BeforeEach
+  void saveSlot() {
+    interviewer = userRepository.save(new User("interviewer@test.com", UserRole.INTERVIEWER));
+    User other = userRepository.save(new User("other@test.com", UserRole.INTERVIEWER));
+    InterviewerTimeSlot slot = new InterviewerTimeSlot("10:00", "12:00", "Wed", 202210);
+    slot.setInterviewer(interviewer);
+    InterviewerTimeSlot laterSlotOfOther = new InterviewerTimeSlot("10:00", "12:00", "Wed", 202250);
+    laterSlotOfOther.setInterviewer(other);
+    repository.save(slot);
+    repository.save(laterSlotOfOther);
+  }
+
+  @Test
+  void testExistsStartingAfterComparesWeekThenDayThenTime() {
+    assertTrue(existsAfter(202209, DayOfWeek.FRIDAY, "23:00"));
+    assertTrue(existsAfter(202210, DayOfWeek.TUESDAY, "23:00"));
+    assertTrue(existsAfter(202210, DayOfWeek.WEDNESDAY, "09:59"));
+    assertFalse(existsAfter(202210, DayOfWeek.WEDNESDAY, "10:00"));
+    assertFalse(existsAfter(202210, DayOfWeek.THURSDAY, "08:00"));
+    assertFalse(existsAfter(202211, DayOfWeek.MONDAY, "08:00"));
+  }
+
+  private boolean existsAfter(int weekNum, DayOfWeek dayOfWeek, String time) {
+    return repository.existsStartingAfter(interviewer.getId(), weekNum, dayOfWeek.ordinal(), LocalTime.parse(time));
+  }
+}
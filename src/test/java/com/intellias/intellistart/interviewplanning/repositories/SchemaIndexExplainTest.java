@@ -0,0 +1,168 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.utils.Utils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Applies the indexes from schema-postgres.sql to the embedded database, fills it with a few weeks of data and checks
+ * that the SQL shapes issued by the repositories are planned as index lookups, so a dropped or reordered index shows
+ * up as a failing test. Foreign key lookups only assert the absence of a table scan because H2, unlike Postgres,
+ * indexes foreign keys on its own.
+ */
+@DataJpaTest
+@TestInstance(Lifecycle.PER_CLASS)
+class SchemaIndexExplainTest {
+
+  private static final String TABLE_SCAN = "TABLESCAN";
+  private static final int USERS = 50;
+  private static final int WEEKS = 100;
+  private static final int ROWS = 5000;
+
+  @MockBean
+  private CommandLineRunner commandLineRunner;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  void prepareDatabase() throws IOException {
+    String schema = StreamUtils.copyToString(new ClassPathResource("schema-postgres.sql").getInputStream(),
+        StandardCharsets.UTF_8);
+    Arrays.stream(schema.replaceAll("--[^\\n]*", "").split(";"))
+        .map(String::strip)
+        .filter(statement -> statement.startsWith("CREATE INDEX") || statement.startsWith("CREATE UNIQUE INDEX"))
+        .forEach(jdbcTemplate::execute);
+    fillTables();
+    jdbcTemplate.execute("analyze");
+  }
+
+  /**
+   * The rows are committed outside of test transactions and the database is shared with other repository tests.
+   */
+  @AfterAll
+  void clearTables() {
+    List.of("booking", "candidate_time_slot", "interviewer_time_slot", "booking_limit", "recurring_interviewer_slot",
+        "users")
+        .forEach(table -> jdbcTemplate.execute("delete from " + table));
+  }
+
+  private void fillTables() {
+    for (int i = 1; i <= USERS; i++) {
+      jdbcTemplate.update("insert into users (id, email, role) values (?, ?, 'INTERVIEWER')", i, i + "@test.com");
+      jdbcTemplate.update("insert into booking_limit (id, interviewer_id, week_num, limit_value) values (?, ?, ?, 5)",
+          i, i, 202200 + i);
+      jdbcTemplate.update("insert into recurring_interviewer_slot (id, interviewer_id, day_of_week, from_time, to_time,"
+          + " start_week_num, last_materialized_week_num) values (?, ?, 2, time '08:00', time '18:00', ?, 202301)",
+          i, i, 202200 + i);
+    }
+    LocalDate firstDay = LocalDate.of(2022, 1, 3);
+    int days = WEEKS * 7;
+    for (int i = 1; i <= ROWS; i++) {
+      jdbcTemplate.update("insert into interviewer_time_slot (id, interviewer_id, week_num, day_of_week, from_time, "
+          + "to_time) values (?, ?, ?, ?, time '08:00', time '18:00')", i, i % USERS + 1, 202200 + i % WEEKS, i % 5);
+      LocalDate date = firstDay.plusDays(i % days);
+      jdbcTemplate.update("insert into candidate_time_slot (id, email, date_value, week_num, from_time, to_time) "
+          + "values (?, ?, ?, ?, time '08:00', time '18:00')", i, i % USERS + "@candidate.com", date,
+          Utils.getWeekNumByDate(date));
+      jdbcTemplate.update("insert into booking (id, interviewer_slot_id, candidate_slot_id, week_num, date_value, "
+          + "from_time, to_time) values (?, ?, ?, ?, ?, time '08:00', time '09:30')", i, i, i,
+          Utils.getWeekNumByDate(date), date);
+    }
+  }
+
+  @Test
+  void testInterviewerSlotsByInterviewerAndWeek() {
+    assertUsesIndex("idx_interviewer_slot_interviewer_start",
+        "select * from interviewer_time_slot where interviewer_id = 1 and week_num = 202210");
+    assertUsesIndex("idx_interviewer_slot_interviewer_start",
+        "select * from interviewer_time_slot where interviewer_id = 1 and week_num >= 202210");
+    assertNoTableScan("select * from interviewer_time_slot where interviewer_id = 1");
+  }
+
+  @Test
+  void testFutureSlotOfInterviewer() {
+    assertUsesIndex("idx_interviewer_slot_interviewer_start",
+        "select exists(select 1 from interviewer_time_slot s where s.interviewer_id = 1"
+            + " and (s.week_num, s.day_of_week, s.from_time) > (202210, 2, time '09:00'))");
+  }
+
+  @Test
+  void testInterviewerSlotsByWeekAndDay() {
+    assertUsesIndex("idx_interviewer_slot_week_day",
+        "select * from interviewer_time_slot where week_num = 202210 and day_of_week = 2");
+    assertUsesIndex("idx_interviewer_slot_week_day",
+        "select * from interviewer_time_slot where week_num = 202210");
+  }
+
+  @Test
+  void testCandidateSlots() {
+    assertUsesIndex("idx_candidate_slot_date_email",
+        "select * from candidate_time_slot where date_value = date '2022-11-03' and email = 'c@test.com'");
+    assertUsesIndex("idx_candidate_slot_date_email",
+        "select * from candidate_time_slot where date_value between date '2022-10-31' and date '2022-11-04'");
+    assertUsesIndex("idx_candidate_email_in_slot",
+        "select * from candidate_time_slot where email = 'c@test.com'");
+  }
+
+  @Test
+  void testBookingsBySlot() {
+    assertNoTableScan("select * from booking where interviewer_slot_id = 1");
+    assertNoTableScan("select * from booking where candidate_slot_id = 1");
+    assertNoTableScan("select count(*) from booking b join interviewer_time_slot i on b.interviewer_slot_id = i.id "
+        + "where i.interviewer_id = 1 and i.week_num = 202210");
+  }
+
+  @Test
+  void testBookingsAndCandidateSlotsOfWeekAndDay() {
+    assertUsesIndex("idx_booking_week", "select * from booking where week_num = 202210");
+    assertUsesIndex("idx_booking_date", "select * from booking where date_value = date '2022-11-03'");
+    assertUsesIndex("idx_candidate_slot_week", "select * from candidate_time_slot where week_num = 202210");
+  }
+
+  @Test
+  void testBookingLimits() {
+    assertNoTableScan("select * from booking_limit where interviewer_id = 1 and week_num = 202210");
+    assertUsesIndex("idx_booking_limit_week", "select * from booking_limit where week_num = 202210");
+  }
+
+  @Test
+  void testPendingRecurringSlots() {
+    assertUsesIndex("idx_recurring_slot_pending", "select count(*) from recurring_interviewer_slot"
+        + " where start_week_num <= 202302 and last_materialized_week_num < 202302");
+    assertUsesIndex("idx_recurring_slot_interviewer_pending", "select count(*) from recurring_interviewer_slot"
+        + " where interviewer_id = 1 and start_week_num <= 202302 and last_materialized_week_num < 202302");
+    assertNoTableScan("select * from recurring_interviewer_slot where interviewer_id = 1");
+  }
+
+  private void assertUsesIndex(String index, String sql) {
+    String plan = explain(sql);
+    assertTrue(plan.contains(index.toUpperCase()), () -> "Expected " + index + " in plan:\n" + plan);
+  }
+
+  private void assertNoTableScan(String sql) {
+    String plan = explain(sql);
+    assertFalse(plan.contains(TABLE_SCAN), () -> "Unexpected table scan in plan:\n" + plan);
+  }
+
+  private String explain(String sql) {
+    return jdbcTemplate.queryForObject("explain " + sql, String.class).toUpperCase();
+  }
+}
@@ -0,0 +1,141 @@
+package com.intellias.intellistart.interviewplanning.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.configs.HibernateCacheConfig;
+import com.intellias.intellistart.interviewplanning.configs.HibernateCacheEvictor;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs without a surrounding transaction, so that every repository call commits and is cached as in the application.
+ */
+@DataJpaTest
+@Import({HibernateCacheConfig.class, HibernateCacheEvictor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+  @MockBean
+  private CommandLineRunner commandLineRunner;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private BookingLimitRepository bookingLimitRepository;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private MeterBinder hibernateCacheMetrics;
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private Cache cache;
+  private User user;
+
+  @BeforeEach
+  void saveUser() {
+    hibernateCacheMetrics.bindTo(registry);
+    cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    user = userRepository.save(new User("interviewer@test.com", UserRole.INTERVIEWER));
+    cache.evictAllRegions();
+  }
+
+  @AfterEach
+  void deleteAll() {
+    bookingLimitRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void testUserIsReadFromCache() {
+    userRepository.findById(user.getId());
+    assertTrue(cache.containsEntity(User.class, user.getId()));
+    double hits = hits(User.CACHE_REGION);
+
+    assertEquals(UserRole.INTERVIEWER, userRepository.findById(user.getId()).orElseThrow().getRole());
+    assertEquals(hits + 1, hits(User.CACHE_REGION));
+  }
+
+  @Test
+  void testLookupByEmailIsReadFromCache() {
+    userRepository.findByEmail(user.getEmail());
+    double queryHits = hits(UserRepository.BY_EMAIL_CACHE_REGION);
+    double userHits = hits(User.CACHE_REGION);
+
+    userRepository.findByEmail(user.getEmail());
+    assertEquals(queryHits + 1, hits(UserRepository.BY_EMAIL_CACHE_REGION));
+    assertEquals(userHits + 1, hits(User.CACHE_REGION));
+  }
+
+  @Test
+  void testCommittedRoleChangeIsNotServedFromCache() {
+    userRepository.findByEmail(user.getEmail());
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      User changed = userRepository.findById(user.getId()).orElseThrow();
+      changed.setRole(UserRole.COORDINATOR);
+      userRepository.save(changed);
+      eventPublisher.publishEvent(new UserRoleChangedEvent(changed.getEmail(), changed.getRole(), 1));
+    });
+
+    assertFalse(cache.containsEntity(User.class, user.getId()));
+    assertEquals(UserRole.COORDINATOR, userRepository.findByEmail(user.getEmail()).orElseThrow().getRole());
+    assertEquals(UserRole.COORDINATOR, userRepository.findById(user.getId()).orElseThrow().getRole());
+  }
+
+  @Test
+  void testRoleChangeEvictsOnlyAfterCommit() {
+    userRepository.findById(user.getId());
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      eventPublisher.publishEvent(new UserRoleChangedEvent(user.getEmail(), UserRole.COORDINATOR, 1));
+      assertTrue(cache.containsEntity(User.class, user.getId()));
+      status.setRollbackOnly();
+    });
+
+    assertTrue(cache.containsEntity(User.class, user.getId()));
+  }
+
+  @Test
+  void testBookingLimitIsReadFromCacheUntilChanged() {
+    BookingLimit limit = bookingLimitRepository.save(new BookingLimit(user.getId(), 202210, 3));
+    bookingLimitRepository.findByInterviewerIdAndWeekNum(user.getId(), 202210);
+    double hits = hits(BookingLimitRepository.QUERY_CACHE_REGION);
+    bookingLimitRepository.findByInterviewerIdAndWeekNum(user.getId(), 202210);
+    assertEquals(hits + 1, hits(BookingLimitRepository.QUERY_CACHE_REGION));
+
+    limit.setValue(5);
+    bookingLimitRepository.save(limit);
+
+    assertEquals(5, bookingLimitRepository.findByInterviewerIdAndWeekNum(user.getId(), 202210).orElseThrow()
+        .getValue());
+  }
+
+  private double hits(String region) {
+    return registry.get("cache.gets").tag("cache", "hibernate." + region).tag("result", "hit")
+        .functionCounter().count();
+  }
+}
@@ -0,0 +1,91 @@
+package com.intellias.intellistart.interviewplanning.security.jwt;
+
+import static com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils.INTERVIEWER_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtRequestFilterTest {
+
+  private static final User INTERVIEWER = new User(INTERVIEWER_EMAIL, UserRole.INTERVIEWER).setId(2L);
+
+  private JwtTokenUtil jwtTokenUtil;
+  private JwtUserCache jwtUserCache;
+  private RoleVersionRegistry roleVersionRegistry;
+  private JwtRequestFilter filter;
+  private String token;
+
+  @BeforeEach
+  void setFilter() {
+    jwtTokenUtil = new JwtTokenUtil();
+    ReflectionTestUtils.setField(jwtTokenUtil, "secret", "0123456789abcdef0123456789abcdef0123456789abcdef");
+    jwtUserCache = new JwtUserCache(100, Duration.ofMinutes(5));
+    roleVersionRegistry = new RoleVersionRegistry(Duration.ofHours(1));
+    filter = new JwtRequestFilter(jwtTokenUtil, jwtUserCache, roleVersionRegistry);
+    token = jwtTokenUtil.generateToken(INTERVIEWER).getTokenValue();
+  }
+
+  @AfterEach
+  void clearContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void testUserIsBuiltFromClaims() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      User user = (User) authenticate(token).getPrincipal();
+      assertEquals(INTERVIEWER_EMAIL, user.getEmail());
+      assertEquals(2L, user.getId());
+      assertEquals(UserRole.INTERVIEWER, user.getRole());
+    }
+  }
+
+  @Test
+  void testRoleChangeRevokesOlderTokens() throws Exception {
+    authenticate(token);
+    UserRoleChangedEvent event = new UserRoleChangedEvent(INTERVIEWER_EMAIL, UserRole.CANDIDATE, 1);
+    jwtUserCache.onUserRoleChanged(event);
+    roleVersionRegistry.onUserRoleChanged(event);
+
+    assertNull(authenticate(token));
+    User candidate = new User(INTERVIEWER_EMAIL, UserRole.CANDIDATE).setId(2L).setRoleVersion(1);
+    String newToken = jwtTokenUtil.generateToken(candidate).getTokenValue();
+    assertEquals(UserRole.CANDIDATE, ((User) authenticate(newToken).getPrincipal()).getRole());
+  }
+
+  @Test
+  void testInvalidTokenIsNotAuthenticated() throws Exception {
+    assertNull(authenticate(""));
+  }
+
+  @Test
+  void testEntryDoesNotOutliveToken() {
+    jwtUserCache.put(token, INTERVIEWER, Instant.now().minusSeconds(1));
+    assertNull(jwtUserCache.get(token));
+
+    jwtUserCache.put(token, INTERVIEWER, Instant.now().plusSeconds(60));
+    assertEquals(INTERVIEWER, jwtUserCache.get(token));
+  }
+
+  private Authentication authenticate(String token) throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    return SecurityContextHolder.getContext().getAuthentication();
+  }
+}
@@ -0,0 +1,49 @@
+package com.intellias.intellistart.interviewplanning.security.jwt;
+
+import static com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils.INTERVIEWER_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtTokenUtilTest {
+
+  private static final User INTERVIEWER = new User(INTERVIEWER_EMAIL, UserRole.INTERVIEWER).setId(2L);
+
+  private JwtTokenUtil jwtTokenUtil;
+
+  @BeforeEach
+  void setUtil() {
+    jwtTokenUtil = new JwtTokenUtil();
+    ReflectionTestUtils.setField(jwtTokenUtil, "secret", "0123456789abcdef0123456789abcdef0123456789abcdef");
+  }
+
+  @Test
+  void testClaimsOfOneParseAreEnoughForTheRequest() {
+    String token = jwtTokenUtil.generateToken(INTERVIEWER).getTokenValue();
+
+    Claims claims = jwtTokenUtil.parseClaims(token);
+    assertTrue(jwtTokenUtil.isTokenValid(claims, INTERVIEWER));
+    User user = jwtTokenUtil.getUserFromClaims(claims);
+    assertEquals(INTERVIEWER.getId(), user.getId());
+    assertEquals(UserRole.INTERVIEWER, user.getRole());
+    assertEquals(INTERVIEWER_EMAIL, jwtTokenUtil.getUsernameFromToken(token));
+  }
+
+  @Test
+  void testTamperedTokenIsRejected() {
+    String token = jwtTokenUtil.generateToken(INTERVIEWER).getTokenValue();
+    String otherToken = jwtTokenUtil.generateToken(new User("other@mail.com", UserRole.COORDINATOR))
+        .getTokenValue();
+    String tampered = otherToken.substring(0, otherToken.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+    assertThrows(SignatureException.class, () -> jwtTokenUtil.parseClaims(tampered));
+  }
+}
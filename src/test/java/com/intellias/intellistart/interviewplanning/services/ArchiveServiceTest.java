@@ -0,0 +1,184 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.repositories.ArchivedBookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.ArchivedCandidateSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.ArchivedInterviewerSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.services.ArchiveService.ArchivedSchedule;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates weeks of history with slots and bookings and archives everything behind the horizon.
+ */
+@DataJpaTest
+class ArchiveServiceTest {
+
+  private static final int HORIZON_WEEKS = 4;
+  private static final int INTERVIEWERS = 5;
+
+  @MockBean
+  private CommandLineRunner commandLineRunner;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+  @Autowired
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Autowired
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Autowired
+  private BookingRepository bookingRepository;
+  @Autowired
+  private ArchivedInterviewerSlotRepository archivedInterviewerSlotRepository;
+  @Autowired
+  private ArchivedCandidateSlotRepository archivedCandidateSlotRepository;
+  @Autowired
+  private ArchivedBookingRepository archivedBookingRepository;
+
+  private final WeekService weekService = new WeekServiceImp();
+  private ArchiveService service;
+  private long nextId = 1;
+
+  @BeforeEach
+  void setService() {
+    service = new ArchiveService(interviewerTimeSlotRepository, candidateTimeSlotRepository, bookingRepository,
+        archivedInterviewerSlotRepository, archivedCandidateSlotRepository, archivedBookingRepository, weekService,
+        new TransactionTemplate(transactionManager), HORIZON_WEEKS);
+    for (int i = 1; i <= INTERVIEWERS; i++) {
+      jdbcTemplate.update("insert into users (id, email, role) values (?, ?, 'INTERVIEWER')", i, i + "@test.com");
+    }
+  }
+
+  @Test
+  void testWeeksBehindHorizonAreMoved() {
+    generateWeeks(0, 10);
+
+    service.archivePastWeeks();
+
+    int horizonWeekNum = service.getHorizonWeekNum();
+    assertTrue(interviewerTimeSlotRepository.findAll().stream()
+        .allMatch(slot -> slot.getWeekNum() >= horizonWeekNum));
+    assertTrue(candidateTimeSlotRepository.findAll().stream()
+        .allMatch(slot -> weekService.getWeekNumByDate(slot.getDate()) >= horizonWeekNum));
+    assertTrue(archivedInterviewerSlotRepository.findAll().stream()
+        .allMatch(slot -> slot.getWeekNum() < horizonWeekNum));
+    assertEquals(11 * INTERVIEWERS, interviewerTimeSlotRepository.count() + archivedInterviewerSlotRepository.count());
+    assertEquals(11 * INTERVIEWERS, bookingRepository.count() + archivedBookingRepository.count());
+    assertEquals((HORIZON_WEEKS + 1) * INTERVIEWERS, bookingRepository.count());
+  }
+
+  @Test
+  void testLiveTablesStayBoundedAsHistoryGrows() {
+    int currentWeekNum = weekService.getCurrentWeekNum();
+    generateWeeks(0, 10);
+    service.archivePastWeeks();
+    long liveSlots = interviewerTimeSlotRepository.count();
+    long liveBookings = bookingRepository.count();
+    long currentWeekSlots = interviewerTimeSlotRepository.findByWeekNum(currentWeekNum).size();
+
+    generateWeeks(11, 100);
+    assertEquals(liveSlots + 90 * INTERVIEWERS, countRows("interviewer_time_slot"));
+    assertEquals(liveBookings + 90 * INTERVIEWERS, countRows("booking"));
+    service.archivePastWeeks();
+
+    assertEquals(liveSlots, countRows("interviewer_time_slot"));
+    assertEquals(liveBookings, countRows("booking"));
+    assertEquals(currentWeekSlots, interviewerTimeSlotRepository.findByWeekNum(currentWeekNum).size());
+    assertEquals(101 * INTERVIEWERS, liveSlots + archivedInterviewerSlotRepository.count());
+  }
+
+  @Test
+  void testArchivedWeekIsReadBack() {
+    generateWeeks(0, 10);
+    service.archivePastWeeks();
+    int weekNum = weekService.getWeekNumByDate(weekService.getCurrentDate().minusWeeks(8));
+    LocalDate monday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.MONDAY);
+    LocalDate friday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.FRIDAY);
+
+    assertTrue(service.isArchived(weekNum));
+    assertFalse(service.isArchived(weekService.getCurrentWeekNum()));
+    ArchivedSchedule week = service.getWeek(weekNum, monday, friday);
+    assertEquals(INTERVIEWERS, week.getInterviewerSlots().size());
+    assertEquals(INTERVIEWERS, week.getCandidateSlots().size());
+    assertEquals(INTERVIEWERS, week.getBookings().size());
+    assertTrue(week.getBookings().stream().allMatch(booking -> booking.getInterviewerSlot().getWeekNum() == weekNum
+        && booking.getCandidateSlot().getDate().equals(monday.plusDays(1))));
+    assertTrue(week.getBookings().stream().allMatch(booking -> booking.getWeekNum() == weekNum
+        && booking.getDate().equals(monday.plusDays(1))));
+    assertTrue(week.getCandidateSlots().stream().allMatch(slot -> slot.getWeekNum() == weekNum));
+
+    ArchivedSchedule day = service.getDay(weekNum, DayOfWeek.TUESDAY, monday.plusDays(1));
+    assertEquals(INTERVIEWERS, day.getBookings().size());
+    assertTrue(service.getDay(weekNum, DayOfWeek.MONDAY, monday).getInterviewerSlots().isEmpty());
+  }
+
+  @Test
+  void testBookingSpanningWeeksIsReadBackWithItsLiveSlot() {
+    generateWeeks(0, 10);
+    LocalDate archivedTuesday = weekService.getCurrentDate().minusWeeks(HORIZON_WEEKS + 1).with(DayOfWeek.TUESDAY);
+    LocalDate liveMonday = archivedTuesday.plusWeeks(1).with(DayOfWeek.MONDAY);
+    int weekNum = weekService.getWeekNumByDate(archivedTuesday);
+    long id = nextId++;
+    jdbcTemplate.update("insert into interviewer_time_slot (id, interviewer_id, week_num, day_of_week, from_time,"
+        + " to_time) values (?, 1, ?, ?, time '14:00', time '16:00')", id, weekNum, DayOfWeek.TUESDAY.ordinal());
+    jdbcTemplate.update("insert into candidate_time_slot (id, email, date_value, week_num, from_time, to_time)"
+        + " values (?, 'late@candidate.com', ?, ?, time '14:00', time '16:00')", id, liveMonday, weekNum + 1);
+    jdbcTemplate.update("insert into booking (id, interviewer_slot_id, candidate_slot_id, week_num, date_value,"
+        + " from_time, to_time, subject) values (?, ?, ?, ?, ?, time '14:00', time '15:30', 'Interview')",
+        id, id, id, weekNum, archivedTuesday);
+
+    service.archivePastWeeks();
+
+    assertTrue(service.isArchived(weekNum));
+    assertTrue(candidateTimeSlotRepository.existsById(id));
+    ArchivedSchedule week = service.getWeek(weekNum, archivedTuesday.with(DayOfWeek.MONDAY),
+        archivedTuesday.with(DayOfWeek.FRIDAY));
+    assertEquals(INTERVIEWERS + 1, week.getBookings().size());
+    assertTrue(week.getBookings().stream().allMatch(booking -> booking.getCandidateSlot() != null
+        && booking.getInterviewerSlot() != null));
+    assertTrue(week.getBookings().stream()
+        .anyMatch(booking -> booking.getCandidateSlot().getDate().equals(liveMonday)));
+  }
+
+  /**
+   * Creates a booked Tuesday slot of every interviewer in each of the weeks that many weeks ago.
+   */
+  private void generateWeeks(int fromWeeksAgo, int toWeeksAgo) {
+    for (int weeksAgo = fromWeeksAgo; weeksAgo <= toWeeksAgo; weeksAgo++) {
+      LocalDate tuesday = weekService.getCurrentDate().minusWeeks(weeksAgo).with(DayOfWeek.TUESDAY);
+      int weekNum = weekService.getWeekNumByDate(tuesday);
+      for (int interviewer = 1; interviewer <= INTERVIEWERS; interviewer++) {
+        long id = nextId++;
+        jdbcTemplate.update("insert into interviewer_time_slot (id, interviewer_id, week_num, day_of_week, from_time,"
+            + " to_time) values (?, ?, ?, ?, time '10:00', time '12:00')", id, interviewer, weekNum,
+            DayOfWeek.TUESDAY.ordinal());
+        jdbcTemplate.update("insert into candidate_time_slot (id, email, date_value, week_num, from_time, to_time)"
+            + " values (?, ?, ?, ?, time '10:00', time '12:00')", id, interviewer + "@candidate.com", tuesday, weekNum);
+        jdbcTemplate.update("insert into booking (id, interviewer_slot_id, candidate_slot_id, week_num, date_value,"
+            + " from_time, to_time, subject) values (?, ?, ?, ?, ?, time '10:00', time '11:30', 'Interview')",
+            id, id, id, weekNum, tuesday);
+      }
+    }
+  }
+
+  private long countRows(String table) {
+    return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+  }
+}
@@ -0,0 +1,117 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.intellias.intellistart.interviewplanning.security.WebSecurityConfig;
+import com.intellias.intellistart.interviewplanning.security.jwt.JwtTokenUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Runs the Facebook login against a local stand-in of the Graph API over the pooled client.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+  private static final String PROFILE = "{\"id\":1,\"email\":\"user@mail.com\",\"first_name\":\"First\"}";
+
+  @Mock
+  private UserService userService;
+  @Mock
+  private JwtTokenUtil jwtTokenUtil;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger profileRequests = new AtomicInteger();
+  private volatile long profileDelayMillis;
+  private HttpServer server;
+  private CloseableHttpClient httpClient;
+  private AuthService service;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/oauth/access_token", exchange -> respond(exchange,
+        "{\"access_token\":\"user-token\",\"token_type\":\"bearer\"}"));
+    server.createContext("/debug_token", exchange -> respond(exchange,
+        "{\"data\":{\"is_valid\":true,\"user_id\":\"1\"}}"));
+    server.createContext("/1", exchange -> {
+      profileRequests.incrementAndGet();
+      try {
+        Thread.sleep(profileDelayMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      respond(exchange, PROFILE);
+    });
+    server.start();
+
+    String base = "http://localhost:" + server.getAddress().getPort();
+    MockEnvironment env = new MockEnvironment()
+        .withProperty("facebook.app-token", "app-token")
+        .withProperty("facebook.uri.get_token_by_code", base + "/oauth/access_token?code={0}")
+        .withProperty("facebook.uri.token_verify", base + "/debug_token?input_token={0}&access_token={1}")
+        .withProperty("facebook.uri.user_data", base + "/{0}?access_token={1}");
+    WebSecurityConfig config = new WebSecurityConfig(null);
+    httpClient = config.httpClient(2, Duration.ofSeconds(2), Duration.ofMillis(500));
+    RestTemplate rest = config.restTemplate(httpClient);
+    service = new AuthService(env, rest, new FacebookAppTokenProvider(env, rest, Duration.ofHours(1)), userService,
+        jwtTokenUtil, new FacebookProfileCache(100, Duration.ofMinutes(1)), meterRegistry);
+  }
+
+  @AfterEach
+  void stopServer() throws IOException {
+    httpClient.close();
+    server.stop(0);
+  }
+
+  @Test
+  void testRepeatedLoginReusesCachedProfile() {
+    OAuth2AccessToken jwt = mock(OAuth2AccessToken.class);
+    when(userService.existsWithEmail("user@mail.com")).thenReturn(false);
+    when(jwtTokenUtil.generateToken(any())).thenReturn(jwt);
+
+    assertSame(jwt, service.generateJwtByFacebookCode("code"));
+    assertSame(jwt, service.generateJwtByFacebookCode("code"));
+    assertEquals(1, profileRequests.get());
+    assertEquals(1, meterRegistry.timer("facebook.requests", "call", "user_profile", "outcome", "success").count());
+    assertEquals(2, meterRegistry.timer("facebook.requests", "call", "debug_token", "outcome", "success").count());
+  }
+
+  @Test
+  void testSlowProfileRequestTimesOut() {
+    profileDelayMillis = 1500;
+
+    assertThrows(ResourceAccessException.class, () -> service.generateJwtByFacebookToken("user-token"));
+  }
+
+  private static void respond(HttpExchange exchange, String json) throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+}
@@ -10,6 +10,8 @@ import com.intellias.intellistart.interviewplanning.controllers.dto.BookingLimit
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
 import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
@@ -41,6 +43,7 @@ class BookingLimitServiceTest {
   private final int nextWeekNum = weekService.getNextWeekNum();
   private static final Long existingUserId = 1L;
   private static final Long notExistingUserId = 2L;
+  private final User user = new User("interviewer@test.com", UserRole.INTERVIEWER);
 
   private final BookingLimit bookingLimit = new BookingLimit(
       existingUserId,
@@ -59,8 +62,8 @@ class BookingLimitServiceTest {
   void testSetBooking() {
     when(bookingLimitRepository.findByInterviewerIdAndWeekNum(existingUserId, nextWeekNum))
         .thenReturn(Optional.of(bookingLimit));
-    when(userRepository.existsById(existingUserId))
-        .thenReturn(true);
+    when(userRepository.findById(existingUserId))
+        .thenReturn(Optional.of(user));
     when(bookingLimitRepository.save(bookingLimit))
         .thenReturn(bookingLimit);
 
@@ -73,16 +76,16 @@ class BookingLimitServiceTest {
 
   @Test
   void testSetBookingThrowUserException() {
-    lenient().when(userRepository.existsById(notExistingUserId))
-        .thenReturn(false);
+    lenient().when(userRepository.findById(notExistingUserId))
+        .thenReturn(Optional.empty());
     assertThrows(NotFoundException.class,
         () -> bookingLimitService.saveBookingLimit(existingUserId, bookingLimitRequest));
   }
 
   @Test
   void testSetBookingThrowWeekNumException() {
-    when(userRepository.existsById(existingUserId))
-        .thenReturn(true);
+    when(userRepository.findById(existingUserId))
+        .thenReturn(Optional.of(user));
     assertThrows(ApplicationErrorException.class,
         () -> bookingLimitService.saveBookingLimit(existingUserId, badBookingLimitRequest));
   }
@@ -91,8 +94,8 @@ class BookingLimitServiceTest {
   void testSetBookingNewBooking() {
     when(bookingLimitRepository.findByInterviewerIdAndWeekNum(existingUserId, nextWeekNum))
         .thenReturn(Optional.of(bookingLimit));
-    when(userRepository.existsById(existingUserId))
-        .thenReturn(true);
+    when(userRepository.findById(existingUserId))
+        .thenReturn(Optional.of(user));
     when(bookingLimitRepository.save(any()))
         .thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
 
@@ -113,8 +116,8 @@ class BookingLimitServiceTest {
 
   @Test
   void testGetBookingLimitOk() {
-    lenient().when(userRepository.existsById(existingUserId))
-        .thenReturn(true);
+    lenient().when(userRepository.findById(existingUserId))
+        .thenReturn(Optional.of(user));
     when(bookingLimitRepository.findByInterviewerIdAndWeekNum(existingUserId, nextWeekNum))
         .thenReturn(Optional.of(bookingLimit));
     assertEquals(bookingLimitService.findBookingLimit(existingUserId, nextWeekNum),
@@ -123,8 +126,8 @@ class BookingLimitServiceTest {
 
   @Test
   void testGetBookingLimitThrowUserException() {
-    when(userRepository.existsById(existingUserId))
-        .thenReturn(false);
+    when(userRepository.findById(existingUserId))
+        .thenReturn(Optional.empty());
     assertThrows(NotFoundException.class,
         () -> bookingLimitService.findBookingLimit(existingUserId, nextWeekNum));
   }
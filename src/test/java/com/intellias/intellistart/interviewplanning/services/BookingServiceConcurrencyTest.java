@@ -0,0 +1,152 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+@SpringBootTest
+class BookingServiceConcurrencyTest {
+
+  private static final int THREADS = 64;
+  private static final int WEEK_NUM = 209901;
+  private static final int PERIODS = 9;
+
+  @MockBean
+  private CommandLineRunner commandLineRunner;
+  @Autowired
+  private BookingService bookingService;
+  @Autowired
+  private BookingRepository bookingRepository;
+  @Autowired
+  private BookingLimitRepository bookingLimitRepository;
+  @Autowired
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Autowired
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Autowired
+  private UserRepository userRepository;
+
+  private User interviewer;
+  private InterviewerTimeSlot interviewerSlot;
+  private CandidateTimeSlot candidateSlot;
+
+  @BeforeEach
+  void createSlots() {
+    interviewer = userRepository.save(new User("concurrent.interviewer@test.com", UserRole.INTERVIEWER));
+    interviewerSlot = new InterviewerTimeSlot("08:00", "22:00", "MONDAY", WEEK_NUM);
+    interviewerSlot.setInterviewer(interviewer);
+    interviewerSlot = interviewerTimeSlotRepository.save(interviewerSlot);
+    candidateSlot = candidateTimeSlotRepository.save(
+        new CandidateTimeSlot("concurrent.candidate@test.com", "2099-01-05", "08:00", "22:00"));
+  }
+
+  @AfterEach
+  void cleanUp() {
+    bookingRepository.deleteAll(bookingRepository.findByInterviewerSlot(interviewerSlot));
+    bookingLimitRepository.deleteAll(bookingLimitRepository.findAllByWeekNum(WEEK_NUM));
+    interviewerTimeSlotRepository.delete(interviewerSlot);
+    candidateTimeSlotRepository.delete(candidateSlot);
+    userRepository.delete(interviewer);
+  }
+
+  @Test
+  void testConcurrentBookingsDoNotExceedLimit() throws Exception {
+    bookingLimitRepository.save(new BookingLimit(interviewer.getId(), WEEK_NUM, 3));
+
+    int created = createConcurrently();
+
+    assertEquals(3, created);
+    assertEquals(3, bookingRepository.findByInterviewerSlot(interviewerSlot).size());
+  }
+
+  @Test
+  void testConcurrentBookingsDoNotOverlap() throws Exception {
+    int created = createConcurrently();
+
+    assertEquals(PERIODS, created);
+    assertEquals(PERIODS, bookingRepository.findByInterviewerSlot(interviewerSlot).size());
+    assertEquals(1, bookingLimitRepository.findAllByWeekNum(WEEK_NUM).size());
+  }
+
+  @Test
+  void testBatchIsRolledBackWhenOneBookingConflicts() {
+    bookingService.createBooking(bookingOfPeriod(2));
+
+    List<BookingDto> batch = List.of(bookingOfPeriod(0), bookingOfPeriod(1), bookingOfPeriod(2));
+    assertThrows(ApplicationErrorException.class, () -> bookingService.createBookings(batch));
+
+    assertEquals(1, bookingRepository.findByInterviewerSlot(interviewerSlot).size());
+  }
+
+  /**
+   * Fires {@link #THREADS} simultaneous requests spread over {@link #PERIODS} non-overlapping periods and returns
+   * how many of them succeeded. Every failure must be a regular application error.
+   */
+  private int createConcurrently() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      BookingDto bookingDto = bookingOfPeriod(i % PERIODS);
+      results.add(executor.submit(() -> {
+        start.await();
+        try {
+          bookingService.createBooking(bookingDto);
+          return true;
+        } catch (ApplicationErrorException e) {
+          return false;
+        }
+      }));
+    }
+    start.countDown();
+    int created = 0;
+    for (Future<Boolean> result : results) {
+      if (result.get(1, TimeUnit.MINUTES)) {
+        created++;
+      }
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    return created;
+  }
+
+  private BookingDto bookingOfPeriod(int period) {
+    LocalTime from = LocalTime.of(8, 0).plusMinutes(90L * period);
+    return BookingDto.builder()
+        .from(from)
+        .to(from.plusMinutes(90))
+        .subject("subject")
+        .description("description")
+        .interviewerSlotId(interviewerSlot.getId())
+        .candidateSlotId(candidateSlot.getId())
+        .build();
+  }
+}
@@ -8,24 +8,43 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
+import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException.ErrorCode;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
 import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
 import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
 import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.utils.mappers.BookingMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class BookingServiceTest {
@@ -80,12 +99,16 @@ class BookingServiceTest {
   InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   @Mock
   CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Mock
+  ApplicationEventPublisher eventPublisher;
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
   private BookingService service;
 
   @BeforeEach
   void setService() {
     service = new BookingService(bookingRepository, bookingLimitRepository,
-        interviewerTimeSlotRepository, candidateTimeSlotRepository);
+        interviewerTimeSlotRepository, candidateTimeSlotRepository, TransactionOperations.withoutTransaction(),
+        eventPublisher, meterRegistry);
     interviewer.setId(INTERVIEWER_ID);
   }
 
@@ -96,16 +119,91 @@ class BookingServiceTest {
     when(candidateTimeSlotRepository.findById(CANDIDATE_SLOT.getId()))
         .thenReturn(Optional.of(CANDIDATE_SLOT));
     when(bookingLimitRepository
-        .findByInterviewerIdAndWeekNum(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum()))
+        .findLockedByInterviewerIdAndWeekNum(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum()))
         .thenReturn(Optional.empty());
     when(bookingRepository
         .save(any()))
         .thenReturn(BOOKING);
-    when(bookingLimitRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(bookingLimitRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
     var createdBooking = service.createBooking(BOOKING_DTO);
     assertEquals(BOOKING_DTO, createdBooking);
   }
 
+  @Test
+  void testCreateBookingExceedsBookingLimit() {
+    when(interviewerTimeSlotRepository.findById(INTERVIEWER_SLOT.getId()))
+        .thenReturn(Optional.of(INTERVIEWER_SLOT));
+    when(bookingLimitRepository
+        .findLockedByInterviewerIdAndWeekNum(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum()))
+        .thenReturn(Optional.of(new BookingLimit(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum(), 2)));
+    when(bookingRepository
+        .countByInterviewerSlotInterviewerIdAndInterviewerSlotWeekNum(INTERVIEWER_ID,
+            INTERVIEWER_SLOT.getWeekNum()))
+        .thenReturn(2);
+    assertThrows(InvalidInputException.class, () -> service.createBooking(BOOKING_DTO));
+    verify(bookingRepository, never()).findByInterviewerSlot(any());
+    verify(bookingRepository, never()).save(any());
+    assertEquals(1, meterRegistry.counter("bookings.limit.rejections").count());
+    assertEquals(1, meterRegistry.timer("bookings.create", "exception", "InvalidInputException").count());
+  }
+
+  @Test
+  void testCreateBookingOverlapsExistingBooking() {
+    when(interviewerTimeSlotRepository.findById(INTERVIEWER_SLOT.getId()))
+        .thenReturn(Optional.of(INTERVIEWER_SLOT));
+    when(bookingLimitRepository
+        .findLockedByInterviewerIdAndWeekNum(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum()))
+        .thenReturn(Optional.of(new BookingLimit(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum(), 5)));
+    when(bookingRepository.findByInterviewerSlot(INTERVIEWER_SLOT)).thenReturn(List.of(BOOKING));
+    assertThrows(InvalidInputException.class, () -> service.createBooking(BOOKING_DTO));
+    verify(bookingRepository, never()).save(any());
+  }
+
+  @Test
+  void testCreateBookingRetriesAndGivesUpOnConcurrentInsert() {
+    when(interviewerTimeSlotRepository.findById(INTERVIEWER_SLOT.getId()))
+        .thenReturn(Optional.of(INTERVIEWER_SLOT));
+    when(bookingLimitRepository
+        .findLockedByInterviewerIdAndWeekNum(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum()))
+        .thenReturn(Optional.empty());
+    when(bookingLimitRepository.saveAndFlush(any()))
+        .thenThrow(integrityViolation(BookingLimit.INTERVIEWER_WEEK_CONSTRAINT));
+    var exception = assertThrows(ApplicationErrorException.class, () -> service.createBooking(BOOKING_DTO));
+    assertEquals(ErrorCode.BOOKING_CONFLICT.code, exception.getErrorCode());
+    verify(bookingLimitRepository, times(BookingService.MAX_CREATE_ATTEMPTS)).saveAndFlush(any());
+    verify(bookingRepository, never()).save(any());
+  }
+
+  @Test
+  void testCreateBookingDoesNotRetryOtherIntegrityViolations() {
+    when(interviewerTimeSlotRepository.findById(INTERVIEWER_SLOT.getId()))
+        .thenReturn(Optional.of(INTERVIEWER_SLOT));
+    when(bookingLimitRepository
+        .findLockedByInterviewerIdAndWeekNum(INTERVIEWER_ID, INTERVIEWER_SLOT.getWeekNum()))
+        .thenReturn(Optional.empty());
+    when(bookingLimitRepository.saveAndFlush(any()))
+        .thenThrow(integrityViolation("fk_booking_on_interviewerslot"));
+    assertThrows(DataIntegrityViolationException.class, () -> service.createBooking(BOOKING_DTO));
+    verify(bookingLimitRepository, times(1)).saveAndFlush(any());
+  }
+
+  private static DataIntegrityViolationException integrityViolation(String constraintName) {
+    return new DataIntegrityViolationException("could not execute statement",
+        new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+  }
+
+  @Test
+  void testCreateBookingsValidatesWholeBatchFirst() {
+    BookingDto tooShort = BookingDto.builder()
+        .from(LocalTime.of(10, 0))
+        .to(LocalTime.of(11, 0))
+        .subject("some subject")
+        .description("some desc")
+        .build();
+    assertThrows(InvalidInputException.class, () -> service.createBookings(List.of(BOOKING_DTO, tooShort)));
+    verifyNoInteractions(interviewerTimeSlotRepository, bookingRepository);
+  }
+
   @Test
   void testCreateBookingInterviewerSlotNotFound() {
     when(interviewerTimeSlotRepository.findById(-1L))
@@ -119,7 +217,7 @@ class BookingServiceTest {
         .thenReturn(Optional.of(INTERVIEWER_SLOT));
     when(candidateTimeSlotRepository.findById(-1L))
         .thenThrow(NotFoundException.timeSlot(-1L));
-    when(bookingLimitRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(bookingLimitRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
     assertThrows(NotFoundException.class, () -> service.createBooking(BOOKING_DTO_WITH_WRONG_SLOT));
   }
 
@@ -151,6 +249,9 @@ class BookingServiceTest {
     when(bookingRepository.findById(1L)).thenReturn(Optional.of(BOOKING));
     doNothing().when(bookingRepository).delete(BOOKING);
     assertDoesNotThrow(() -> service.deleteBooking(1L));
+    verify(eventPublisher).publishEvent(new ScheduleChangedEvent(BOOKING.getInterviewerSlot().getWeekNum(),
+        BOOKING.getInterviewerSlot().getInterviewer().getId(), Change.BOOKING_DELETED,
+        BookingMapper.mapToDto(BOOKING)));
   }
 
   @Test
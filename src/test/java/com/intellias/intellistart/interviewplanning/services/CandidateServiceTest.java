@@ -1,11 +1,17 @@
 package com.intellias.intellistart.interviewplanning.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlotDto;
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
 import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
@@ -15,15 +21,20 @@ import com.intellias.intellistart.interviewplanning.validators.SlotValidator;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class CandidateServiceTest {
@@ -55,6 +66,8 @@ class CandidateServiceTest {
   CandidateTimeSlotRepository candidateSlotRepository;
   @Mock
   BookingRepository bookingRepository;
+  @Mock
+  ApplicationEventPublisher eventPublisher;
 
   @Mock
   WeekService weekService;
@@ -65,7 +78,8 @@ class CandidateServiceTest {
   @BeforeEach
   void setService() {
     slotValidator = new SlotValidator(weekService);
-    service = new CandidateService(candidateSlotRepository, bookingRepository, slotValidator);
+    service = new CandidateService(candidateSlotRepository, bookingRepository, slotValidator, weekService,
+        eventPublisher);
   }
 
   @Test
@@ -76,6 +90,38 @@ class CandidateServiceTest {
     assertEquals(candidateSlotDto, slot);
   }
 
+  @Test
+  void testCreateSlots() {
+    LocalDate date = LocalDate.of(2022, 11, 3);
+    when(candidateSlotRepository.findByEmailAndDateIn(CANDIDATE_EMAIL, Set.of(date)))
+        .thenReturn(List.of(candidateSlot));
+    when(candidateSlotRepository.saveAll(any())).thenAnswer(givenArgs -> givenArgs.getArgument(0));
+    when(weekService.getCurrentDateTime()).thenReturn(LocalDateTime.of(2022, 11, 1, 0, 0));
+
+    var slots = service.createSlots(CANDIDATE_EMAIL, List.of(
+        CandidateSlotDto.builder().date(date).from(LocalTime.of(13, 0)).to(LocalTime.of(14, 30)).build(),
+        CandidateSlotDto.builder().date(date).from(LocalTime.of(14, 30)).to(LocalTime.of(16, 0)).build()));
+    assertEquals(2, slots.size());
+  }
+
+  @Test
+  void testCreateSlotsOverlappingEachOther() {
+    LocalDate date = LocalDate.of(2022, 11, 4);
+    when(weekService.getCurrentDateTime()).thenReturn(LocalDateTime.of(2022, 11, 1, 0, 0));
+
+    var slots = List.of(
+        CandidateSlotDto.builder().date(date).from(LocalTime.of(13, 0)).to(LocalTime.of(14, 30)).build(),
+        CandidateSlotDto.builder().date(date).from(LocalTime.of(14, 0)).to(LocalTime.of(16, 0)).build());
+    assertThrows(InvalidInputException.class, () -> service.createSlots(CANDIDATE_EMAIL, slots));
+    verify(candidateSlotRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void testCreateTooManySlots() {
+    var slots = Collections.nCopies(SlotValidator.MAX_BATCH_SIZE + 1, candidateSlotDto);
+    assertThrows(InvalidInputException.class, () -> service.createSlots(CANDIDATE_EMAIL, slots));
+  }
+
   @Test
   void testGetSlotById() {
     when(candidateSlotRepository.getReferenceById(1L)).thenReturn(candidateSlot);
@@ -96,6 +142,39 @@ class CandidateServiceTest {
         service.getAllCandidateSlots(CANDIDATE_EMAIL));
   }
 
+  @Test
+  void testGetCandidateSlotsPages() {
+    CandidateTimeSlot nextSlot = new CandidateTimeSlot(CANDIDATE_EMAIL, "2022-11-03", "14:00", "16:00");
+    nextSlot.setId(2L);
+    when(candidateSlotRepository.findByEmailOrderByDateAscFromAscIdAsc(CANDIDATE_EMAIL, PageRequest.of(0, 2)))
+        .thenReturn(List.of(candidateSlot, nextSlot));
+    CursorPageDto<CandidateSlotDto> firstPage = service.getCandidateSlots(CANDIDATE_EMAIL, null, 1);
+    assertEquals(List.of(candidateSlotDtoWithBookings), firstPage.getItems());
+
+    when(candidateSlotRepository.findByEmailAfter(CANDIDATE_EMAIL, candidateSlot.getDate(), candidateSlot.getFrom(),
+        candidateSlot.getId(), PageRequest.of(0, 2))).thenReturn(List.of(nextSlot));
+    CursorPageDto<CandidateSlotDto> lastPage = service.getCandidateSlots(CANDIDATE_EMAIL,
+        firstPage.getNextCursor(), 1);
+    assertEquals(List.of(nextSlot.getId()), lastPage.getItems().stream().map(CandidateSlotDto::getId)
+        .collect(Collectors.toList()));
+    assertNull(lastPage.getNextCursor());
+  }
+
+  @Test
+  void testGetCandidateSlotsWithMalformedCursor() {
+    assertThrows(InvalidInputException.class, () -> service.getCandidateSlots(CANDIDATE_EMAIL, "MjAyMi0xMS0wMw", 1));
+  }
+
+  @Test
+  void testStreamCandidateSlots() {
+    when(candidateSlotRepository.findByEmailOrderByDateAscFromAscIdAsc(eq(CANDIDATE_EMAIL), any()))
+        .thenReturn(List.of(candidateSlot));
+    List<CandidateSlotDto> consumed = new ArrayList<>();
+    service.streamCandidateSlots(CANDIDATE_EMAIL, consumed::add);
+    assertEquals(List.of(candidateSlotDtoWithBookings), consumed);
+    verify(candidateSlotRepository, never()).findByEmailAfter(any(), any(), any(), any(), any());
+  }
+
   @Test
   void testGetCandidateSlotsWithBookings() {
     var result = service.getCandidateSlotsWithBookings(List.of(candidateSlot));
@@ -2,6 +2,13 @@ package com.intellias.intellistart.interviewplanning.services;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
@@ -9,6 +16,9 @@ import com.intellias.intellistart.interviewplanning.controllers.dto.CandidateSlo
 import com.intellias.intellistart.interviewplanning.controllers.dto.DashboardDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.DayDashboardDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
 import com.intellias.intellistart.interviewplanning.exceptions.ApplicationErrorException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.Booking;
@@ -20,8 +30,13 @@ import com.intellias.intellistart.interviewplanning.repositories.BookingReposito
 import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
 import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import com.intellias.intellistart.interviewplanning.services.ArchiveService.ArchivedSchedule;
 import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import com.intellias.intellistart.interviewplanning.utils.mappers.BookingMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Comparator;
 import java.util.List;
@@ -29,11 +44,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class CoordinatorServiceTest {
@@ -145,67 +166,146 @@ class CoordinatorServiceTest {
   InterviewerTimeSlotRepository interviewerTimeSlotRepository;
   @Mock
   UserRepository userRepository;
+  @Mock
+  ApplicationEventPublisher eventPublisher;
+  @Mock
+  RecurringSlotService recurringSlotService;
+  @Mock
+  ArchiveService archiveService;
 
+  private DashboardCache dashboardCache;
   private CoordinatorService service;
 
   @BeforeEach
   void setService() {
+    dashboardCache = new DashboardCache(100, Duration.ofMinutes(10));
     service = new CoordinatorService(weekService, interviewerTimeSlotRepository,
-        candidateTimeSlotRepository, bookingRepository, userRepository);
+        candidateTimeSlotRepository, bookingRepository, userRepository, eventPublisher, recurringSlotService,
+        dashboardCache, archiveService, new SimpleMeterRegistry());
   }
 
   @Test
   void testGetWeekDashboard() {
-    when(interviewerTimeSlotRepository
-        .findByWeekNumAndDayOfWeek(weekService.getCurrentWeekNum(), DayOfWeek.MONDAY))
+    int weekNum = weekService.getCurrentWeekNum();
+    when(interviewerTimeSlotRepository.findByWeekNum(weekNum))
         .thenReturn(List.of(interviewerSlot));
-    when(candidateTimeSlotRepository
-        .findByDate(weekService
-            .getDateByWeekNumAndDayOfWeek(weekService.getCurrentWeekNum(), DayOfWeek.MONDAY)))
+    when(candidateTimeSlotRepository.findByWeekNum(weekNum))
         .thenReturn(List.of(candidateSlot));
-    when(bookingRepository
-        .findByCandidateSlotDate(
-            weekService
-                .getDateByWeekNumAndDayOfWeek(weekService.getCurrentWeekNum(), DayOfWeek.MONDAY)))
+    when(bookingRepository.findAllOfWeek(weekNum))
         .thenReturn(List.of(booking));
-    when(bookingRepository.findByInterviewerSlot(interviewerSlot)).thenReturn(List.of(booking));
-    when(bookingRepository.findByCandidateSlot(candidateSlot)).thenReturn(List.of(booking));
-    var dashboard = service.getWeekDashboard(weekService.getCurrentWeekNum());
+    var dashboard = service.getWeekDashboard(weekNum);
     assertEquals(weekDashboard, dashboard);
   }
 
+  @Test
+  void testGetWeekDashboardOfArchivedWeek() {
+    int weekNum = weekService.getCurrentWeekNum();
+    LocalDate monday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.MONDAY);
+    LocalDate friday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.FRIDAY);
+    when(archiveService.isArchived(weekNum))
+        .thenReturn(true);
+    when(archiveService.getWeek(weekNum, monday, friday))
+        .thenReturn(new ArchivedSchedule(List.of(interviewerSlot), List.of(candidateSlot), List.of(booking)));
+    var dashboard = service.getWeekDashboard(weekNum);
+    assertEquals(weekDashboard, dashboard);
+  }
+
+  @Test
+  void testGetWeekDashboardDoesNotQueryPerSlot() {
+    int weekNum = weekService.getCurrentWeekNum();
+    when(interviewerTimeSlotRepository.findByWeekNum(weekNum))
+        .thenReturn(List.of(interviewerSlot));
+    when(candidateTimeSlotRepository.findByWeekNum(weekNum))
+        .thenReturn(List.of(candidateSlot));
+    when(bookingRepository.findAllOfWeek(weekNum))
+        .thenReturn(List.of(booking));
+    service.getWeekDashboard(weekNum);
+    verify(interviewerTimeSlotRepository, times(1)).findByWeekNum(weekNum);
+    verify(candidateTimeSlotRepository, times(1)).findByWeekNum(weekNum);
+    verify(bookingRepository, times(1)).findAllOfWeek(weekNum);
+    verifyNoMoreInteractions(interviewerTimeSlotRepository, candidateTimeSlotRepository, bookingRepository);
+  }
+
+  @Test
+  void testWeekDashboardIsCachedUntilScheduleChanges() {
+    int weekNum = weekService.getCurrentWeekNum();
+    when(interviewerTimeSlotRepository.findByWeekNum(weekNum))
+        .thenReturn(List.of(interviewerSlot));
+    when(candidateTimeSlotRepository.findByWeekNum(weekNum))
+        .thenReturn(List.of(candidateSlot));
+    when(bookingRepository.findAllOfWeek(weekNum))
+        .thenReturn(List.of(booking));
+
+    service.getWeekDashboard(weekNum);
+    assertEquals(weekDashboard, service.getWeekDashboard(weekNum));
+    verify(interviewerTimeSlotRepository, times(1)).findByWeekNum(weekNum);
+
+    dashboardCache.onScheduleChanged(new ScheduleChangedEvent(weekNum + 1, null, Change.CANDIDATE_SLOT_ADDED, null));
+    service.getWeekDashboard(weekNum);
+    verify(interviewerTimeSlotRepository, times(1)).findByWeekNum(weekNum);
+
+    dashboardCache.onScheduleChanged(new ScheduleChangedEvent(weekNum, null, Change.CANDIDATE_SLOT_ADDED, null));
+    service.getWeekDashboard(weekNum);
+    verify(interviewerTimeSlotRepository, times(2)).findByWeekNum(weekNum);
+  }
+
+  @Test
+  void testEvictionDoesNotWaitForDashboardBuild() throws Exception {
+    int weekNum = weekService.getCurrentWeekNum();
+    CountDownLatch buildStarted = new CountDownLatch(1);
+    CountDownLatch buildReleased = new CountDownLatch(1);
+    ExecutorService reader = Executors.newSingleThreadExecutor();
+    try {
+      Future<DashboardDto> slowBuild = reader.submit(() -> dashboardCache.getWeekDashboard(weekNum, () -> {
+        buildStarted.countDown();
+        try {
+          buildReleased.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return weekDashboard;
+      }));
+      assertTrue(buildStarted.await(5, TimeUnit.SECONDS));
+
+      assertTimeoutPreemptively(Duration.ofSeconds(5), () -> dashboardCache.onScheduleChanged(
+          new ScheduleChangedEvent(weekNum, null, Change.CANDIDATE_SLOT_ADDED, null)));
+      buildReleased.countDown();
+      assertEquals(weekDashboard, slowBuild.get(5, TimeUnit.SECONDS));
+
+      DashboardDto rebuilt = new DashboardDto(Set.of());
+      assertEquals(rebuilt, dashboardCache.getWeekDashboard(weekNum, () -> rebuilt));
+    } finally {
+      buildReleased.countDown();
+      reader.shutdownNow();
+    }
+  }
+
   @Test
   void testGetDayDashboard() {
+    int weekNum = weekService.getCurrentWeekNum();
+    LocalDate monday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.MONDAY);
     when(interviewerTimeSlotRepository
-        .findByWeekNumAndDayOfWeek(weekService.getCurrentWeekNum(), DayOfWeek.MONDAY))
+        .findByWeekNumAndDayOfWeek(weekNum, DayOfWeek.MONDAY))
         .thenReturn(List.of(interviewerSlot));
-    when(candidateTimeSlotRepository
-        .findByDate(weekService.getDateByWeekNumAndDayOfWeek(weekService.getCurrentWeekNum(),
-            DayOfWeek.MONDAY)))
+    when(candidateTimeSlotRepository.findByDate(monday))
         .thenReturn(List.of(candidateSlot));
-    when(bookingRepository
-        .findByCandidateSlotDate(weekService
-            .getDateByWeekNumAndDayOfWeek(weekService.getCurrentWeekNum(), DayOfWeek.MONDAY)))
+    when(bookingRepository.findAllOfDate(monday))
         .thenReturn(List.of(booking));
-    when(bookingRepository.findByInterviewerSlot(interviewerSlot)).thenReturn(List.of(booking));
-    when(bookingRepository.findByCandidateSlot(candidateSlot)).thenReturn(List.of(booking));
-    var dashboard =
-        service.getDayDashboard(weekService.getCurrentWeekNum(), DayOfWeek.MONDAY);
+    var dashboard = service.getDayDashboard(weekNum, DayOfWeek.MONDAY);
     assertEquals(mon, dashboard);
   }
 
   @Test
   void testInterviewerSlotsWithBookings() {
-    when(bookingRepository.findByInterviewerSlot(interviewerSlot)).thenReturn(List.of(booking));
-    var result = service
-        .getInterviewerSlotsWithBookings(List.of(interviewerSlot));
+    var result = service.getInterviewerSlotsWithBookings(List.of(interviewerSlot),
+        Map.of(interviewerSlot.getId(), List.of(booking)));
     assertEquals(List.of(interviewerSlotDto), result);
   }
 
   @Test
   void testGetCandidateSlotsWithBookings() {
-    when(bookingRepository.findByCandidateSlot(candidateSlot)).thenReturn(List.of(booking));
-    var result = service.getCandidateSlotsWithBookings(List.of(candidateSlot));
+    var result = service.getCandidateSlotsWithBookings(List.of(candidateSlot),
+        Map.of(candidateSlot.getId(), List.of(booking)));
     assertEquals(List.of(candidateSlotDto), result);
   }
 
@@ -215,6 +315,12 @@ class CoordinatorServiceTest {
     assertEquals(Map.of(bookingDto.getId(), bookingDto), result);
   }
 
+  @Test
+  void testMapBookingsToDtoMap() {
+    assertEquals(Map.of(bookingDto.getId(), bookingDto), BookingMapper.mapToDtoMap(List.of(booking)));
+    assertEquals(Map.of(), BookingMapper.mapToDtoMap(List.of()));
+  }
+
   @Test
   void testGrantInterviewerRole() {
     when(userRepository.findByEmail(INTERVIEWER_EMAIL))
@@ -247,7 +353,24 @@ class CoordinatorServiceTest {
         .thenReturn(Optional.of(interviewer));
     when(userRepository.save(interviewer))
         .thenReturn(interviewer);
+    int roleVersion = interviewer.getRoleVersion();
     assertEquals(UserRole.CANDIDATE, service.revokeInterviewerRole(1L).getRole());
+    verify(eventPublisher).publishEvent(new UserRoleChangedEvent(interviewer.getEmail(), UserRole.CANDIDATE,
+        roleVersion + 1));
+  }
+
+  @Test
+  void testRevokeInterviewerRoleWithFutureSlot() {
+    User busyInterviewer = new User("busy@gmail.com", UserRole.INTERVIEWER);
+    busyInterviewer.setId(2L);
+    when(userRepository.findById(2L))
+        .thenReturn(Optional.of(busyInterviewer));
+    when(interviewerTimeSlotRepository.existsStartingAfter(eq(2L),
+        eq(weekService.getCurrentWeekNum()), any(Integer.class), any(LocalTime.class)))
+        .thenReturn(true);
+    assertThrows(ApplicationErrorException.class,
+        () -> service.revokeInterviewerRole(2L));
+    assertEquals(UserRole.INTERVIEWER, busyInterviewer.getRole());
   }
 
   @Test
@@ -0,0 +1,163 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class DashboardEventBroadcasterTest {
+
+  private static final int WEEK_NUM = 202240;
+
+  private final CountDownLatch senderBlocked = new CountDownLatch(1);
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private final SseEmitter emitter = mock(SseEmitter.class);
+  private ExecutorService sender;
+  private ExecutorService closer;
+  private DashboardEventBroadcaster broadcaster;
+
+  @BeforeEach
+  void setBroadcaster() {
+    sender = Executors.newSingleThreadExecutor();
+    sender.execute(() -> {
+      try {
+        senderBlocked.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    closer = Executors.newSingleThreadExecutor();
+    broadcaster = new DashboardEventBroadcaster(2, Duration.ofMillis(100), () -> emitter, sender, closer);
+    broadcaster.bindTo(registry);
+  }
+
+  @AfterEach
+  void shutdown() {
+    senderBlocked.countDown();
+    broadcaster.shutdown();
+  }
+
+  @Test
+  void testSlowSubscriberIsAskedToResync() {
+    broadcaster.subscribe(WEEK_NUM);
+    for (int i = 0; i < 3; i++) {
+      broadcaster.onScheduleChanged(bookingCreated(WEEK_NUM));
+    }
+    assertEquals(1, registry.get("dashboard.events.resyncs").functionCounter().count());
+  }
+
+  @Test
+  void testChangesOfOtherWeeksAreNotQueued() {
+    broadcaster.subscribe(WEEK_NUM);
+    for (int i = 0; i < 3; i++) {
+      broadcaster.onScheduleChanged(bookingCreated(WEEK_NUM + 1));
+    }
+    assertEquals(0, registry.get("dashboard.events.resyncs").functionCounter().count());
+    assertEquals(1, registry.get("dashboard.events.subscribers").gauge().value());
+  }
+
+  @Test
+  void testSubscriberFailingToSendIsDropped() throws Exception {
+    doThrow(new HttpMessageNotWritableException("Could not write")).when(emitter).send(any(SseEventBuilder.class));
+    broadcaster.subscribe(WEEK_NUM);
+    broadcaster.onScheduleChanged(bookingCreated(WEEK_NUM));
+    awaitSender();
+
+    verify(emitter).completeWithError(any(HttpMessageNotWritableException.class));
+    assertEquals(0, registry.get("dashboard.events.subscribers").gauge().value());
+  }
+
+  @Test
+  void testStalledSubscriberIsDroppedWithoutWaitingForTheSend() throws Exception {
+    CountDownLatch sendStarted = new CountDownLatch(1);
+    CountDownLatch sendReleased = new CountDownLatch(1);
+    CountDownLatch completed = new CountDownLatch(1);
+    // holds the emitter's lock while blocked, like a write to a client that stopped reading
+    SseEmitter blockingEmitter = new SseEmitter() {
+      @Override
+      public synchronized void send(SseEventBuilder builder) throws IOException {
+        sendStarted.countDown();
+        try {
+          sendReleased.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        throw new IOException("Write timed out");
+      }
+
+      @Override
+      public synchronized void completeWithError(Throwable ex) {
+        super.completeWithError(ex);
+        completed.countDown();
+      }
+    };
+    ExecutorService stalledSender = Executors.newSingleThreadExecutor();
+    ExecutorService stalledCloser = Executors.newSingleThreadExecutor();
+    DashboardEventBroadcaster stalling = new DashboardEventBroadcaster(2, Duration.ofMillis(100),
+        () -> blockingEmitter, stalledSender, stalledCloser);
+    MeterRegistry stallingRegistry = new SimpleMeterRegistry();
+    stalling.bindTo(stallingRegistry);
+    try {
+      stalling.subscribe(WEEK_NUM);
+      stalling.onScheduleChanged(bookingCreated(WEEK_NUM));
+      assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+      Thread.sleep(200);
+
+      assertTimeoutPreemptively(Duration.ofSeconds(5), stalling::sendHeartbeats);
+      assertEquals(1, stallingRegistry.get("dashboard.events.stalled").functionCounter().count());
+      assertEquals(0, stallingRegistry.get("dashboard.events.subscribers").gauge().value());
+      assertFalse(completed.await(100, TimeUnit.MILLISECONDS));
+
+      sendReleased.countDown();
+      assertTrue(completed.await(5, TimeUnit.SECONDS));
+    } finally {
+      sendReleased.countDown();
+      stalling.shutdown();
+      stalledSender.shutdownNow();
+    }
+  }
+
+  @Test
+  void testChangesDuringShutdownAreNotSent() throws Exception {
+    broadcaster.subscribe(WEEK_NUM);
+    broadcaster.shutdown();
+    broadcaster.onScheduleChanged(bookingCreated(WEEK_NUM));
+    awaitSender();
+
+    verify(emitter).complete();
+  }
+
+  private void awaitSender() throws InterruptedException {
+    senderBlocked.countDown();
+    sender.shutdown();
+    assertTrue(sender.awaitTermination(5, TimeUnit.SECONDS));
+    closer.shutdown();
+    assertTrue(closer.awaitTermination(5, TimeUnit.SECONDS));
+  }
+
+  private static ScheduleChangedEvent bookingCreated(int weekNum) {
+    return new ScheduleChangedEvent(weekNum, 2L, Change.BOOKING_CREATED, new BookingDto());
+  }
+}
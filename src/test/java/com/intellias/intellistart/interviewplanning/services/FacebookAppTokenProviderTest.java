@@ -0,0 +1,120 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.intellias.intellistart.interviewplanning.services.AuthService.FacebookAppAccessToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FacebookAppTokenProviderTest {
+
+  private static final String APP_TOKEN_URI = "https://graph.facebook.com/oauth/access_token";
+  private static final Duration REFRESH_INTERVAL = Duration.ofHours(12);
+  private static final Instant START = Instant.parse("2022-10-03T10:00:00Z");
+
+  @Mock
+  private RestTemplate rest;
+  @Mock
+  private Clock clock;
+
+  private final MockEnvironment env = new MockEnvironment()
+      .withProperty("facebook.uri.get_app_token", APP_TOKEN_URI);
+
+  @BeforeEach
+  void setClock() {
+    when(clock.instant()).thenReturn(START);
+  }
+
+  @Test
+  void testConfiguredTokenIsUsedUntilDue() {
+    env.setProperty("facebook.app-token", "configured");
+    FacebookAppTokenProvider provider = new FacebookAppTokenProvider(env, rest, REFRESH_INTERVAL, clock);
+
+    when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL).minusSeconds(1));
+    provider.refreshIfDue();
+    assertEquals("configured", provider.getAccessToken());
+    verifyNoInteractions(rest);
+
+    when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL));
+    when(rest.getForObject(APP_TOKEN_URI, FacebookAppAccessToken.class))
+        .thenReturn(new FacebookAppAccessToken("renewed", "bearer", null));
+    provider.refreshIfDue();
+    assertEquals("renewed", provider.getAccessToken());
+  }
+
+  @Test
+  void testConfiguredTokenHasNoAgeUntilRenewed() {
+    env.setProperty("facebook.app-token", "configured");
+    FacebookAppTokenProvider provider = new FacebookAppTokenProvider(env, rest, REFRESH_INTERVAL, clock);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    provider.bindTo(registry);
+
+    assertTrue(Double.isNaN(registry.get("facebook.app_token.age").timeGauge().value()));
+    assertFalse(provider.health().getDetails().containsKey("age"));
+
+    when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL));
+    when(rest.getForObject(APP_TOKEN_URI, FacebookAppAccessToken.class))
+        .thenReturn(new FacebookAppAccessToken("renewed", "bearer", null));
+    provider.refreshIfDue();
+    when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL).plusSeconds(90));
+    assertEquals(90, registry.get("facebook.app_token.age").timeGauge().value());
+    assertEquals("PT1M30S", provider.health().getDetails().get("age"));
+  }
+
+  @Test
+  void testTokenIsRenewedHalfwayThroughItsLifetime() {
+    when(rest.getForObject(APP_TOKEN_URI, FacebookAppAccessToken.class))
+        .thenReturn(new FacebookAppAccessToken("short", "bearer", 3600L))
+        .thenReturn(new FacebookAppAccessToken("renewed", "bearer", 3600L));
+    FacebookAppTokenProvider provider = new FacebookAppTokenProvider(env, rest, REFRESH_INTERVAL, clock);
+    provider.refreshIfDue();
+    assertEquals("short", provider.getAccessToken());
+
+    when(clock.instant()).thenReturn(START.plus(Duration.ofMinutes(30)));
+    provider.refreshIfDue();
+    assertEquals("renewed", provider.getAccessToken());
+  }
+
+  @Test
+  void testFailedRenewalKeepsOldTokenAndIsReported() {
+    env.setProperty("facebook.app-token", "configured");
+    FacebookAppTokenProvider provider = new FacebookAppTokenProvider(env, rest, REFRESH_INTERVAL, clock);
+    when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL));
+    when(rest.getForObject(APP_TOKEN_URI, FacebookAppAccessToken.class))
+        .thenThrow(new ResourceAccessException("timeout"));
+
+    provider.refreshIfDue();
+    assertEquals("configured", provider.getAccessToken());
+    assertEquals(Status.UP, provider.health().getStatus());
+    assertEquals("timeout", provider.health().getDetails().get("lastError"));
+  }
+
+  @Test
+  void testMissingTokenIsRequestedByFirstLogin() {
+    when(rest.getForObject(APP_TOKEN_URI, FacebookAppAccessToken.class))
+        .thenReturn(new FacebookAppAccessToken("fetched", "bearer", null));
+    FacebookAppTokenProvider provider = new FacebookAppTokenProvider(env, rest, REFRESH_INTERVAL, clock);
+    assertEquals(Status.DOWN, provider.health().getStatus());
+
+    assertEquals("fetched", provider.getAccessToken());
+    assertEquals("fetched", provider.getAccessToken());
+    verify(rest).getForObject(APP_TOKEN_URI, FacebookAppAccessToken.class);
+  }
+}
@@ -5,10 +5,13 @@ import static com.intellias.intellistart.interviewplanning.test_utils.TestSecuri
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
 import com.intellias.intellistart.interviewplanning.controllers.dto.InterviewerSlotDto;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.Booking;
 import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
@@ -23,12 +26,14 @@ import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class InterviewerServiceTest {
@@ -94,13 +99,18 @@ class InterviewerServiceTest {
   private UserRepository userRepository;
   @Mock
   private BookingRepository bookingRepository;
+  @Mock
+  private RecurringSlotService recurringSlotService;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   private InterviewerService interviewerService;
 
   @BeforeEach
   void setService() {
     interviewerService = new InterviewerService(interviewerTimeSlotRepository, userRepository,
-        bookingRepository, weekService, new SlotValidator(weekService));
+        bookingRepository, weekService, new SlotValidator(weekService), recurringSlotService,
+        eventPublisher);
   }
 
   @Test
@@ -118,6 +128,32 @@ class InterviewerServiceTest {
     assertEquals(interviewerSlotDtoWithoutBooking, createdSlot);
   }
 
+  @Test
+  void testCreateSlots() {
+    when(userRepository.findById(1L)).thenReturn(Optional.of(interviewer));
+    when(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNumIn(1L, Set.of(nextWeekNum)))
+        .thenReturn(List.of(new InterviewerTimeSlot("08:00", "09:30", "Mon", nextWeekNum)));
+    when(interviewerTimeSlotRepository.saveAll(any())).thenAnswer(givenArgs -> givenArgs.getArgument(0));
+    when(weekService.getCurrentDay()).thenReturn(DayOfWeek.MONDAY);
+
+    List<InterviewerSlotDto> createdSlots = interviewerService.createSlots(1L, List.of(
+        new InterviewerSlotDto("09:30", "11:00", "Mon", nextWeekNum),
+        new InterviewerSlotDto("09:30", "11:00", "Tue", nextWeekNum)));
+    assertEquals(2, createdSlots.size());
+  }
+
+  @Test
+  void testCreateSlotsOverlappingExisting() {
+    when(userRepository.findById(1L)).thenReturn(Optional.of(interviewer));
+    when(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNumIn(1L, Set.of(nextWeekNum)))
+        .thenReturn(List.of(new InterviewerTimeSlot("08:00", "10:00", "Mon", nextWeekNum)));
+    when(weekService.getCurrentDay()).thenReturn(DayOfWeek.MONDAY);
+
+    List<InterviewerSlotDto> slots = List.of(new InterviewerSlotDto("09:30", "11:00", "Mon", nextWeekNum));
+    assertThrows(InvalidInputException.class, () -> interviewerService.createSlots(1L, slots));
+    verify(interviewerTimeSlotRepository, never()).saveAll(any());
+  }
+
   @Test
   void testGetSlot() {
     when(interviewerTimeSlotRepository
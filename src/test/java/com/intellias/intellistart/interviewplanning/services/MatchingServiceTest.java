@@ -0,0 +1,117 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.MatchDto;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingServiceTest {
+
+  private final WeekServiceImp weekService = new WeekServiceImp();
+  private final int weekNum = weekService.getNextWeekNum();
+  private final LocalDate tuesday = weekService.getDateByWeekNumAndDayOfWeek(weekNum, DayOfWeek.TUESDAY);
+  private final User interviewer = new User("interviewer@test.com", UserRole.INTERVIEWER);
+  private final User busyInterviewer = new User("busy.interviewer@test.com", UserRole.INTERVIEWER);
+
+  @Mock
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Mock
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Mock
+  private BookingRepository bookingRepository;
+  @Mock
+  private BookingLimitRepository bookingLimitRepository;
+  @Mock
+  private RecurringSlotService recurringSlotService;
+
+  private MatchingService service;
+
+  @BeforeEach
+  void setService() {
+    interviewer.setId(1L);
+    busyInterviewer.setId(2L);
+    service = new MatchingService(weekService, interviewerTimeSlotRepository, candidateTimeSlotRepository,
+        bookingRepository, bookingLimitRepository, recurringSlotService);
+  }
+
+  @Test
+  void testBookedPeriodsAndExhaustedLimitsAreSkipped() {
+    InterviewerTimeSlot slot = interviewerSlot(10L, interviewer, "09:00", "14:00");
+    InterviewerTimeSlot busySlot = interviewerSlot(20L, busyInterviewer, "09:00", "14:00");
+    CandidateTimeSlot candidateSlot = candidateSlot(100L, "09:00", "14:00");
+    CandidateTimeSlot otherCandidateSlot = candidateSlot(200L, "08:00", "12:00");
+    Booking booking = new Booking(LocalTime.of(9, 0), LocalTime.of(10, 30), candidateSlot, busySlot, "subject", "");
+    when(interviewerTimeSlotRepository.findByWeekNum(weekNum)).thenReturn(List.of(slot, busySlot));
+    when(candidateTimeSlotRepository.findByWeekNum(weekNum))
+        .thenReturn(List.of(candidateSlot, otherCandidateSlot));
+    when(bookingRepository.findAllOfWeek(weekNum)).thenReturn(List.of(booking));
+    when(bookingLimitRepository.findEffectiveOfWeek(weekNum))
+        .thenReturn(List.of(new BookingLimit(busyInterviewer.getId(), weekNum, 1)));
+
+    List<MatchDto> matches = service.getWeekMatches(weekNum);
+
+    assertEquals(List.of(
+        match(slot, otherCandidateSlot, "09:00"),
+        match(slot, candidateSlot, "10:30")), matches);
+  }
+
+  @Test
+  void testPairSplitByBookingIsMatchedOnceAtEarliestStart() {
+    InterviewerTimeSlot slot = interviewerSlot(10L, interviewer, "09:00", "16:00");
+    CandidateTimeSlot candidateSlot = candidateSlot(100L, "09:00", "16:00");
+    Booking booking = new Booking(LocalTime.of(12, 0), LocalTime.of(13, 30), candidateSlot, slot, "subject", "");
+    when(interviewerTimeSlotRepository.findByWeekNum(weekNum)).thenReturn(List.of(slot));
+    when(candidateTimeSlotRepository.findByWeekNum(weekNum)).thenReturn(List.of(candidateSlot));
+    when(bookingRepository.findAllOfWeek(weekNum)).thenReturn(List.of(booking));
+
+    assertEquals(List.of(match(slot, candidateSlot, "09:00")), service.getWeekMatches(weekNum));
+  }
+
+  @Test
+  void testDayWithoutCandidatesHasNoMatches() {
+    when(interviewerTimeSlotRepository.findByWeekNumAndDayOfWeek(weekNum, DayOfWeek.TUESDAY))
+        .thenReturn(List.of(interviewerSlot(10L, interviewer, "09:00", "14:00")));
+
+    assertTrue(service.getDayMatches(weekNum, DayOfWeek.TUESDAY).isEmpty());
+  }
+
+  private InterviewerTimeSlot interviewerSlot(Long id, User owner, String from, String to) {
+    InterviewerTimeSlot slot = new InterviewerTimeSlot(from, to, "Tue", weekNum);
+    slot.setId(id);
+    slot.setInterviewer(owner);
+    return slot;
+  }
+
+  private CandidateTimeSlot candidateSlot(Long id, String from, String to) {
+    CandidateTimeSlot slot = new CandidateTimeSlot("candidate" + id + "@test.com", tuesday.toString(), from, to);
+    slot.setId(id);
+    return slot;
+  }
+
+  private MatchDto match(InterviewerTimeSlot slot, CandidateTimeSlot candidateSlot, String from) {
+    LocalTime start = LocalTime.parse(from);
+    return new MatchDto(slot.getId(), slot.getInterviewer().getId(), candidateSlot.getId(), candidateSlot.getEmail(),
+        tuesday, start, start.plus(MatchingService.INTERVIEW_LENGTH));
+  }
+}
@@ -0,0 +1,165 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils.INTERVIEWER_EMAIL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.RecurringSlotDto;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import com.intellias.intellistart.interviewplanning.events.UserRoleChangedEvent;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.RecurringInterviewerSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.RecurringInterviewerSlotRepository;
+import com.intellias.intellistart.interviewplanning.utils.mappers.InterviewerSlotMapper;
+import com.intellias.intellistart.interviewplanning.utils.mappers.RecurringSlotMapper;
+import java.time.DayOfWeek;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringSlotServiceTest {
+
+  private static final long INTERVIEWER_ID = 2L;
+
+  @Spy
+  private WeekServiceImp weekService;
+  @Mock
+  private RecurringInterviewerSlotRepository recurringSlotRepository;
+  @Mock
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Captor
+  private ArgumentCaptor<List<InterviewerTimeSlot>> slotsCaptor;
+
+  private final User interviewer = new User(INTERVIEWER_EMAIL, UserRole.INTERVIEWER);
+  private RecurringSlotService service;
+
+  @BeforeEach
+  void setService() {
+    interviewer.setId(INTERVIEWER_ID);
+    service = new RecurringSlotService(recurringSlotRepository, interviewerTimeSlotRepository, weekService,
+        TransactionOperations.withoutTransaction(), eventPublisher);
+  }
+
+  @Test
+  void testCreateRecurringSlotStartsNextWeek() {
+    doReturn(DayOfWeek.MONDAY).when(weekService).getCurrentDay();
+    when(recurringSlotRepository.save(any())).thenAnswer(givenArgs -> givenArgs.getArgument(0));
+
+    RecurringSlotDto slot = service.createRecurringSlot(interviewer, new RecurringSlotDto("10:00", "13:00", "Tue"));
+    assertEquals(weekService.getNextWeekNum(), slot.getStartWeekNum());
+    verify(recurringSlotRepository).existsPendingOfInterviewer(INTERVIEWER_ID, weekService.getNextWeekNum());
+  }
+
+  @Test
+  void testCreateRecurringSlotOnWeekendSkipsFrozenWeek() {
+    doReturn(DayOfWeek.SATURDAY).when(weekService).getCurrentDay();
+    when(recurringSlotRepository.save(any())).thenAnswer(givenArgs -> givenArgs.getArgument(0));
+
+    RecurringSlotDto slot = service.createRecurringSlot(interviewer, new RecurringSlotDto("10:00", "13:00", "Tue"));
+    assertEquals(weekService.getWeekNumByDate(weekService.getCurrentDate().plusWeeks(2)), slot.getStartWeekNum());
+    verify(recurringSlotRepository, never()).existsPendingOfInterviewer(any(), anyInt());
+  }
+
+  @Test
+  void testCreateOverlappingRecurringSlot() {
+    RecurringInterviewerSlot existing = recurringSlot("11:00", "14:00", "Tue");
+    when(recurringSlotRepository.findByInterviewerIdAndDayOfWeek(INTERVIEWER_ID, DayOfWeek.TUESDAY))
+        .thenReturn(List.of(existing));
+
+    RecurringSlotDto slotDto = new RecurringSlotDto("10:00", "13:00", "Tue");
+    assertThrows(InvalidInputException.class, () -> service.createRecurringSlot(interviewer, slotDto));
+  }
+
+  @Test
+  void testMaterializeWeekSkipsOverlappingSlots() {
+    int nextWeekNum = weekService.getNextWeekNum();
+    RecurringInterviewerSlot tuesday = recurringSlot("10:00", "13:00", "Tue");
+    RecurringInterviewerSlot wednesday = recurringSlot("10:00", "13:00", "Wed");
+    InterviewerTimeSlot existing = new InterviewerTimeSlot("12:00", "14:00", "Wed", nextWeekNum);
+    existing.setInterviewer(interviewer);
+    when(recurringSlotRepository.existsPendingOfInterviewer(INTERVIEWER_ID, nextWeekNum)).thenReturn(true);
+    when(recurringSlotRepository.findPendingLockedOfInterviewer(INTERVIEWER_ID, nextWeekNum))
+        .thenReturn(List.of(tuesday, wednesday));
+    when(interviewerTimeSlotRepository.findByInterviewerIdAndWeekNum(INTERVIEWER_ID, nextWeekNum))
+        .thenReturn(List.of(existing));
+
+    service.materializeWeek(INTERVIEWER_ID, nextWeekNum);
+
+    verify(interviewerTimeSlotRepository).saveAll(slotsCaptor.capture());
+    List<InterviewerTimeSlot> slots = slotsCaptor.getValue();
+    assertEquals(1, slots.size());
+    assertEquals(DayOfWeek.TUESDAY, slots.get(0).getDayOfWeek());
+    assertEquals(nextWeekNum, slots.get(0).getWeekNum());
+    assertEquals(nextWeekNum, tuesday.getLastMaterializedWeekNum());
+    assertEquals(nextWeekNum, wednesday.getLastMaterializedWeekNum());
+    verify(eventPublisher).publishEvent(new ScheduleChangedEvent(nextWeekNum, INTERVIEWER_ID,
+        Change.INTERVIEWER_SLOT_ADDED, InterviewerSlotMapper.mapToDto(slots.get(0))));
+  }
+
+  @Test
+  void testMaterializeWeekWithoutPendingSlots() {
+    int nextWeekNum = weekService.getNextWeekNum();
+    when(recurringSlotRepository.existsPending(nextWeekNum)).thenReturn(false);
+
+    service.materializeWeek(nextWeekNum);
+    verify(recurringSlotRepository, never()).findPendingLocked(nextWeekNum);
+    verifyNoInteractions(interviewerTimeSlotRepository);
+  }
+
+  @Test
+  void testMaterializedWeekIsNotQueriedAgain() {
+    int nextWeekNum = weekService.getNextWeekNum();
+    when(recurringSlotRepository.existsPending(nextWeekNum)).thenReturn(true);
+    when(recurringSlotRepository.findPendingLocked(nextWeekNum)).thenReturn(List.of());
+
+    service.materializeWeek(nextWeekNum);
+    service.materializeWeek(nextWeekNum);
+    verify(recurringSlotRepository).existsPending(nextWeekNum);
+    verify(recurringSlotRepository).findPendingLocked(nextWeekNum);
+  }
+
+  @Test
+  void testPastWeekIsNotMaterialized() {
+    service.materializeWeek(weekService.getWeekNumByDate(weekService.getCurrentDate().minusWeeks(1)));
+    verifyNoInteractions(recurringSlotRepository, interviewerTimeSlotRepository);
+  }
+
+  @Test
+  void testRevokedInterviewerLosesRecurringSlots() {
+    List<RecurringInterviewerSlot> slots = List.of(recurringSlot("10:00", "13:00", "Tue"));
+    when(recurringSlotRepository.findByInterviewerEmail(INTERVIEWER_EMAIL)).thenReturn(slots);
+
+    service.onUserRoleChanged(new UserRoleChangedEvent(INTERVIEWER_EMAIL, UserRole.CANDIDATE, 1));
+    verify(recurringSlotRepository).deleteAll(slots);
+  }
+
+  private RecurringInterviewerSlot recurringSlot(String from, String to, String day) {
+    RecurringInterviewerSlot slot = RecurringSlotMapper.mapToEntity(interviewer, new RecurringSlotDto(from, to, day));
+    slot.setStartWeekNum(weekService.getNextWeekNum());
+    slot.setLastMaterializedWeekNum(weekService.getCurrentWeekNum());
+    return slot;
+  }
+}
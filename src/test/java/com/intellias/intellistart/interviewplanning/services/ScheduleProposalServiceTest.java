@@ -0,0 +1,144 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.models.Booking;
+import com.intellias.intellistart.interviewplanning.models.BookingLimit;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.User;
+import com.intellias.intellistart.interviewplanning.models.User.UserRole;
+import com.intellias.intellistart.interviewplanning.repositories.BookingLimitRepository;
+import com.intellias.intellistart.interviewplanning.repositories.BookingRepository;
+import com.intellias.intellistart.interviewplanning.repositories.CandidateTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.repositories.InterviewerTimeSlotRepository;
+import com.intellias.intellistart.interviewplanning.validators.PeriodValidator;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleProposalServiceTest {
+
+  private final WeekServiceImp weekService = new WeekServiceImp();
+  private final int weekNum = weekService.getNextWeekNum();
+  private final User interviewer = new User("interviewer@test.com", UserRole.INTERVIEWER);
+  private final User limitedInterviewer = new User("limited.interviewer@test.com", UserRole.INTERVIEWER);
+
+  @Mock
+  private InterviewerTimeSlotRepository interviewerTimeSlotRepository;
+  @Mock
+  private CandidateTimeSlotRepository candidateTimeSlotRepository;
+  @Mock
+  private BookingRepository bookingRepository;
+  @Mock
+  private BookingLimitRepository bookingLimitRepository;
+  @Mock
+  private RecurringSlotService recurringSlotService;
+
+  private ScheduleProposalService service;
+
+  @BeforeEach
+  void setService() {
+    interviewer.setId(1L);
+    limitedInterviewer.setId(2L);
+    service = new ScheduleProposalService(weekService, interviewerTimeSlotRepository, candidateTimeSlotRepository,
+        bookingRepository, bookingLimitRepository, recurringSlotService, 2);
+  }
+
+  @AfterEach
+  void shutdown() {
+    service.shutdown();
+  }
+
+  @Test
+  void testCandidatesShareInterviewerSlot() {
+    InterviewerTimeSlot slot = interviewerSlot(10L, interviewer, "Tue", "09:00", "13:00");
+    CandidateTimeSlot first = candidateSlot(100L, DayOfWeek.TUESDAY, "09:00", "13:00");
+    CandidateTimeSlot second = candidateSlot(200L, DayOfWeek.TUESDAY, "08:00", "12:00");
+    CandidateTimeSlot third = candidateSlot(300L, DayOfWeek.TUESDAY, "09:00", "13:00");
+    stubWeek(List.of(slot), List.of(first, second, third), List.of(), List.of());
+
+    List<BookingDto> proposal = service.proposeSchedule(weekNum);
+
+    assertEquals(List.of(draft(slot, second, "09:00"), draft(slot, first, "10:30")), proposal);
+    proposal.forEach(PeriodValidator::validate);
+  }
+
+  @Test
+  void testBookedSlotsAndLimitsAreHonored() {
+    InterviewerTimeSlot slot = interviewerSlot(10L, interviewer, "Tue", "09:00", "12:00");
+    InterviewerTimeSlot mondaySlot = interviewerSlot(20L, limitedInterviewer, "Mon", "09:00", "18:00");
+    InterviewerTimeSlot wednesdaySlot = interviewerSlot(30L, limitedInterviewer, "Wed", "09:00", "18:00");
+    CandidateTimeSlot booked = candidateSlot(100L, DayOfWeek.TUESDAY, "09:00", "12:00");
+    CandidateTimeSlot pending = candidateSlot(200L, DayOfWeek.TUESDAY, "09:00", "12:00");
+    CandidateTimeSlot monday = candidateSlot(300L, DayOfWeek.MONDAY, "10:00", "12:00");
+    CandidateTimeSlot wednesday = candidateSlot(400L, DayOfWeek.WEDNESDAY, "10:00", "12:00");
+    Booking booking = new Booking(LocalTime.of(9, 0), LocalTime.of(10, 30), booked, slot, "subject", "");
+    stubWeek(List.of(slot, mondaySlot, wednesdaySlot), List.of(booked, pending, monday, wednesday),
+        List.of(booking), List.of(new BookingLimit(limitedInterviewer.getId(), weekNum, 1)));
+
+    List<BookingDto> proposal = service.proposeSchedule(weekNum);
+
+    assertEquals(List.of(draft(slot, pending, "10:30"), draft(mondaySlot, monday, "10:00")), proposal);
+  }
+
+  @Test
+  void testLaterDayIsSolvedWithLimitsLeftByEarlierDays() {
+    InterviewerTimeSlot mondaySlot = interviewerSlot(10L, limitedInterviewer, "Mon", "09:00", "12:00");
+    InterviewerTimeSlot wednesdaySlot = interviewerSlot(20L, limitedInterviewer, "Wed", "09:00", "12:00");
+    InterviewerTimeSlot otherWednesdaySlot = interviewerSlot(30L, interviewer, "Wed", "10:00", "18:00");
+    CandidateTimeSlot monday = candidateSlot(100L, DayOfWeek.MONDAY, "09:00", "12:00");
+    CandidateTimeSlot wednesday = candidateSlot(200L, DayOfWeek.WEDNESDAY, "09:00", "12:00");
+    stubWeek(List.of(mondaySlot, wednesdaySlot, otherWednesdaySlot), List.of(monday, wednesday), List.of(),
+        List.of(new BookingLimit(limitedInterviewer.getId(), weekNum, 1)));
+
+    for (int run = 0; run < 10; run++) {
+      assertEquals(List.of(draft(mondaySlot, monday, "09:00"), draft(otherWednesdaySlot, wednesday, "10:00")),
+          service.proposeSchedule(weekNum));
+    }
+  }
+
+  private void stubWeek(List<InterviewerTimeSlot> interviewerSlots, List<CandidateTimeSlot> candidateSlots,
+      List<Booking> bookings, List<BookingLimit> limits) {
+    when(interviewerTimeSlotRepository.findByWeekNum(weekNum)).thenReturn(interviewerSlots);
+    when(candidateTimeSlotRepository.findByWeekNum(weekNum)).thenReturn(candidateSlots);
+    when(bookingRepository.findAllOfWeek(weekNum)).thenReturn(bookings);
+    when(bookingLimitRepository.findEffectiveOfWeek(weekNum)).thenReturn(limits);
+  }
+
+  private InterviewerTimeSlot interviewerSlot(Long id, User owner, String day, String from, String to) {
+    InterviewerTimeSlot slot = new InterviewerTimeSlot(from, to, day, weekNum);
+    slot.setId(id);
+    slot.setInterviewer(owner);
+    return slot;
+  }
+
+  private CandidateTimeSlot candidateSlot(Long id, DayOfWeek day, String from, String to) {
+    LocalDate date = weekService.getDateByWeekNumAndDayOfWeek(weekNum, day);
+    CandidateTimeSlot slot = new CandidateTimeSlot("candidate" + id + "@test.com", date.toString(), from, to);
+    slot.setId(id);
+    return slot;
+  }
+
+  private static BookingDto draft(InterviewerTimeSlot slot, CandidateTimeSlot candidateSlot, String from) {
+    LocalTime start = LocalTime.parse(from);
+    return BookingDto.builder()
+        .from(start)
+        .to(start.plus(MatchingService.INTERVIEW_LENGTH))
+        .subject(ScheduleProposalService.SUBJECT)
+        .description("")
+        .interviewerSlotId(slot.getId())
+        .candidateSlotId(candidateSlot.getId())
+        .build();
+  }
+}
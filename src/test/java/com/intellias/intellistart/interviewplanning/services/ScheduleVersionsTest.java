@@ -0,0 +1,57 @@
+package com.intellias.intellistart.interviewplanning.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.when;
+
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent;
+import com.intellias.intellistart.interviewplanning.events.ScheduleChangedEvent.Change;
+import com.intellias.intellistart.interviewplanning.services.interfaces.WeekService;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleVersionsTest {
+
+  private static final int WEEK_NUM = 202240;
+  private static final Duration PERIOD = Duration.ofMinutes(10);
+  private static final Instant START = Instant.parse("2022-10-03T10:00:00Z");
+
+  @Mock
+  private WeekService weekService;
+  @Mock
+  private Clock clock;
+  private ScheduleVersions scheduleVersions;
+
+  @BeforeEach
+  void setScheduleVersions() {
+    when(clock.millis()).thenReturn(START.toEpochMilli());
+    when(weekService.getCurrentWeekNum()).thenReturn(WEEK_NUM);
+    scheduleVersions = new ScheduleVersions(weekService, PERIOD, clock);
+  }
+
+  @Test
+  void testChangeThroughServicesChangesTag() {
+    String etag = scheduleVersions.getWeekEtag(WEEK_NUM);
+    assertEquals(etag, scheduleVersions.getWeekEtag(WEEK_NUM));
+
+    scheduleVersions.onScheduleChanged(new ScheduleChangedEvent(WEEK_NUM, 2L, Change.BOOKING_DELETED, null));
+    assertNotEquals(etag, scheduleVersions.getWeekEtag(WEEK_NUM));
+  }
+
+  @Test
+  void testChangeOutsideServicesChangesTagWithinPeriod() {
+    String weekEtag = scheduleVersions.getWeekEtag(WEEK_NUM);
+    String interviewerEtag = scheduleVersions.getInterviewerEtag(2L);
+
+    when(clock.millis()).thenReturn(START.plus(PERIOD).toEpochMilli());
+    assertNotEquals(weekEtag, scheduleVersions.getWeekEtag(WEEK_NUM));
+    assertNotEquals(interviewerEtag, scheduleVersions.getInterviewerEtag(2L));
+  }
+}
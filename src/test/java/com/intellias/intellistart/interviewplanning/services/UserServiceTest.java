@@ -6,23 +6,33 @@ import static com.intellias.intellistart.interviewplanning.test_utils.TestSecuri
 import static com.intellias.intellistart.interviewplanning.test_utils.TestSecurityUtils.interviewer;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.intellias.intellistart.interviewplanning.controllers.dto.CursorPageDto;
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
 import com.intellias.intellistart.interviewplanning.exceptions.NotFoundException;
 import com.intellias.intellistart.interviewplanning.models.User;
 import com.intellias.intellistart.interviewplanning.models.User.UserRole;
 import com.intellias.intellistart.interviewplanning.repositories.UserRepository;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import javax.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -171,4 +181,46 @@ class UserServiceTest {
     assertThrows(UsernameNotFoundException.class,
         () -> service.loadUserByUsername(INTERVIEWER_EMAIL));
   }
-}
\ No newline at end of file
+
+  @Test
+  void testGetUsersPages() {
+    List<User> users = List.of(user(5L), user(7L), user(9L));
+    when(userRepository.findByRoleOrderByIdAsc(UserRole.INTERVIEWER, PageRequest.of(0, 3)))
+        .thenReturn(users);
+    CursorPageDto<User> firstPage = service.getUsers(UserRole.INTERVIEWER, null, 2);
+    assertEquals(users.subList(0, 2), firstPage.getItems());
+
+    when(userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(UserRole.INTERVIEWER, 7L, PageRequest.of(0, 3)))
+        .thenReturn(users.subList(2, 3));
+    CursorPageDto<User> lastPage = service.getUsers(UserRole.INTERVIEWER, firstPage.getNextCursor(), 2);
+    assertEquals(users.subList(2, 3), lastPage.getItems());
+    assertNull(lastPage.getNextCursor());
+  }
+
+  @Test
+  void testGetUsersWithInvalidPage() {
+    assertThrows(InvalidInputException.class, () -> service.getUsers(UserRole.INTERVIEWER, null, 0));
+    assertThrows(InvalidInputException.class, () -> service.getUsers(UserRole.INTERVIEWER, "not a cursor", 10));
+  }
+
+  @Test
+  void testStreamUsersReadsPageAfterPage() {
+    List<User> firstPage = LongStream.rangeClosed(1, UserService.STREAM_PAGE_SIZE)
+        .mapToObj(UserServiceTest::user)
+        .collect(Collectors.toList());
+    User last = user(UserService.STREAM_PAGE_SIZE + 1L);
+    when(userRepository.findByRoleOrderByIdAsc(eq(UserRole.COORDINATOR), any()))
+        .thenReturn(firstPage);
+    when(userRepository.findByRoleAndIdGreaterThanOrderByIdAsc(eq(UserRole.COORDINATOR),
+        eq((long) UserService.STREAM_PAGE_SIZE), any()))
+        .thenReturn(List.of(last));
+    List<User> consumed = new ArrayList<>();
+    service.streamUsers(UserRole.COORDINATOR, consumed::add);
+    assertEquals(UserService.STREAM_PAGE_SIZE + 1, consumed.size());
+    assertEquals(last, consumed.get(UserService.STREAM_PAGE_SIZE));
+  }
+
+  private static User user(Long id) {
+    return new User(id + "@test.com", UserRole.INTERVIEWER).setId(id);
+  }
+}
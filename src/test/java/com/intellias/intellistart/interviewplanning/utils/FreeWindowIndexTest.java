@@ -0,0 +1,116 @@
+package com.intellias.intellistart.interviewplanning.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.controllers.dto.BookingDto;
+import com.intellias.intellistart.interviewplanning.models.CandidateTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.models.interfaces.TimeSlot;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FreeWindowIndexTest {
+
+  private static final Duration LENGTH = Duration.ofMinutes(90);
+
+  private static InterviewerTimeSlot interviewerSlot(String from, String to) {
+    return new InterviewerTimeSlot(from, to, "MONDAY", 1);
+  }
+
+  private static CandidateTimeSlot candidateSlot(String from, String to) {
+    return new CandidateTimeSlot("candidate@test.com", "2022-10-03", from, to);
+  }
+
+  private static BookingDto booking(String from, String to) {
+    return BookingDto.builder().from(LocalTime.parse(from)).to(LocalTime.parse(to)).build();
+  }
+
+  private static <T extends TimeSlot, U extends TimeSlot> List<String> match(FreeWindowIndex<T> index,
+      FreeWindowIndex<U> other) {
+    List<String> matches = new ArrayList<>();
+    index.match(other, (slot, otherSlot, from) -> matches.add(slot.getFromAsString() + "/"
+        + otherSlot.getFromAsString() + "@" + Utils.timeAsString(from)));
+    return matches;
+  }
+
+  @Test
+  void testMatchStartsAtEarliestCommonTime() {
+    FreeWindowIndex<InterviewerTimeSlot> interviewers = new FreeWindowIndex<>(
+        List.of(interviewerSlot("09:00", "12:00")), slot -> List.of(), LENGTH);
+    FreeWindowIndex<CandidateTimeSlot> candidates = new FreeWindowIndex<>(
+        List.of(candidateSlot("08:00", "11:00"), candidateSlot("10:30", "13:00")), slot -> List.of(), LENGTH);
+
+    assertEquals(List.of("09:00/08:00@09:00", "09:00/10:30@10:30"), match(interviewers, candidates));
+  }
+
+  @Test
+  void testShortOverlapDoesNotMatch() {
+    FreeWindowIndex<InterviewerTimeSlot> interviewers = new FreeWindowIndex<>(
+        List.of(interviewerSlot("09:00", "12:00")), slot -> List.of(), LENGTH);
+    FreeWindowIndex<CandidateTimeSlot> candidates = new FreeWindowIndex<>(
+        List.of(candidateSlot("11:00", "14:00"), candidateSlot("12:00", "14:00")), slot -> List.of(), LENGTH);
+
+    assertTrue(match(interviewers, candidates).isEmpty());
+  }
+
+  @Test
+  void testBookedPeriodsAreCutOut() {
+    InterviewerTimeSlot slot = interviewerSlot("09:00", "15:00");
+    FreeWindowIndex<InterviewerTimeSlot> interviewers = new FreeWindowIndex<>(List.of(slot),
+        Map.of(slot, List.of(booking("12:00", "13:30"), booking("10:00", "11:30")))::get, LENGTH);
+    FreeWindowIndex<CandidateTimeSlot> candidates = new FreeWindowIndex<>(
+        List.of(candidateSlot("09:00", "15:00")), candidate -> List.of(), LENGTH);
+
+    assertEquals(1, interviewers.size());
+    assertEquals(List.of("09:00/09:00@13:30"), match(interviewers, candidates));
+  }
+
+  @Test
+  void testSweepMatchesPairwiseComparison() {
+    Random random = new Random(42);
+    List<InterviewerTimeSlot> interviewerSlots = new ArrayList<>();
+    List<CandidateTimeSlot> candidateSlots = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      LocalTime from = LocalTime.of(8, 0).plusMinutes(30L * random.nextInt(24));
+      LocalTime to = from.plusMinutes(30L * (1 + random.nextInt(8)));
+      interviewerSlots.add(interviewerSlot(from.toString(), to.toString()));
+      from = LocalTime.of(8, 0).plusMinutes(30L * random.nextInt(24));
+      to = from.plusMinutes(30L * (1 + random.nextInt(8)));
+      candidateSlots.add(candidateSlot(from.toString(), to.toString()));
+    }
+
+    Set<String> expected = new HashSet<>();
+    for (InterviewerTimeSlot interviewerSlot : interviewerSlots) {
+      for (CandidateTimeSlot candidateSlot : candidateSlots) {
+        LocalTime from = max(interviewerSlot.getFrom(), candidateSlot.getFrom());
+        if (!from.plus(LENGTH).isAfter(min(interviewerSlot.getTo(), candidateSlot.getTo()))) {
+          expected.add(System.identityHashCode(interviewerSlot) + "/" + System.identityHashCode(candidateSlot)
+              + "@" + from);
+        }
+      }
+    }
+    Set<String> actual = new HashSet<>();
+    new FreeWindowIndex<>(interviewerSlots, slot -> List.of(), LENGTH).match(
+        new FreeWindowIndex<>(candidateSlots, slot -> List.of(), LENGTH),
+        (interviewerSlot, candidateSlot, from) -> assertTrue(actual.add(System.identityHashCode(interviewerSlot)
+            + "/" + System.identityHashCode(candidateSlot) + "@" + from)));
+
+    assertEquals(expected, actual);
+  }
+
+  private static LocalTime max(LocalTime time, LocalTime other) {
+    return time.isAfter(other) ? time : other;
+  }
+
+  private static LocalTime min(LocalTime time, LocalTime other) {
+    return time.isBefore(other) ? time : other;
+  }
+}
@@ -0,0 +1,79 @@
+package com.intellias.intellistart.interviewplanning.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.time.temporal.WeekFields;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the week table with java.time for every day of a range wider than the table, so both the table and the
+ * fallback at its edges are covered.
+ */
+class WeekCalendarTest {
+
+  private final WeekCalendar calendar = new WeekCalendar(2010, 2030);
+
+  @Test
+  void testWeekNumMatchesJavaTimeForEveryDay() {
+    for (LocalDate date = LocalDate.of(2005, 1, 1); date.getYear() < 2036; date = date.plusDays(1)) {
+      assertEquals(javaTimeWeekNum(date), calendar.getWeekNum(date), date.toString());
+    }
+  }
+
+  @Test
+  void testDateMatchesJavaTimeForEveryWeekAndDay() {
+    for (int year = 2005; year < 2036; year++) {
+      for (int week = 1; week <= 53; week++) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+          int weekNum = year * 100 + week;
+          assertEquals(javaTimeDate(weekNum, day), calendar.getDate(weekNum, day), weekNum + " " + day);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testWeek53() {
+    assertEquals(202053, calendar.getWeekNum(LocalDate.of(2021, 1, 3)));
+    assertEquals(202101, calendar.getWeekNum(LocalDate.of(2021, 1, 4)));
+    assertEquals(202653, calendar.getWeekNum(LocalDate.of(2027, 1, 1)));
+    assertEquals(LocalDate.of(2020, 12, 28), calendar.getDate(202053, DayOfWeek.MONDAY));
+    // 2021 has 52 weeks, so its week 53 is the first week of 2022
+    assertEquals(LocalDate.of(2022, 1, 3), calendar.getDate(202153, DayOfWeek.MONDAY));
+  }
+
+  @Test
+  void testWeekNumAcrossYearBoundaries() {
+    assertEquals(200953, calendar.getWeekNum(LocalDate.of(2010, 1, 1)));
+    assertEquals(201901, calendar.getWeekNum(LocalDate.of(2018, 12, 31)));
+    assertEquals(202152, calendar.getWeekNum(LocalDate.of(2022, 1, 2)));
+    assertEquals(203101, calendar.getWeekNum(LocalDate.of(2030, 12, 30)));
+  }
+
+  @Test
+  void testInvalidWeekIsRejectedAsByJavaTime() {
+    assertThrows(DateTimeException.class, () -> calendar.getDate(202054, DayOfWeek.MONDAY));
+    assertThrows(DateTimeException.class, () -> calendar.getDate(202000, DayOfWeek.MONDAY));
+  }
+
+  @Test
+  void testEmptyRangeIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new WeekCalendar(2030, 2010));
+  }
+
+  private static int javaTimeWeekNum(LocalDate date) {
+    return date.get(IsoFields.WEEK_BASED_YEAR) * 100 + date.get(WeekFields.ISO.weekOfWeekBasedYear());
+  }
+
+  private static LocalDate javaTimeDate(int weekNum, DayOfWeek dayOfWeek) {
+    return LocalDate.of(weekNum / 100, 6, 1)
+        .with(IsoFields.WEEK_BASED_YEAR, weekNum / 100)
+        .with(WeekFields.ISO.weekOfWeekBasedYear(), weekNum % 100)
+        .with(WeekFields.ISO.dayOfWeek(), dayOfWeek.getValue());
+  }
+}
@@ -0,0 +1,101 @@
+package com.intellias.intellistart.interviewplanning.validators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.intellias.intellistart.interviewplanning.exceptions.InvalidInputException;
+import com.intellias.intellistart.interviewplanning.models.InterviewerTimeSlot;
+import com.intellias.intellistart.interviewplanning.validators.SlotOverlapDetector.Conflict;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SlotOverlapDetectorTest {
+
+  private static InterviewerTimeSlot slot(String from, String to) {
+    return new InterviewerTimeSlot(from, to, "MONDAY", 1);
+  }
+
+  @Test
+  void testTouchingSlotsDoNotConflict() {
+    List<InterviewerTimeSlot> existing = List.of(slot("09:00", "10:30"), slot("12:00", "13:30"));
+    List<InterviewerTimeSlot> newSlots = List.of(slot("10:30", "12:00"), slot("13:30", "15:00"));
+
+    assertTrue(SlotOverlapDetector.findConflicts(newSlots, existing).isEmpty());
+  }
+
+  @Test
+  void testReportsAllConflicts() {
+    InterviewerTimeSlot existing = slot("10:00", "13:00");
+    InterviewerTimeSlot first = slot("09:00", "10:30");
+    InterviewerTimeSlot second = slot("12:30", "14:00");
+    InterviewerTimeSlot third = slot("13:30", "15:00");
+
+    List<Conflict> conflicts = SlotOverlapDetector.findConflicts(List.of(first, second, third), List.of(existing));
+
+    assertEquals(List.of(
+        new Conflict(first, existing),
+        new Conflict(second, existing),
+        new Conflict(second, third)), conflicts);
+  }
+
+  @Test
+  void testExistingSlotsAreNotComparedWithEachOther() {
+    List<InterviewerTimeSlot> existing = List.of(slot("10:00", "12:00"), slot("11:00", "13:00"));
+
+    assertTrue(SlotOverlapDetector.findConflicts(List.of(slot("13:00", "14:30")), existing).isEmpty());
+  }
+
+  @Test
+  void testSweepMatchesPairwiseComparison() {
+    Random random = new Random(42);
+    List<InterviewerTimeSlot> newSlots = randomSlots(random, 40);
+    List<InterviewerTimeSlot> existing = randomSlots(random, 40);
+
+    Set<Conflict> expected = new HashSet<>();
+    for (int i = 0; i < newSlots.size(); i++) {
+      for (Conflict conflict : SlotOverlapDetector.findConflicts(newSlots.get(i), existing)) {
+        expected.add(conflict);
+      }
+      for (Conflict conflict : SlotOverlapDetector.findConflicts(newSlots.get(i), newSlots.subList(i + 1,
+          newSlots.size()))) {
+        expected.add(conflict);
+      }
+    }
+
+    Set<Conflict> actual = new HashSet<>();
+    for (Conflict conflict : SlotOverlapDetector.findConflicts(newSlots, existing)) {
+      boolean swapped = newSlots.indexOf(conflict.getConflictingSlot()) >= 0
+          && newSlots.indexOf(conflict.getConflictingSlot()) < newSlots.indexOf(conflict.getSlot());
+      actual.add(swapped ? new Conflict(conflict.getConflictingSlot(), conflict.getSlot()) : conflict);
+    }
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void testBatchValidationListsConflicts() {
+    InvalidInputException exception = assertThrows(InvalidInputException.class,
+        () -> SlotValidator.validateSlotsOverlapping(List.of(slot("09:00", "10:30"), slot("10:00", "11:30")),
+            List.of()));
+
+    assertTrue(exception.getMessage().contains("09:00-10:30 overlaps 10:00-11:30"));
+  }
+
+  private static List<InterviewerTimeSlot> randomSlots(Random random, int count) {
+    List<InterviewerTimeSlot> slots = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int from = 8 * 2 + random.nextInt(20);
+      int to = from + 3 + random.nextInt(4);
+      slots.add(slot(time(from), time(to)));
+    }
+    return slots;
+  }
+
+  private static String time(int halfHours) {
+    return String.format("%02d:%02d", halfHours / 2, halfHours % 2 * 30);
+  }
+}